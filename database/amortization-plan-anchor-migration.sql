@@ -0,0 +1,32 @@
+-- EMI schedule uniqueness and anchored plan due dates
+-- Run before deploying; AmortizationPlanMigration then converts legacy schedules at startup.
+-- (uk_emi_loan_number and the amortization_plans columns are also created by ddl-auto=update,
+-- but the constraint cannot be added while legacy restructures left duplicate numbers)
+
+USE banking_system;
+
+-- Legacy restructures restarted numbering at 1: renumber each loan's rows in due-date order
+UPDATE emi_schedules e
+JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY loan_id ORDER BY due_date, id) AS emi_number
+    FROM emi_schedules
+) numbered ON numbered.id = e.id
+SET e.emi_number = numbered.emi_number
+WHERE e.emi_number <> numbered.emi_number;
+
+ALTER TABLE emi_schedules ADD CONSTRAINT uk_emi_loan_number UNIQUE (loan_id, emi_number);
+
+-- Plans created before anchored due dates; skip this section if amortization_plans does not exist yet
+ALTER TABLE amortization_plans
+    ADD COLUMN due_anchor DATE NULL,
+    ADD COLUMN due_anchor_emi_number INT NULL,
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+UPDATE amortization_plans SET due_anchor = first_due_date, due_anchor_emi_number = first_emi_number;
+
+ALTER TABLE amortization_plans
+    MODIFY due_anchor DATE NOT NULL,
+    MODIFY due_anchor_emi_number INT NOT NULL,
+    DROP COLUMN first_due_date;
+
+SELECT 'EMI numbers unique, plan due dates anchored' AS Status;
@@ -0,0 +1,33 @@
+-- Pooled id generation for high-volume tables
+-- Transaction, AuditLog, EmiSchedule and RewardPoints moved from IDENTITY to a pooled
+-- (pooled-lo, allocationSize = 50) sequence so Hibernate can batch their inserts.
+-- MySQL has no native sequences, so each generator is backed by a one-row table.
+--
+-- Run this BEFORE deploying the new build: if ddl-auto creates these tables itself they
+-- start at 1 and the first inserts collide with existing ids.
+
+USE banking_system;
+
+CREATE TABLE IF NOT EXISTS transaction_seq (next_val BIGINT) ENGINE=InnoDB;
+DELETE FROM transaction_seq;
+INSERT INTO transaction_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM transaction;
+
+CREATE TABLE IF NOT EXISTS audit_logs_seq (next_val BIGINT) ENGINE=InnoDB;
+DELETE FROM audit_logs_seq;
+INSERT INTO audit_logs_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM audit_logs;
+
+CREATE TABLE IF NOT EXISTS emi_schedules_seq (next_val BIGINT) ENGINE=InnoDB;
+DELETE FROM emi_schedules_seq;
+INSERT INTO emi_schedules_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM emi_schedules;
+
+CREATE TABLE IF NOT EXISTS reward_points_seq (next_val BIGINT) ENGINE=InnoDB;
+DELETE FROM reward_points_seq;
+INSERT INTO reward_points_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM reward_points;
+
+-- Ids are now assigned by the application; AUTO_INCREMENT is no longer used for these tables
+ALTER TABLE transaction MODIFY id BIGINT NOT NULL;
+ALTER TABLE audit_logs MODIFY id BIGINT NOT NULL;
+ALTER TABLE emi_schedules MODIFY id BIGINT NOT NULL;
+ALTER TABLE reward_points MODIFY id BIGINT NOT NULL;
+
+SELECT 'Id sequence tables initialised' AS Status;
@@ -0,0 +1,18 @@
+-- Fixed-point money for the ledger
+-- Account.balance and Transaction.amount are now stored as exact BIGINT paise
+-- (see com.bank.model.Money / MoneyConverter) instead of DOUBLE rupees.
+--
+-- Run this BEFORE deploying the new build: ddl-auto=update only adds the new
+-- columns and would leave every existing balance at zero.
+
+USE banking_system;
+
+ALTER TABLE account ADD COLUMN balance_paise BIGINT NOT NULL DEFAULT 0;
+UPDATE account SET balance_paise = ROUND(balance * 100);
+ALTER TABLE account DROP COLUMN balance;
+
+ALTER TABLE transaction ADD COLUMN amount_paise BIGINT NOT NULL DEFAULT 0;
+UPDATE transaction SET amount_paise = ROUND(amount * 100);
+ALTER TABLE transaction DROP COLUMN amount;
+
+SELECT 'Account balances and transaction amounts converted to paise' AS Status;
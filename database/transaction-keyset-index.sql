@@ -0,0 +1,9 @@
+-- Keyset pagination for transaction history
+-- Supports: WHERE account_id = ? AND (date, id) < (?, ?) ORDER BY date DESC, id DESC LIMIT n
+-- (also created by ddl-auto=update from the @Index on Transaction)
+
+USE banking_system;
+
+CREATE INDEX idx_txn_account_date_id ON transaction (account_id, date, id);
+
+SELECT 'Transaction keyset index created' AS Status;
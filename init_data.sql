@@ -11,10 +11,10 @@ INSERT INTO customer (name, email, phone) VALUES
 ('John Doe', 'john@example.com', '9876543210');
 
 -- Initialize test accounts
-INSERT INTO account (account_number, balance, customer_id) VALUES
-('ACC001', 10000.00, 1),
-('ACC002', 25000.00, 1),
-('ACC003', 5000.00, 2);
+INSERT INTO account (account_number, balance_paise, customer_id) VALUES
+('ACC001', 1000000, 1),
+('ACC002', 2500000, 1),
+('ACC003', 500000, 2);
 
 -- Initialize test cards
 INSERT INTO card (card_number, type, cvv, expiry_date, card_limit, account_id) VALUES
@@ -37,8 +37,8 @@ INSERT INTO customer (user_id, full_name, email, phone_number, date_of_birth, ad
 SET @jane_customer_id = LAST_INSERT_ID();
 
 -- Jane's Savings Account
-INSERT INTO account (account_number, customer_id, account_type, balance, status, created_at) VALUES
-('ACC1001234567', @jane_customer_id, 'SAVINGS', 75500.00, 'ACTIVE', DATE_SUB(NOW(), INTERVAL 6 MONTH));
+INSERT INTO account (account_number, customer_id, account_type, balance_paise, status, created_at) VALUES
+('ACC1001234567', @jane_customer_id, 'SAVINGS', 7550000, 'ACTIVE', DATE_SUB(NOW(), INTERVAL 6 MONTH));
 
 SET @jane_account_id = LAST_INSERT_ID();
 
@@ -47,80 +47,80 @@ INSERT INTO card (card_number, card_holder_name, account_id, cvv, expiry_date, c
 ('4532123456789012', 'JANE SMITH', @jane_account_id, '123', DATE_ADD(NOW(), INTERVAL 3 YEAR), 'DEBIT', 0.00, 'ACTIVE', DATE_SUB(NOW(), INTERVAL 5 MONTH));
 
 -- Jane's Transactions (Income, Expenses, Transfers)
-INSERT INTO transaction (account_id, amount, transaction_type, status, description, transaction_date, balance_after) VALUES
+INSERT INTO transaction (account_id, amount_paise, transaction_type, status, description, transaction_date, balance_after) VALUES
 -- Initial deposit
-(@jane_account_id, 50000.00, 'DEPOSIT', 'COMPLETED', 'Initial Deposit', DATE_SUB(NOW(), INTERVAL 6 MONTH), 50000.00),
+(@jane_account_id, 5000000, 'DEPOSIT', 'COMPLETED', 'Initial Deposit', DATE_SUB(NOW(), INTERVAL 6 MONTH), 50000.00),
 
 -- Salary deposits (last 6 months)
-(@jane_account_id, 8500.00, 'DEPOSIT', 'COMPLETED', 'Salary - June', DATE_SUB(NOW(), INTERVAL 5 MONTH), 58500.00),
-(@jane_account_id, 8500.00, 'DEPOSIT', 'COMPLETED', 'Salary - July', DATE_SUB(NOW(), INTERVAL 4 MONTH), 67000.00),
-(@jane_account_id, 8500.00, 'DEPOSIT', 'COMPLETED', 'Salary - August', DATE_SUB(NOW(), INTERVAL 3 MONTH), 75500.00),
-(@jane_account_id, 8500.00, 'DEPOSIT', 'COMPLETED', 'Salary - September', DATE_SUB(NOW(), INTERVAL 2 MONTH), 84000.00),
-(@jane_account_id, 8500.00, 'DEPOSIT', 'COMPLETED', 'Salary - October', DATE_SUB(NOW(), INTERVAL 1 MONTH), 92500.00),
+(@jane_account_id, 850000, 'DEPOSIT', 'COMPLETED', 'Salary - June', DATE_SUB(NOW(), INTERVAL 5 MONTH), 58500.00),
+(@jane_account_id, 850000, 'DEPOSIT', 'COMPLETED', 'Salary - July', DATE_SUB(NOW(), INTERVAL 4 MONTH), 67000.00),
+(@jane_account_id, 850000, 'DEPOSIT', 'COMPLETED', 'Salary - August', DATE_SUB(NOW(), INTERVAL 3 MONTH), 75500.00),
+(@jane_account_id, 850000, 'DEPOSIT', 'COMPLETED', 'Salary - September', DATE_SUB(NOW(), INTERVAL 2 MONTH), 84000.00),
+(@jane_account_id, 850000, 'DEPOSIT', 'COMPLETED', 'Salary - October', DATE_SUB(NOW(), INTERVAL 1 MONTH), 92500.00),
 
 -- Rent payments
-(@jane_account_id, -2500.00, 'WITHDRAWAL', 'COMPLETED', 'Rent Payment', DATE_SUB(NOW(), INTERVAL 150 DAY), 90000.00),
-(@jane_account_id, -2500.00, 'WITHDRAWAL', 'COMPLETED', 'Rent Payment', DATE_SUB(NOW(), INTERVAL 120 DAY), 87500.00),
-(@jane_account_id, -2500.00, 'WITHDRAWAL', 'COMPLETED', 'Rent Payment', DATE_SUB(NOW(), INTERVAL 90 DAY), 85000.00),
-(@jane_account_id, -2500.00, 'WITHDRAWAL', 'COMPLETED', 'Rent Payment', DATE_SUB(NOW(), INTERVAL 60 DAY), 82500.00),
-(@jane_account_id, -2500.00, 'WITHDRAWAL', 'COMPLETED', 'Rent Payment', DATE_SUB(NOW(), INTERVAL 30 DAY), 80000.00),
+(@jane_account_id, -250000, 'WITHDRAWAL', 'COMPLETED', 'Rent Payment', DATE_SUB(NOW(), INTERVAL 150 DAY), 90000.00),
+(@jane_account_id, -250000, 'WITHDRAWAL', 'COMPLETED', 'Rent Payment', DATE_SUB(NOW(), INTERVAL 120 DAY), 87500.00),
+(@jane_account_id, -250000, 'WITHDRAWAL', 'COMPLETED', 'Rent Payment', DATE_SUB(NOW(), INTERVAL 90 DAY), 85000.00),
+(@jane_account_id, -250000, 'WITHDRAWAL', 'COMPLETED', 'Rent Payment', DATE_SUB(NOW(), INTERVAL 60 DAY), 82500.00),
+(@jane_account_id, -250000, 'WITHDRAWAL', 'COMPLETED', 'Rent Payment', DATE_SUB(NOW(), INTERVAL 30 DAY), 80000.00),
 
 -- Utility bills
-(@jane_account_id, -150.00, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 140 DAY), 89850.00),
-(@jane_account_id, -150.00, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 110 DAY), 87350.00),
-(@jane_account_id, -150.00, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 80 DAY), 84850.00),
-(@jane_account_id, -80.00, 'WITHDRAWAL', 'COMPLETED', 'Internet Bill', DATE_SUB(NOW(), INTERVAL 135 DAY), 89770.00),
-(@jane_account_id, -80.00, 'WITHDRAWAL', 'COMPLETED', 'Internet Bill', DATE_SUB(NOW(), INTERVAL 105 DAY), 87270.00),
-(@jane_account_id, -80.00, 'WITHDRAWAL', 'COMPLETED', 'Internet Bill', DATE_SUB(NOW(), INTERVAL 75 DAY), 84770.00),
+(@jane_account_id, -15000, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 140 DAY), 89850.00),
+(@jane_account_id, -15000, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 110 DAY), 87350.00),
+(@jane_account_id, -15000, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 80 DAY), 84850.00),
+(@jane_account_id, -8000, 'WITHDRAWAL', 'COMPLETED', 'Internet Bill', DATE_SUB(NOW(), INTERVAL 135 DAY), 89770.00),
+(@jane_account_id, -8000, 'WITHDRAWAL', 'COMPLETED', 'Internet Bill', DATE_SUB(NOW(), INTERVAL 105 DAY), 87270.00),
+(@jane_account_id, -8000, 'WITHDRAWAL', 'COMPLETED', 'Internet Bill', DATE_SUB(NOW(), INTERVAL 75 DAY), 84770.00),
 
 -- Groceries
-(@jane_account_id, -350.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Walmart', DATE_SUB(NOW(), INTERVAL 145 DAY), 89420.00),
-(@jane_account_id, -420.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Whole Foods', DATE_SUB(NOW(), INTERVAL 130 DAY), 89000.00),
-(@jane_account_id, -380.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Costco', DATE_SUB(NOW(), INTERVAL 115 DAY), 86620.00),
-(@jane_account_id, -340.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Trader Joes', DATE_SUB(NOW(), INTERVAL 100 DAY), 86280.00),
-(@jane_account_id, -390.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Walmart', DATE_SUB(NOW(), INTERVAL 85 DAY), 83890.00),
-(@jane_account_id, -410.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Whole Foods', DATE_SUB(NOW(), INTERVAL 70 DAY), 83480.00),
-(@jane_account_id, -370.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Costco', DATE_SUB(NOW(), INTERVAL 55 DAY), 81110.00),
-(@jane_account_id, -360.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Walmart', DATE_SUB(NOW(), INTERVAL 40 DAY), 80750.00),
-(@jane_account_id, -400.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Whole Foods', DATE_SUB(NOW(), INTERVAL 25 DAY), 78350.00),
-(@jane_account_id, -350.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Target', DATE_SUB(NOW(), INTERVAL 10 DAY), 76000.00),
+(@jane_account_id, -35000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Walmart', DATE_SUB(NOW(), INTERVAL 145 DAY), 89420.00),
+(@jane_account_id, -42000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Whole Foods', DATE_SUB(NOW(), INTERVAL 130 DAY), 89000.00),
+(@jane_account_id, -38000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Costco', DATE_SUB(NOW(), INTERVAL 115 DAY), 86620.00),
+(@jane_account_id, -34000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Trader Joes', DATE_SUB(NOW(), INTERVAL 100 DAY), 86280.00),
+(@jane_account_id, -39000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Walmart', DATE_SUB(NOW(), INTERVAL 85 DAY), 83890.00),
+(@jane_account_id, -41000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Whole Foods', DATE_SUB(NOW(), INTERVAL 70 DAY), 83480.00),
+(@jane_account_id, -37000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Costco', DATE_SUB(NOW(), INTERVAL 55 DAY), 81110.00),
+(@jane_account_id, -36000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Walmart', DATE_SUB(NOW(), INTERVAL 40 DAY), 80750.00),
+(@jane_account_id, -40000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Whole Foods', DATE_SUB(NOW(), INTERVAL 25 DAY), 78350.00),
+(@jane_account_id, -35000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Target', DATE_SUB(NOW(), INTERVAL 10 DAY), 76000.00),
 
 -- Dining & Entertainment
-(@jane_account_id, -85.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Olive Garden', DATE_SUB(NOW(), INTERVAL 142 DAY), 89335.00),
-(@jane_account_id, -120.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Cheesecake Factory', DATE_SUB(NOW(), INTERVAL 127 DAY), 88880.00),
-(@jane_account_id, -95.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Chipotle', DATE_SUB(NOW(), INTERVAL 112 DAY), 86525.00),
-(@jane_account_id, -200.00, 'WITHDRAWAL', 'COMPLETED', 'Movie Tickets & Dinner', DATE_SUB(NOW(), INTERVAL 97 DAY), 86080.00),
-(@jane_account_id, -75.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Starbucks', DATE_SUB(NOW(), INTERVAL 82 DAY), 83815.00),
-(@jane_account_id, -150.00, 'WITHDRAWAL', 'COMPLETED', 'Concert Tickets', DATE_SUB(NOW(), INTERVAL 67 DAY), 83330.00),
-(@jane_account_id, -110.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Red Lobster', DATE_SUB(NOW(), INTERVAL 52 DAY), 81000.00),
-(@jane_account_id, -90.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Panera Bread', DATE_SUB(NOW(), INTERVAL 37 DAY), 80660.00),
-(@jane_account_id, -180.00, 'WITHDRAWAL', 'COMPLETED', 'Theater Show', DATE_SUB(NOW(), INTERVAL 22 DAY), 78170.00),
-(@jane_account_id, -125.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Outback Steakhouse', DATE_SUB(NOW(), INTERVAL 7 DAY), 75875.00),
+(@jane_account_id, -8500, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Olive Garden', DATE_SUB(NOW(), INTERVAL 142 DAY), 89335.00),
+(@jane_account_id, -12000, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Cheesecake Factory', DATE_SUB(NOW(), INTERVAL 127 DAY), 88880.00),
+(@jane_account_id, -9500, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Chipotle', DATE_SUB(NOW(), INTERVAL 112 DAY), 86525.00),
+(@jane_account_id, -20000, 'WITHDRAWAL', 'COMPLETED', 'Movie Tickets & Dinner', DATE_SUB(NOW(), INTERVAL 97 DAY), 86080.00),
+(@jane_account_id, -7500, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Starbucks', DATE_SUB(NOW(), INTERVAL 82 DAY), 83815.00),
+(@jane_account_id, -15000, 'WITHDRAWAL', 'COMPLETED', 'Concert Tickets', DATE_SUB(NOW(), INTERVAL 67 DAY), 83330.00),
+(@jane_account_id, -11000, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Red Lobster', DATE_SUB(NOW(), INTERVAL 52 DAY), 81000.00),
+(@jane_account_id, -9000, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Panera Bread', DATE_SUB(NOW(), INTERVAL 37 DAY), 80660.00),
+(@jane_account_id, -18000, 'WITHDRAWAL', 'COMPLETED', 'Theater Show', DATE_SUB(NOW(), INTERVAL 22 DAY), 78170.00),
+(@jane_account_id, -12500, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Outback Steakhouse', DATE_SUB(NOW(), INTERVAL 7 DAY), 75875.00),
 
 -- Shopping
-(@jane_account_id, -250.00, 'WITHDRAWAL', 'COMPLETED', 'Clothing - Macys', DATE_SUB(NOW(), INTERVAL 125 DAY), 88630.00),
-(@jane_account_id, -180.00, 'WITHDRAWAL', 'COMPLETED', 'Electronics - Best Buy', DATE_SUB(NOW(), INTERVAL 95 DAY), 85900.00),
-(@jane_account_id, -320.00, 'WITHDRAWAL', 'COMPLETED', 'Clothing - Nordstrom', DATE_SUB(NOW(), INTERVAL 65 DAY), 83010.00),
-(@jane_account_id, -150.00, 'WITHDRAWAL', 'COMPLETED', 'Books - Amazon', DATE_SUB(NOW(), INTERVAL 35 DAY), 80510.00),
-(@jane_account_id, -275.00, 'WITHDRAWAL', 'COMPLETED', 'Home Decor - IKEA', DATE_SUB(NOW(), INTERVAL 15 DAY), 75600.00),
+(@jane_account_id, -25000, 'WITHDRAWAL', 'COMPLETED', 'Clothing - Macys', DATE_SUB(NOW(), INTERVAL 125 DAY), 88630.00),
+(@jane_account_id, -18000, 'WITHDRAWAL', 'COMPLETED', 'Electronics - Best Buy', DATE_SUB(NOW(), INTERVAL 95 DAY), 85900.00),
+(@jane_account_id, -32000, 'WITHDRAWAL', 'COMPLETED', 'Clothing - Nordstrom', DATE_SUB(NOW(), INTERVAL 65 DAY), 83010.00),
+(@jane_account_id, -15000, 'WITHDRAWAL', 'COMPLETED', 'Books - Amazon', DATE_SUB(NOW(), INTERVAL 35 DAY), 80510.00),
+(@jane_account_id, -27500, 'WITHDRAWAL', 'COMPLETED', 'Home Decor - IKEA', DATE_SUB(NOW(), INTERVAL 15 DAY), 75600.00),
 
 -- Healthcare
-(@jane_account_id, -120.00, 'WITHDRAWAL', 'COMPLETED', 'Pharmacy - CVS', DATE_SUB(NOW(), INTERVAL 118 DAY), 86405.00),
-(@jane_account_id, -200.00, 'WITHDRAWAL', 'COMPLETED', 'Doctor Visit Copay', DATE_SUB(NOW(), INTERVAL 88 DAY), 83615.00),
-(@jane_account_id, -95.00, 'WITHDRAWAL', 'COMPLETED', 'Pharmacy - Walgreens', DATE_SUB(NOW(), INTERVAL 58 DAY), 80915.00),
-(@jane_account_id, -150.00, 'WITHDRAWAL', 'COMPLETED', 'Dental Checkup', DATE_SUB(NOW(), INTERVAL 28 DAY), 78200.00),
+(@jane_account_id, -12000, 'WITHDRAWAL', 'COMPLETED', 'Pharmacy - CVS', DATE_SUB(NOW(), INTERVAL 118 DAY), 86405.00),
+(@jane_account_id, -20000, 'WITHDRAWAL', 'COMPLETED', 'Doctor Visit Copay', DATE_SUB(NOW(), INTERVAL 88 DAY), 83615.00),
+(@jane_account_id, -9500, 'WITHDRAWAL', 'COMPLETED', 'Pharmacy - Walgreens', DATE_SUB(NOW(), INTERVAL 58 DAY), 80915.00),
+(@jane_account_id, -15000, 'WITHDRAWAL', 'COMPLETED', 'Dental Checkup', DATE_SUB(NOW(), INTERVAL 28 DAY), 78200.00),
 
 -- Transportation
-(@jane_account_id, -60.00, 'WITHDRAWAL', 'COMPLETED', 'Gas - Shell', DATE_SUB(NOW(), INTERVAL 138 DAY), 89710.00),
-(@jane_account_id, -55.00, 'WITHDRAWAL', 'COMPLETED', 'Gas - Chevron', DATE_SUB(NOW(), INTERVAL 122 DAY), 88575.00),
-(@jane_account_id, -65.00, 'WITHDRAWAL', 'COMPLETED', 'Gas - BP', DATE_SUB(NOW(), INTERVAL 108 DAY), 86460.00),
-(@jane_account_id, -50.00, 'WITHDRAWAL', 'COMPLETED', 'Uber Rides', DATE_SUB(NOW(), INTERVAL 92 DAY), 85850.00),
-(@jane_account_id, -58.00, 'WITHDRAWAL', 'COMPLETED', 'Gas - Shell', DATE_SUB(NOW(), INTERVAL 78 DAY), 83757.00),
-(@jane_account_id, -45.00, 'WITHDRAWAL', 'COMPLETED', 'Uber Rides', DATE_SUB(NOW(), INTERVAL 62 DAY), 82965.00),
-(@jane_account_id, -62.00, 'WITHDRAWAL', 'COMPLETED', 'Gas - Chevron', DATE_SUB(NOW(), INTERVAL 48 DAY), 80938.00),
-(@jane_account_id, -55.00, 'WITHDRAWAL', 'COMPLETED', 'Gas - BP', DATE_SUB(NOW(), INTERVAL 32 DAY), 80455.00),
-(@jane_account_id, -40.00, 'WITHDRAWAL', 'COMPLETED', 'Parking Fee', DATE_SUB(NOW(), INTERVAL 18 DAY), 75560.00),
-(@jane_account_id, -60.00, 'WITHDRAWAL', 'COMPLETED', 'Gas - Shell', DATE_SUB(NOW(), INTERVAL 5 DAY), 75500.00);
+(@jane_account_id, -6000, 'WITHDRAWAL', 'COMPLETED', 'Gas - Shell', DATE_SUB(NOW(), INTERVAL 138 DAY), 89710.00),
+(@jane_account_id, -5500, 'WITHDRAWAL', 'COMPLETED', 'Gas - Chevron', DATE_SUB(NOW(), INTERVAL 122 DAY), 88575.00),
+(@jane_account_id, -6500, 'WITHDRAWAL', 'COMPLETED', 'Gas - BP', DATE_SUB(NOW(), INTERVAL 108 DAY), 86460.00),
+(@jane_account_id, -5000, 'WITHDRAWAL', 'COMPLETED', 'Uber Rides', DATE_SUB(NOW(), INTERVAL 92 DAY), 85850.00),
+(@jane_account_id, -5800, 'WITHDRAWAL', 'COMPLETED', 'Gas - Shell', DATE_SUB(NOW(), INTERVAL 78 DAY), 83757.00),
+(@jane_account_id, -4500, 'WITHDRAWAL', 'COMPLETED', 'Uber Rides', DATE_SUB(NOW(), INTERVAL 62 DAY), 82965.00),
+(@jane_account_id, -6200, 'WITHDRAWAL', 'COMPLETED', 'Gas - Chevron', DATE_SUB(NOW(), INTERVAL 48 DAY), 80938.00),
+(@jane_account_id, -5500, 'WITHDRAWAL', 'COMPLETED', 'Gas - BP', DATE_SUB(NOW(), INTERVAL 32 DAY), 80455.00),
+(@jane_account_id, -4000, 'WITHDRAWAL', 'COMPLETED', 'Parking Fee', DATE_SUB(NOW(), INTERVAL 18 DAY), 75560.00),
+(@jane_account_id, -6000, 'WITHDRAWAL', 'COMPLETED', 'Gas - Shell', DATE_SUB(NOW(), INTERVAL 5 DAY), 75500.00);
 
 -- ============================================
 -- CUSTOMER 3: Mike Johnson (Multiple Accounts & Comprehensive Data)
@@ -138,14 +138,14 @@ INSERT INTO customer (user_id, full_name, email, phone_number, date_of_birth, ad
 SET @mike_customer_id = LAST_INSERT_ID();
 
 -- Mike's Savings Account (Primary)
-INSERT INTO account (account_number, customer_id, account_type, balance, status, created_at) VALUES
-('ACC2001234567', @mike_customer_id, 'SAVINGS', 125750.00, 'ACTIVE', DATE_SUB(NOW(), INTERVAL 2 YEAR));
+INSERT INTO account (account_number, customer_id, account_type, balance_paise, status, created_at) VALUES
+('ACC2001234567', @mike_customer_id, 'SAVINGS', 12575000, 'ACTIVE', DATE_SUB(NOW(), INTERVAL 2 YEAR));
 
 SET @mike_savings_id = LAST_INSERT_ID();
 
 -- Mike's Checking Account
-INSERT INTO account (account_number, customer_id, account_type, balance, status, created_at) VALUES
-('ACC2001234568', @mike_customer_id, 'CHECKING', 8500.00, 'ACTIVE', DATE_SUB(NOW(), INTERVAL 2 YEAR));
+INSERT INTO account (account_number, customer_id, account_type, balance_paise, status, created_at) VALUES
+('ACC2001234568', @mike_customer_id, 'CHECKING', 850000, 'ACTIVE', DATE_SUB(NOW(), INTERVAL 2 YEAR));
 
 SET @mike_checking_id = LAST_INSERT_ID();
 
@@ -160,111 +160,111 @@ INSERT INTO card (card_number, card_holder_name, account_id, cvv, expiry_date, c
 ('5412345678901234', 'MIKE JOHNSON', @mike_checking_id, '789', DATE_ADD(NOW(), INTERVAL 4 YEAR), 'CREDIT', 50000.00, 12500.00, 'ACTIVE', DATE_SUB(NOW(), INTERVAL 18 MONTH));
 
 -- Mike's Savings Account Transactions
-INSERT INTO transaction (account_id, amount, transaction_type, status, description, transaction_date, balance_after) VALUES
+INSERT INTO transaction (account_id, amount_paise, transaction_type, status, description, transaction_date, balance_after) VALUES
 -- Initial deposit
-(@mike_savings_id, 100000.00, 'DEPOSIT', 'COMPLETED', 'Initial Deposit', DATE_SUB(NOW(), INTERVAL 2 YEAR), 100000.00),
+(@mike_savings_id, 10000000, 'DEPOSIT', 'COMPLETED', 'Initial Deposit', DATE_SUB(NOW(), INTERVAL 2 YEAR), 100000.00),
 
 -- Regular deposits (last 12 months)
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - November 2024', DATE_SUB(NOW(), INTERVAL 12 MONTH), 112000.00),
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - December 2024', DATE_SUB(NOW(), INTERVAL 11 MONTH), 124000.00),
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - January 2025', DATE_SUB(NOW(), INTERVAL 10 MONTH), 136000.00),
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - February 2025', DATE_SUB(NOW(), INTERVAL 9 MONTH), 148000.00),
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - March 2025', DATE_SUB(NOW(), INTERVAL 8 MONTH), 160000.00),
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - April 2025', DATE_SUB(NOW(), INTERVAL 7 MONTH), 172000.00),
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - May 2025', DATE_SUB(NOW(), INTERVAL 6 MONTH), 184000.00),
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - June 2025', DATE_SUB(NOW(), INTERVAL 5 MONTH), 196000.00),
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - July 2025', DATE_SUB(NOW(), INTERVAL 4 MONTH), 208000.00),
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - August 2025', DATE_SUB(NOW(), INTERVAL 3 MONTH), 220000.00),
-(@mike_savings_id, 12000.00, 'DEPOSIT', 'COMPLETED', 'Salary - September 2025', DATE_SUB(NOW(), INTERVAL 2 MONTH), 232000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - November 2024', DATE_SUB(NOW(), INTERVAL 12 MONTH), 112000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - December 2024', DATE_SUB(NOW(), INTERVAL 11 MONTH), 124000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - January 2025', DATE_SUB(NOW(), INTERVAL 10 MONTH), 136000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - February 2025', DATE_SUB(NOW(), INTERVAL 9 MONTH), 148000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - March 2025', DATE_SUB(NOW(), INTERVAL 8 MONTH), 160000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - April 2025', DATE_SUB(NOW(), INTERVAL 7 MONTH), 172000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - May 2025', DATE_SUB(NOW(), INTERVAL 6 MONTH), 184000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - June 2025', DATE_SUB(NOW(), INTERVAL 5 MONTH), 196000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - July 2025', DATE_SUB(NOW(), INTERVAL 4 MONTH), 208000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - August 2025', DATE_SUB(NOW(), INTERVAL 3 MONTH), 220000.00),
+(@mike_savings_id, 1200000, 'DEPOSIT', 'COMPLETED', 'Salary - September 2025', DATE_SUB(NOW(), INTERVAL 2 MONTH), 232000.00),
 
 -- Investment withdrawals
-(@mike_savings_id, -50000.00, 'WITHDRAWAL', 'COMPLETED', 'Investment - Mutual Funds', DATE_SUB(NOW(), INTERVAL 9 MONTH), 148000.00),
-(@mike_savings_id, -30000.00, 'WITHDRAWAL', 'COMPLETED', 'Fixed Deposit', DATE_SUB(NOW(), INTERVAL 6 MONTH), 166000.00),
-(@mike_savings_id, -20000.00, 'WITHDRAWAL', 'COMPLETED', 'SIP Investment', DATE_SUB(NOW(), INTERVAL 3 MONTH), 200000.00),
+(@mike_savings_id, -5000000, 'WITHDRAWAL', 'COMPLETED', 'Investment - Mutual Funds', DATE_SUB(NOW(), INTERVAL 9 MONTH), 148000.00),
+(@mike_savings_id, -3000000, 'WITHDRAWAL', 'COMPLETED', 'Fixed Deposit', DATE_SUB(NOW(), INTERVAL 6 MONTH), 166000.00),
+(@mike_savings_id, -2000000, 'WITHDRAWAL', 'COMPLETED', 'SIP Investment', DATE_SUB(NOW(), INTERVAL 3 MONTH), 200000.00),
 
 -- Large purchases
-(@mike_savings_id, -15000.00, 'WITHDRAWAL', 'COMPLETED', 'Car Down Payment', DATE_SUB(NOW(), INTERVAL 8 MONTH), 145000.00),
-(@mike_savings_id, -8000.00, 'WITHDRAWAL', 'COMPLETED', 'Home Renovation', DATE_SUB(NOW(), INTERVAL 5 MONTH), 176000.00),
-(@mike_savings_id, -5000.00, 'WITHDRAWAL', 'COMPLETED', 'Vacation Package', DATE_SUB(NOW(), INTERVAL 2 MONTH), 215000.00),
+(@mike_savings_id, -1500000, 'WITHDRAWAL', 'COMPLETED', 'Car Down Payment', DATE_SUB(NOW(), INTERVAL 8 MONTH), 145000.00),
+(@mike_savings_id, -800000, 'WITHDRAWAL', 'COMPLETED', 'Home Renovation', DATE_SUB(NOW(), INTERVAL 5 MONTH), 176000.00),
+(@mike_savings_id, -500000, 'WITHDRAWAL', 'COMPLETED', 'Vacation Package', DATE_SUB(NOW(), INTERVAL 2 MONTH), 215000.00),
 
 -- Transfers to checking
-(@mike_savings_id, -3000.00, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 180 DAY), 145000.00),
-(@mike_savings_id, -3000.00, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 150 DAY), 155000.00),
-(@mike_savings_id, -3000.00, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 120 DAY), 173000.00),
-(@mike_savings_id, -3000.00, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 90 DAY), 197000.00),
-(@mike_savings_id, -3000.00, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 60 DAY), 212000.00),
-(@mike_savings_id, -3000.00, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 30 DAY), 229000.00);
+(@mike_savings_id, -300000, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 180 DAY), 145000.00),
+(@mike_savings_id, -300000, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 150 DAY), 155000.00),
+(@mike_savings_id, -300000, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 120 DAY), 173000.00),
+(@mike_savings_id, -300000, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 90 DAY), 197000.00),
+(@mike_savings_id, -300000, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 60 DAY), 212000.00),
+(@mike_savings_id, -300000, 'TRANSFER', 'COMPLETED', 'Transfer to Checking Account', DATE_SUB(NOW(), INTERVAL 30 DAY), 229000.00);
 
 -- Mike's Checking Account Transactions (Daily expenses)
-INSERT INTO transaction (account_id, amount, transaction_type, status, description, transaction_date, balance_after) VALUES
+INSERT INTO transaction (account_id, amount_paise, transaction_type, status, description, transaction_date, balance_after) VALUES
 -- Regular transfers from savings
-(@mike_checking_id, 3000.00, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 180 DAY), 5500.00),
-(@mike_checking_id, 3000.00, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 150 DAY), 6800.00),
-(@mike_checking_id, 3000.00, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 120 DAY), 8200.00),
-(@mike_checking_id, 3000.00, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 90 DAY), 9100.00),
-(@mike_checking_id, 3000.00, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 60 DAY), 10500.00),
-(@mike_checking_id, 3000.00, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 30 DAY), 11200.00),
+(@mike_checking_id, 300000, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 180 DAY), 5500.00),
+(@mike_checking_id, 300000, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 150 DAY), 6800.00),
+(@mike_checking_id, 300000, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 120 DAY), 8200.00),
+(@mike_checking_id, 300000, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 90 DAY), 9100.00),
+(@mike_checking_id, 300000, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 60 DAY), 10500.00),
+(@mike_checking_id, 300000, 'TRANSFER', 'COMPLETED', 'Transfer from Savings', DATE_SUB(NOW(), INTERVAL 30 DAY), 11200.00),
 
 -- Monthly expenses
-(@mike_checking_id, -3200.00, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 175 DAY), 2300.00),
-(@mike_checking_id, -3200.00, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 145 DAY), 3600.00),
-(@mike_checking_id, -3200.00, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 115 DAY), 5000.00),
-(@mike_checking_id, -3200.00, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 85 DAY), 5900.00),
-(@mike_checking_id, -3200.00, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 55 DAY), 7300.00),
-(@mike_checking_id, -3200.00, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 25 DAY), 8000.00),
+(@mike_checking_id, -320000, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 175 DAY), 2300.00),
+(@mike_checking_id, -320000, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 145 DAY), 3600.00),
+(@mike_checking_id, -320000, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 115 DAY), 5000.00),
+(@mike_checking_id, -320000, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 85 DAY), 5900.00),
+(@mike_checking_id, -320000, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 55 DAY), 7300.00),
+(@mike_checking_id, -320000, 'WITHDRAWAL', 'COMPLETED', 'Mortgage Payment', DATE_SUB(NOW(), INTERVAL 25 DAY), 8000.00),
 
 -- Utilities
-(@mike_checking_id, -250.00, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 170 DAY), 2050.00),
-(@mike_checking_id, -250.00, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 140 DAY), 3350.00),
-(@mike_checking_id, -250.00, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 110 DAY), 4750.00),
-(@mike_checking_id, -250.00, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 80 DAY), 5650.00),
-(@mike_checking_id, -250.00, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 50 DAY), 7050.00),
-(@mike_checking_id, -250.00, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 20 DAY), 7750.00),
-
-(@mike_checking_id, -120.00, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 168 DAY), 1930.00),
-(@mike_checking_id, -120.00, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 138 DAY), 3230.00),
-(@mike_checking_id, -120.00, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 108 DAY), 4630.00),
-(@mike_checking_id, -120.00, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 78 DAY), 5530.00),
-(@mike_checking_id, -120.00, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 48 DAY), 6930.00),
-(@mike_checking_id, -120.00, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 18 DAY), 7630.00),
+(@mike_checking_id, -25000, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 170 DAY), 2050.00),
+(@mike_checking_id, -25000, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 140 DAY), 3350.00),
+(@mike_checking_id, -25000, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 110 DAY), 4750.00),
+(@mike_checking_id, -25000, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 80 DAY), 5650.00),
+(@mike_checking_id, -25000, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 50 DAY), 7050.00),
+(@mike_checking_id, -25000, 'WITHDRAWAL', 'COMPLETED', 'Electricity Bill', DATE_SUB(NOW(), INTERVAL 20 DAY), 7750.00),
+
+(@mike_checking_id, -12000, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 168 DAY), 1930.00),
+(@mike_checking_id, -12000, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 138 DAY), 3230.00),
+(@mike_checking_id, -12000, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 108 DAY), 4630.00),
+(@mike_checking_id, -12000, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 78 DAY), 5530.00),
+(@mike_checking_id, -12000, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 48 DAY), 6930.00),
+(@mike_checking_id, -12000, 'WITHDRAWAL', 'COMPLETED', 'Internet & Cable', DATE_SUB(NOW(), INTERVAL 18 DAY), 7630.00),
 
 -- Groceries & Dining (more frequent)
-(@mike_checking_id, -450.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Whole Foods', DATE_SUB(NOW(), INTERVAL 160 DAY), 1480.00),
-(@mike_checking_id, -480.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Costco', DATE_SUB(NOW(), INTERVAL 130 DAY), 2750.00),
-(@mike_checking_id, -420.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Walmart', DATE_SUB(NOW(), INTERVAL 100 DAY), 4210.00),
-(@mike_checking_id, -500.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Whole Foods', DATE_SUB(NOW(), INTERVAL 70 DAY), 5030.00),
-(@mike_checking_id, -460.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Trader Joes', DATE_SUB(NOW(), INTERVAL 40 DAY), 6470.00),
-(@mike_checking_id, -490.00, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Costco', DATE_SUB(NOW(), INTERVAL 10 DAY), 7140.00),
-
-(@mike_checking_id, -150.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Fine Dining', DATE_SUB(NOW(), INTERVAL 155 DAY), 1330.00),
-(@mike_checking_id, -95.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Lunch', DATE_SUB(NOW(), INTERVAL 125 DAY), 2655.00),
-(@mike_checking_id, -180.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Date Night', DATE_SUB(NOW(), INTERVAL 95 DAY), 4030.00),
-(@mike_checking_id, -120.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Family Dinner', DATE_SUB(NOW(), INTERVAL 65 DAY), 4910.00),
-(@mike_checking_id, -200.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Anniversary Dinner', DATE_SUB(NOW(), INTERVAL 35 DAY), 6270.00),
-(@mike_checking_id, -140.00, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Weekend Brunch', DATE_SUB(NOW(), INTERVAL 5 DAY), 8000.00),
+(@mike_checking_id, -45000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Whole Foods', DATE_SUB(NOW(), INTERVAL 160 DAY), 1480.00),
+(@mike_checking_id, -48000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Costco', DATE_SUB(NOW(), INTERVAL 130 DAY), 2750.00),
+(@mike_checking_id, -42000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Walmart', DATE_SUB(NOW(), INTERVAL 100 DAY), 4210.00),
+(@mike_checking_id, -50000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Whole Foods', DATE_SUB(NOW(), INTERVAL 70 DAY), 5030.00),
+(@mike_checking_id, -46000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Trader Joes', DATE_SUB(NOW(), INTERVAL 40 DAY), 6470.00),
+(@mike_checking_id, -49000, 'WITHDRAWAL', 'COMPLETED', 'Grocery Shopping - Costco', DATE_SUB(NOW(), INTERVAL 10 DAY), 7140.00),
+
+(@mike_checking_id, -15000, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Fine Dining', DATE_SUB(NOW(), INTERVAL 155 DAY), 1330.00),
+(@mike_checking_id, -9500, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Lunch', DATE_SUB(NOW(), INTERVAL 125 DAY), 2655.00),
+(@mike_checking_id, -18000, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Date Night', DATE_SUB(NOW(), INTERVAL 95 DAY), 4030.00),
+(@mike_checking_id, -12000, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Family Dinner', DATE_SUB(NOW(), INTERVAL 65 DAY), 4910.00),
+(@mike_checking_id, -20000, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Anniversary Dinner', DATE_SUB(NOW(), INTERVAL 35 DAY), 6270.00),
+(@mike_checking_id, -14000, 'WITHDRAWAL', 'COMPLETED', 'Restaurant - Weekend Brunch', DATE_SUB(NOW(), INTERVAL 5 DAY), 8000.00),
 
 -- Insurance
-(@mike_checking_id, -350.00, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 165 DAY), 980.00),
-(@mike_checking_id, -350.00, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 135 DAY), 2305.00),
-(@mike_checking_id, -350.00, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 105 DAY), 3860.00),
-(@mike_checking_id, -350.00, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 75 DAY), 4680.00),
-(@mike_checking_id, -350.00, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 45 DAY), 6120.00),
-(@mike_checking_id, -350.00, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 15 DAY), 7290.00),
+(@mike_checking_id, -35000, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 165 DAY), 980.00),
+(@mike_checking_id, -35000, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 135 DAY), 2305.00),
+(@mike_checking_id, -35000, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 105 DAY), 3860.00),
+(@mike_checking_id, -35000, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 75 DAY), 4680.00),
+(@mike_checking_id, -35000, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 45 DAY), 6120.00),
+(@mike_checking_id, -35000, 'WITHDRAWAL', 'COMPLETED', 'Car Insurance Premium', DATE_SUB(NOW(), INTERVAL 15 DAY), 7290.00),
 
 -- Gas & Transportation
-(@mike_checking_id, -80.00, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 158 DAY), 900.00),
-(@mike_checking_id, -85.00, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 128 DAY), 2220.00),
-(@mike_checking_id, -75.00, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 98 DAY), 3785.00),
-(@mike_checking_id, -90.00, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 68 DAY), 4590.00),
-(@mike_checking_id, -82.00, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 38 DAY), 5988.00),
-(@mike_checking_id, -88.00, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 8 DAY), 7912.00),
+(@mike_checking_id, -8000, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 158 DAY), 900.00),
+(@mike_checking_id, -8500, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 128 DAY), 2220.00),
+(@mike_checking_id, -7500, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 98 DAY), 3785.00),
+(@mike_checking_id, -9000, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 68 DAY), 4590.00),
+(@mike_checking_id, -8200, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 38 DAY), 5988.00),
+(@mike_checking_id, -8800, 'WITHDRAWAL', 'COMPLETED', 'Gas Station', DATE_SUB(NOW(), INTERVAL 8 DAY), 7912.00),
 
 -- Credit card payments
-(@mike_checking_id, -2500.00, 'WITHDRAWAL', 'COMPLETED', 'Credit Card Payment', DATE_SUB(NOW(), INTERVAL 150 DAY), 4300.00),
-(@mike_checking_id, -2500.00, 'WITHDRAWAL', 'COMPLETED', 'Credit Card Payment', DATE_SUB(NOW(), INTERVAL 120 DAY), 5700.00),
-(@mike_checking_id, -2500.00, 'WITHDRAWAL', 'COMPLETED', 'Credit Card Payment', DATE_SUB(NOW(), INTERVAL 90 DAY), 6600.00),
-(@mike_checking_id, -2500.00, 'WITHDRAWAL', 'COMPLETED', 'Credit Card Payment', DATE_SUB(NOW(), INTERVAL 60 DAY), 8000.00),
-(@mike_checking_id, -2500.00, 'WITHDRAWAL', 'COMPLETED', 'Credit Card Payment', DATE_SUB(NOW(), INTERVAL 30 DAY), 8700.00);
+(@mike_checking_id, -250000, 'WITHDRAWAL', 'COMPLETED', 'Credit Card Payment', DATE_SUB(NOW(), INTERVAL 150 DAY), 4300.00),
+(@mike_checking_id, -250000, 'WITHDRAWAL', 'COMPLETED', 'Credit Card Payment', DATE_SUB(NOW(), INTERVAL 120 DAY), 5700.00),
+(@mike_checking_id, -250000, 'WITHDRAWAL', 'COMPLETED', 'Credit Card Payment', DATE_SUB(NOW(), INTERVAL 90 DAY), 6600.00),
+(@mike_checking_id, -250000, 'WITHDRAWAL', 'COMPLETED', 'Credit Card Payment', DATE_SUB(NOW(), INTERVAL 60 DAY), 8000.00),
+(@mike_checking_id, -250000, 'WITHDRAWAL', 'COMPLETED', 'Credit Card Payment', DATE_SUB(NOW(), INTERVAL 30 DAY), 8700.00);
 
 -- Mike's Fixed Deposit
 INSERT INTO fixed_deposit (account_id, amount, interest_rate, tenure_months, maturity_date, status, created_at) VALUES
@@ -0,0 +1,60 @@
+package com.bank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spending analytics: whether reports read the daily rollups or aggregate raw transactions, how far
+ * back the nightly job re-derives rollups, and the bounds of the per-customer result cache.
+ */
+@Component
+@ConfigurationProperties(prefix="analytics")
+public class AnalyticsProperties {
+    private boolean rollupEnabled = true;
+    /** Completed days (ending yesterday) rebuilt from transactions by the nightly repair. */
+    private int rollupRepairDays = 3;
+    private boolean cacheEnabled = true;
+    private long cacheMaxSize = 10000L;
+    /** Upper bound on staleness for balance changes that do not post a transaction. */
+    private long cacheTtlSeconds = 300L;
+
+    public boolean isRollupEnabled() {
+        return rollupEnabled;
+    }
+
+    public void setRollupEnabled(boolean rollupEnabled) {
+        this.rollupEnabled = rollupEnabled;
+    }
+
+    public int getRollupRepairDays() {
+        return rollupRepairDays;
+    }
+
+    public void setRollupRepairDays(int rollupRepairDays) {
+        this.rollupRepairDays = rollupRepairDays;
+    }
+
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public long getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    public void setCacheMaxSize(long cacheMaxSize) {
+        this.cacheMaxSize = cacheMaxSize;
+    }
+
+    public long getCacheTtlSeconds() {
+        return cacheTtlSeconds;
+    }
+
+    public void setCacheTtlSeconds(long cacheTtlSeconds) {
+        this.cacheTtlSeconds = cacheTtlSeconds;
+    }
+}
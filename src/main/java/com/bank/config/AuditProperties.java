@@ -0,0 +1,68 @@
+package com.bank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the audit log pipeline: how durable a logged action must be before the caller moves on,
+ * and how the background writer batches inserts.
+ */
+@Component
+@ConfigurationProperties(prefix="audit")
+public class AuditProperties {
+
+    public enum Durability {
+        /** Enqueue and return; events are dropped (and counted) when the buffer is full or the app dies. */
+        FIRE_AND_FORGET,
+        /** Enqueue, then hold the caller's commit until the writer has persisted its events. */
+        FLUSH_BEFORE_COMMIT,
+        /** Insert the caller's events in one batch inside its own transaction, just before it commits. */
+        OUTBOX
+    }
+
+    private Durability durability = Durability.FIRE_AND_FORGET;
+    private int bufferCapacity = 8192;
+    private int batchSize = 200;
+    private long flushIntervalMs = 50L;
+    private long flushTimeoutMs = 2000L;
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public long getFlushTimeoutMs() {
+        return flushTimeoutMs;
+    }
+
+    public void setFlushTimeoutMs(long flushTimeoutMs) {
+        this.flushTimeoutMs = flushTimeoutMs;
+    }
+}
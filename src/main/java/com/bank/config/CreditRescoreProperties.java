@@ -0,0 +1,51 @@
+package com.bank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nightly credit re-score of the whole customer base: chunking, parallelism and abandoned-run takeover.
+ */
+@Component
+@ConfigurationProperties(prefix="credit.rescore")
+public class CreditRescoreProperties {
+    private boolean enabled = true;
+    /** Customers loaded and scored per chunk (one set of profile queries each). */
+    private int chunkSize = 500;
+    /** Chunks in flight at once; each holds a pooled connection while loading. */
+    private int parallelism = 4;
+    /** A RUNNING run with no checkpoint for this long is taken over by the next node to look. */
+    private long staleAfterMs = 300000L;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public long getStaleAfterMs() {
+        return staleAfterMs;
+    }
+
+    public void setStaleAfterMs(long staleAfterMs) {
+        this.staleAfterMs = staleAfterMs;
+    }
+}
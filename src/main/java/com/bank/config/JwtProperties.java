@@ -6,8 +6,18 @@ import org.springframework.stereotype.Component;
 @Component
 @ConfigurationProperties(prefix="jwt")
 public class JwtProperties {
+
+    public enum AuthMode {
+        /** Load the user from the database (through the user cache) on every authenticated request. */
+        DATABASE,
+        /** Trust the verified role claim; fall back to DATABASE for tokens issued before an invalidation. */
+        CLAIMS
+    }
+
     private String secret = "changeitchangeitchangeitchangeitchangeitchangeitchangeit";
     private long expirationMs = 3600000L;
+    private AuthMode authMode = AuthMode.DATABASE;
+    private final UserCache userCache = new UserCache();
 
     public String getSecret() {
         return secret;
@@ -24,4 +34,46 @@ public class JwtProperties {
     public void setExpirationMs(long expirationMs) {
         this.expirationMs = expirationMs;
     }
+
+    public AuthMode getAuthMode() {
+        return authMode;
+    }
+
+    public void setAuthMode(AuthMode authMode) {
+        this.authMode = authMode;
+    }
+
+    public UserCache getUserCache() {
+        return userCache;
+    }
+
+    public static class UserCache {
+        private boolean enabled = true;
+        private int maxSize = 10000;
+        private long ttlSeconds = 300L;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        public void setTtlSeconds(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package com.bank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * End-of-day overdue EMI refresh: loan-id partitioning, parallelism and abandoned-run takeover.
+ */
+@Component
+@ConfigurationProperties(prefix="loans.overdue")
+public class LoanOverdueProperties {
+    private boolean enabled = true;
+    /** Width of a loan-id range refreshed in one transaction. */
+    private int partitionSize = 2000;
+    /** Partitions in flight at once; each holds a pooled connection. */
+    private int parallelism = 4;
+    /** A RUNNING run with no checkpoint for this long is taken over by the next node to look. */
+    private long staleAfterMs = 300000L;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPartitionSize() {
+        return partitionSize;
+    }
+
+    public void setPartitionSize(int partitionSize) {
+        this.partitionSize = partitionSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public long getStaleAfterMs() {
+        return staleAfterMs;
+    }
+
+    public void setStaleAfterMs(long staleAfterMs) {
+        this.staleAfterMs = staleAfterMs;
+    }
+}
@@ -0,0 +1,49 @@
+package com.bank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Failed-login thresholds, evaluated over a sliding window kept in memory.
+ */
+@Component
+@ConfigurationProperties(prefix="login.lockout")
+public class LoginLockoutProperties {
+    private int windowMinutes = 15;
+    private int maxFailuresPerUser = 5;
+    private int maxFailuresPerIp = 50;
+    /** Upper bound on tracked usernames and IPs (each); least recently used keys are evicted first. */
+    private int maxTrackedKeys = 100000;
+
+    public int getWindowMinutes() {
+        return windowMinutes;
+    }
+
+    public void setWindowMinutes(int windowMinutes) {
+        this.windowMinutes = windowMinutes;
+    }
+
+    public int getMaxFailuresPerUser() {
+        return maxFailuresPerUser;
+    }
+
+    public void setMaxFailuresPerUser(int maxFailuresPerUser) {
+        this.maxFailuresPerUser = maxFailuresPerUser;
+    }
+
+    public int getMaxFailuresPerIp() {
+        return maxFailuresPerIp;
+    }
+
+    public void setMaxFailuresPerIp(int maxFailuresPerIp) {
+        this.maxFailuresPerIp = maxFailuresPerIp;
+    }
+
+    public int getMaxTrackedKeys() {
+        return maxTrackedKeys;
+    }
+
+    public void setMaxTrackedKeys(int maxTrackedKeys) {
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+}
@@ -0,0 +1,161 @@
+package com.bank.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbound message dispatch: batch size per channel, retry schedule and per-provider send rates.
+ * {@code notifications.stream.*} tunes the in-app SSE feed.
+ */
+@Component
+@ConfigurationProperties(prefix="notifications")
+public class NotificationProperties {
+    private int batchSize = 50;
+    private long pollIntervalMs = 1000L;
+    private int maxAttempts = 5;
+    private long backoffBaseMs = 2000L;
+    private long backoffMaxMs = 300000L;
+    /** A claim older than this is assumed to belong to a dead worker and is released. */
+    private long claimTimeoutMs = 120000L;
+    /** An OTP still undelivered after this long is past its validity; it is failed and its payload cleared. */
+    private long otpTtlMinutes = 10L;
+    /** SENT and FAILED rows are deleted once they are older than this. */
+    private int retentionDays = 30;
+    private double defaultRatePerSecond = 20.0;
+    /** Messages per second keyed by transport name, e.g. notifications.rate-per-second.log=100 */
+    private Map<String, Double> ratePerSecond = new HashMap<>();
+    /** When set, the log transport also appends every rendered message to this file. */
+    private String outboxFile;
+    private Stream stream = new Stream();
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    public void setPollIntervalMs(long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getBackoffBaseMs() {
+        return backoffBaseMs;
+    }
+
+    public void setBackoffBaseMs(long backoffBaseMs) {
+        this.backoffBaseMs = backoffBaseMs;
+    }
+
+    public long getBackoffMaxMs() {
+        return backoffMaxMs;
+    }
+
+    public void setBackoffMaxMs(long backoffMaxMs) {
+        this.backoffMaxMs = backoffMaxMs;
+    }
+
+    public long getClaimTimeoutMs() {
+        return claimTimeoutMs;
+    }
+
+    public void setClaimTimeoutMs(long claimTimeoutMs) {
+        this.claimTimeoutMs = claimTimeoutMs;
+    }
+
+    public long getOtpTtlMinutes() {
+        return otpTtlMinutes;
+    }
+
+    public void setOtpTtlMinutes(long otpTtlMinutes) {
+        this.otpTtlMinutes = otpTtlMinutes;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    public double getDefaultRatePerSecond() {
+        return defaultRatePerSecond;
+    }
+
+    public void setDefaultRatePerSecond(double defaultRatePerSecond) {
+        this.defaultRatePerSecond = defaultRatePerSecond;
+    }
+
+    public Map<String, Double> getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public void setRatePerSecond(Map<String, Double> ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public String getOutboxFile() {
+        return outboxFile;
+    }
+
+    public void setOutboxFile(String outboxFile) {
+        this.outboxFile = outboxFile;
+    }
+
+    public Stream getStream() {
+        return stream;
+    }
+
+    public void setStream(Stream stream) {
+        this.stream = stream;
+    }
+
+    public static class Stream {
+        /** Events kept per user for clients reconnecting with Last-Event-ID. */
+        private int replaySize = 100;
+        private long replayWindowSeconds = 900L;
+        /** Comment line sent on idle streams so proxies do not close them. */
+        private long heartbeatSeconds = 25L;
+
+        public int getReplaySize() {
+            return replaySize;
+        }
+
+        public void setReplaySize(int replaySize) {
+            this.replaySize = replaySize;
+        }
+
+        public long getReplayWindowSeconds() {
+            return replayWindowSeconds;
+        }
+
+        public void setReplayWindowSeconds(long replayWindowSeconds) {
+            this.replayWindowSeconds = replayWindowSeconds;
+        }
+
+        public long getHeartbeatSeconds() {
+            return heartbeatSeconds;
+        }
+
+        public void setHeartbeatSeconds(long heartbeatSeconds) {
+            this.heartbeatSeconds = heartbeatSeconds;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.bank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-request SQL budget. A request that crosses any limit is logged at WARN with its endpoint pattern.
+ */
+@Component
+@ConfigurationProperties(prefix="sql.monitoring")
+public class SqlMonitoringProperties {
+    private boolean enabled = true;
+    private int maxStatements = 50;
+    private long maxRows = 5000L;
+    private long maxJdbcTimeMs = 500L;
+    /** Executions of the same SQL text within one request at which it is reported as a likely N+1. */
+    private int repeatThreshold = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public long getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(long maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    public long getMaxJdbcTimeMs() {
+        return maxJdbcTimeMs;
+    }
+
+    public void setMaxJdbcTimeMs(long maxJdbcTimeMs) {
+        this.maxJdbcTimeMs = maxJdbcTimeMs;
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    public void setRepeatThreshold(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+}
@@ -0,0 +1,65 @@
+package com.bank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for how balance-moving operations (transfers) coordinate concurrent access to accounts.
+ */
+@Component
+@ConfigurationProperties(prefix="transfer")
+public class TransferProperties {
+
+    public enum LockingMode {
+        /** Read both accounts and rely on the @Version column to detect conflicts. */
+        OPTIMISTIC,
+        /** Striped in-JVM locks plus SELECT ... FOR UPDATE taken in ascending account id order. */
+        PESSIMISTIC
+    }
+
+    private LockingMode lockingMode = LockingMode.OPTIMISTIC;
+    private int lockStripes = 256;
+    private int maxAttempts = 3;
+    private long backoffBaseMs = 10L;
+    private long backoffMaxMs = 200L;
+
+    public LockingMode getLockingMode() {
+        return lockingMode;
+    }
+
+    public void setLockingMode(LockingMode lockingMode) {
+        this.lockingMode = lockingMode;
+    }
+
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getBackoffBaseMs() {
+        return backoffBaseMs;
+    }
+
+    public void setBackoffBaseMs(long backoffBaseMs) {
+        this.backoffBaseMs = backoffBaseMs;
+    }
+
+    public long getBackoffMaxMs() {
+        return backoffMaxMs;
+    }
+
+    public void setBackoffMaxMs(long backoffMaxMs) {
+        this.backoffMaxMs = backoffMaxMs;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.bank.event.AccountsChangedEvent;
 import com.bank.model.Account;
 import com.bank.model.AppUser;
 import com.bank.model.Customer;
@@ -47,6 +49,9 @@ public class AdminAccountController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Create customer with account (complete onboarding by admin)
      */
@@ -135,6 +140,7 @@ public class AdminAccountController {
             account.setBalance(request.getInitialDeposit() != null ? request.getInitialDeposit() : 0.0);
             account.setCustomer(customer);
             account = accountRepository.save(account);
+            eventPublisher.publishEvent(new AccountsChangedEvent(this, customerId));
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -234,6 +240,7 @@ public class AdminAccountController {
 
             String accountNumber = account.getAccountNumber();
             accountRepository.delete(account);
+            publishAccountsChanged(account);
 
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -270,6 +277,7 @@ public class AdminAccountController {
 
             account.setBalance(newBalance);
             accountRepository.save(account);
+            publishAccountsChanged(account);
 
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -287,6 +295,12 @@ public class AdminAccountController {
         }
     }
 
+    private void publishAccountsChanged(Account account) {
+        if (account.getCustomer() != null) {
+            eventPublisher.publishEvent(new AccountsChangedEvent(this, account.getCustomer().getId()));
+        }
+    }
+
     /**
      * Generate unique account number
      */
@@ -0,0 +1,34 @@
+package com.bank.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank.dto.StressTestRequest;
+import com.bank.dto.StressTestResponse;
+import com.bank.service.LoanStressTestService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/admin/loans")
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminLoanController {
+
+    @Autowired
+    private LoanStressTestService loanStressTestService;
+
+    /**
+     * Runs the given rate, tenure and default scenarios against every active loan.
+     */
+    @PostMapping("/stress-test")
+    public ResponseEntity<StressTestResponse> stressTest(@Valid @RequestBody StressTestRequest request) {
+        return ResponseEntity.ok(loanStressTestService.run(request));
+    }
+}
@@ -1,13 +1,12 @@
 package com.bank.controller;
 
 import com.bank.model.AppUser;
-import com.bank.model.AuditLog;
-import com.bank.model.AuditStatus;
 import com.bank.model.DeviceSession;
 import com.bank.repository.AppUserRepository;
-import com.bank.repository.AuditLogRepository;
 import com.bank.repository.DeviceSessionRepository;
 import com.bank.security.JwtUtil;
+import com.bank.security.UserAuthCache;
+import com.bank.service.AuditService;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -17,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -36,7 +36,9 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
     @Autowired
-    private AuditLogRepository auditLogRepository;
+    private AuditService auditService;
+    @Autowired
+    private UserAuthCache userAuthCache;
     @Autowired
     private DeviceSessionRepository deviceSessionRepository;
 
@@ -52,47 +54,33 @@ public class AuthController {
 
     @PostMapping(value={"/login"})
     public ResponseEntity<?> login(@RequestBody AppUser user, HttpServletRequest request) {
+        String ip = getClientIP(request);
+        if (this.auditService.isLoginBlocked(user.getUsername(), ip)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Map.of("error", "Too many failed login attempts. Try again later."));
+        }
         try {
             this.authManager.authenticate((Authentication)new UsernamePasswordAuthenticationToken((Object)user.getUsername(), (Object)user.getPassword()));
             AppUser u = this.repo.findByUsername(user.getUsername()).orElse(null);
-            String token = this.jwtUtil.generateToken(u.getUsername());
+            String token = this.jwtUtil.generateToken(u.getUsername(), u.getRole());
             String role = u.getRole();
             String displayRole = role != null && role.startsWith("ROLE_") ? role.substring(5) : role;
             
             // Log successful login
-            logAudit(u, "LOGIN", request, AuditStatus.SUCCESS, "User logged in successfully");
+            this.auditService.recordSuccessfulLogin(u, ip, request.getHeader("User-Agent"));
             
             // Create device session
             createDeviceSession(u, token, request);
             
             return ResponseEntity.ok(Map.of("token", token, "user", Map.of("id", u.getId(), "username", u.getUsername(), "roles", new String[]{displayRole})));
         } catch (Exception e) {
-            // Log failed login attempt
-            AppUser u = this.repo.findByUsername(user.getUsername()).orElse(null);
-            if (u != null) {
-                logAudit(u, "LOGIN", request, AuditStatus.FAILURE, "Failed login attempt: " + e.getMessage());
+            // Log failed login attempt (counted in memory for lockout, audit row written asynchronously)
+            if (e instanceof AuthenticationException) {
+                this.auditService.recordFailedLogin(user.getUsername(), ip, request.getHeader("User-Agent"), "Failed login attempt: " + e.getMessage());
             }
             throw e;
         }
     }
     
-    private void logAudit(AppUser user, String action, HttpServletRequest request, AuditStatus status, String details) {
-        try {
-            AuditLog log = new AuditLog();
-            log.setUser(user);
-            log.setAction(action);
-            log.setTimestamp(LocalDateTime.now());
-            log.setIpAddress(getClientIP(request));
-            log.setUserAgent(request.getHeader("User-Agent"));
-            log.setStatus(status);
-            log.setDetails(details);
-            auditLogRepository.save(log);
-        } catch (Exception e) {
-            // Don't fail the request if audit logging fails
-            System.err.println("Failed to log audit: " + e.getMessage());
-        }
-    }
-    
     private String getClientIP(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
@@ -204,6 +192,7 @@ public class AuthController {
             // Update password
             user.setPassword(this.passwordEncoder.encode(newPassword));
             this.repo.save(user);
+            this.userAuthCache.invalidate(user.getUsername());
             
             return ResponseEntity.ok(Map.of("message", "Password changed successfully"));
             
@@ -24,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.bank.dto.CursorPage;
 import com.bank.dto.CustomerRequest;
 import com.bank.dto.PendingTransferConfirmRequest;
 import com.bank.dto.PendingTransferRequest;
@@ -36,6 +37,8 @@ import com.bank.model.AppUser;
 import com.bank.model.Card;
 import com.bank.model.Customer;
 import com.bank.model.PendingTransfer;
+import com.bank.model.PurgeJob;
+import com.bank.model.PurgeJobStatus;
 import com.bank.model.Transaction;
 import com.bank.model.TransactionType;
 import com.bank.repository.AccountRepository;
@@ -143,6 +146,14 @@ public class BankingController {
         return this.bankingService.getTransactionsForAccount(accountNumber, pageable);
     }
 
+    @GetMapping(value={"/accounts/{accountNumber}/transactions/seek"})
+    @PreAuthorize(value = "hasAnyRole('ADMIN','CUSTOMER')")
+    public CursorPage<TransactionDto> getTransactionsForAccountAfter(@PathVariable String accountNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return this.bankingService.getTransactionsForAccountAfter(accountNumber, cursor, size);
+    }
+
     @PostMapping(value={"/transactions"})
     @PreAuthorize(value = "hasAnyRole('ADMIN','CUSTOMER')")
     public ResponseEntity<Transaction> createTransaction(@Valid @RequestBody TransactionRequest req) {
@@ -226,7 +237,15 @@ public class BankingController {
             }
             
             // Password verified and balance is zero, delete the specific account
-            this.bankingService.deleteSingleAccount(accountId, username);
+            PurgeJob job = this.bankingService.deleteSingleAccount(accountId, username);
+            if (job.getStatus() == PurgeJobStatus.FAILED) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "Failed to delete account: " + job.getErrorMessage()));
+            }
+            if (job.getStatus() != PurgeJobStatus.COMPLETED) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(Map.of("message", "Account deletion is in progress", "jobId", job.getId()));
+            }
             return ResponseEntity.ok(Map.of("message", "Account deleted successfully"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -265,11 +284,31 @@ public class BankingController {
             }
             
             // Password verified, delete entire profile
-            this.bankingService.deleteCustomerProfile(username);
+            PurgeJob job = this.bankingService.deleteCustomerProfile(username);
+            if (job.getStatus() == PurgeJobStatus.FAILED) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "Failed to delete profile: " + job.getErrorMessage()));
+            }
+            if (job.getStatus() != PurgeJobStatus.COMPLETED) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(Map.of("message", "Profile deletion is in progress", "jobId", job.getId()));
+            }
             return ResponseEntity.ok(Map.of("message", "Profile deleted successfully"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("message", "Failed to delete profile: " + e.getMessage()));
         }
     }
+
+    @GetMapping(value={"/purge-jobs/{jobId}"})
+    @PreAuthorize(value = "hasAnyRole('ADMIN','CUSTOMER')")
+    public ResponseEntity<?> getPurgeJob(@PathVariable Long jobId, Authentication authentication) {
+        PurgeJob job = this.bankingService.getPurgeJob(jobId, authentication.getName());
+        return ResponseEntity.ok(Map.of(
+            "jobId", job.getId(),
+            "status", job.getStatus().name(),
+            "phase", job.getPhase().name(),
+            "rowsDeleted", job.getRowsDeleted()
+        ));
+    }
 }
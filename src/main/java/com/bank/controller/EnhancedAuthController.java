@@ -7,6 +7,7 @@ import com.bank.model.AppUser;
 import com.bank.model.RefreshToken;
 import com.bank.repository.AppUserRepository;
 import com.bank.security.JwtUtil;
+import com.bank.service.AuditService;
 import com.bank.service.RefreshTokenService;
 import com.bank.config.JwtProperties;
 import jakarta.servlet.http.HttpServletRequest;
@@ -46,11 +47,21 @@ public class EnhancedAuthController {
     @Autowired
     private JwtProperties jwtProperties;
 
+    @Autowired
+    private AuditService auditService;
+
     /**
      * Enhanced login with refresh token support
      */
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        String ipAddress = getClientIpAddress(request);
+        String userAgent = request.getHeader("User-Agent");
+        if (auditService.isLoginBlocked(loginRequest.getUsername(), ipAddress)) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Too many failed login attempts. Try again later.");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+        }
         try {
             // Authenticate user
             Authentication authentication = authManager.authenticate(
@@ -67,9 +78,9 @@ public class EnhancedAuthController {
             // Generate access token with role
             String accessToken = jwtUtil.generateToken(user.getUsername(), user.getRole());
 
+            auditService.recordSuccessfulLogin(user, ipAddress, userAgent);
+
             // Generate refresh token
-            String ipAddress = getClientIpAddress(request);
-            String userAgent = request.getHeader("User-Agent");
             RefreshToken refreshToken = refreshTokenService.createRefreshToken(user, ipAddress, userAgent);
 
             // Build response
@@ -84,6 +95,7 @@ public class EnhancedAuthController {
             return ResponseEntity.ok(response);
 
         } catch (BadCredentialsException e) {
+            auditService.recordFailedLogin(loginRequest.getUsername(), ipAddress, userAgent, "Failed login attempt: " + e.getMessage());
             Map<String, String> error = new HashMap<>();
             error.put("error", "Invalid username or password");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
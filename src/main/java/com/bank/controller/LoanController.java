@@ -4,6 +4,8 @@ import com.bank.dto.LoanApplicationRequest;
 import com.bank.dto.LoanDetailsResponse;
 import com.bank.dto.LoanEmiCalculationRequest;
 import com.bank.dto.LoanEmiCalculationResponse;
+import com.bank.dto.LoanEmiGridRequest;
+import com.bank.dto.LoanEmiGridResponse;
 import com.bank.dto.LoanRepaymentRequest;
 import com.bank.model.LoanRepayment;
 import com.bank.service.LoanService;
@@ -54,6 +56,20 @@ public class LoanController {
         }
     }
 
+    /**
+     * Calculate EMIs for every principal x rate x tenure combination in one call
+     */
+    @PostMapping("/calculate-emi/batch")
+    public ResponseEntity<?> calculateEmiGrid(
+            @Valid @RequestBody LoanEmiGridRequest request) {
+        try {
+            LoanEmiGridResponse response = loanService.calculateEmiGrid(request);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * Make loan repayment
      */
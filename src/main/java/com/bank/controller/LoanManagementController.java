@@ -34,10 +34,15 @@ public class LoanManagementController {
     @Autowired
     private LoanManagementService loanManagementService;
     
-    // Generate or get EMI schedule
+    // Get EMI schedule, whole or one page of installments
     @GetMapping("/loans/{loanId}/emi-schedule")
-    public ResponseEntity<List<EmiScheduleDto>> getEmiSchedule(@PathVariable Long loanId) {
-        List<EmiScheduleDto> schedule = loanManagementService.generateEmiSchedule(loanId);
+    public ResponseEntity<List<EmiScheduleDto>> getEmiSchedule(
+            @PathVariable Long loanId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "12") int size) {
+        List<EmiScheduleDto> schedule = page == null
+                ? loanManagementService.generateEmiSchedule(loanId)
+                : loanManagementService.getEmiSchedulePage(loanId, Math.max(0, page), Math.max(1, size));
         return ResponseEntity.ok(schedule);
     }
     
@@ -58,6 +63,24 @@ public class LoanManagementController {
         return ResponseEntity.ok(response);
     }
     
+    // Record EMI payment by installment number (installments not yet due have no id)
+    @PostMapping("/loans/{loanId}/emi/{emiNumber}/pay")
+    public ResponseEntity<Map<String, Object>> recordInstallmentPayment(
+            @PathVariable Long loanId,
+            @PathVariable Integer emiNumber,
+            @RequestParam Double amount,
+            @RequestParam(required = false) String reference) {
+        
+        EmiScheduleDto result = loanManagementService.recordInstallmentPayment(loanId, emiNumber, amount, reference);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "EMI payment recorded successfully");
+        response.put("emi", result);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     // Calculate prepayment details
     @PostMapping("/loans/{loanId}/prepayment/calculate")
     public ResponseEntity<Map<String, Object>> calculatePrepayment(
@@ -161,11 +184,12 @@ public class LoanManagementController {
     // Trigger overdue check (Admin/Scheduled endpoint)
     @PostMapping("/admin/check-overdues")
     public ResponseEntity<Map<String, String>> checkOverdues() {
-        loanManagementService.checkOverdueEmis();
+        long updated = loanManagementService.checkOverdueEmis();
         
         Map<String, String> response = new HashMap<>();
         response.put("success", "true");
         response.put("message", "Overdue EMIs checked and updated");
+        response.put("emisUpdated", String.valueOf(updated));
         
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,56 @@
+package com.bank.controller;
+
+import com.bank.model.AppUser;
+import com.bank.model.Notification;
+import com.bank.repository.AppUserRepository;
+import com.bank.service.NotificationService;
+import com.bank.service.NotificationStreamService;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private AppUserRepository userRepository;
+
+    /** Unread notifications, for the first paint before the stream is opened. */
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getUnread(Authentication authentication) {
+        List<Notification> unread = notificationService.getUnacknowledgedNotifications(currentUser(authentication).getId());
+        return ResponseEntity.ok(unread.stream().map(notificationStreamService::toPayload).toList());
+    }
+
+    /**
+     * New notifications as they are created. Browsers resend the last id they saw in
+     * {@code Last-Event-ID} when they reconnect, and get the events they missed.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Map<String, Object>>> stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            Authentication authentication) {
+        return notificationStreamService.stream(currentUser(authentication).getId(), lastEventId);
+    }
+
+    private AppUser currentUser(Authentication authentication) {
+        return userRepository.findByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+}
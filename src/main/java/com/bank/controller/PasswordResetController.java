@@ -3,6 +3,7 @@ package com.bank.controller;
 import com.bank.model.AppUser;
 import com.bank.model.OtpVerification;
 import com.bank.repository.AppUserRepository;
+import com.bank.security.UserAuthCache;
 import com.bank.service.OtpService;
 import java.util.HashMap;
 import java.util.Map;
@@ -25,6 +26,8 @@ public class PasswordResetController {
     private OtpService otpService;
     @Autowired
     private PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserAuthCache userAuthCache;
 
     @PostMapping(value={"/forgot-password"})
     public ResponseEntity<?> forgotPassword(@RequestBody Map<String, String> request) {
@@ -88,6 +91,7 @@ public class PasswordResetController {
         }
         user.setPassword(this.passwordEncoder.encode((CharSequence)newPassword));
         this.userRepository.save(user);
+        this.userAuthCache.invalidate(user.getUsername());
         this.otpService.invalidateExistingOtps(email, OtpVerification.OtpType.RESET_PASSWORD);
         return ResponseEntity.ok(Map.of("success", true, "message", "Password reset successfully! You can now login with your new password."));
     }
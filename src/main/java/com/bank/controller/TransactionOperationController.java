@@ -1,15 +1,21 @@
 package com.bank.controller;
 
+import com.bank.dto.CursorPage;
 import com.bank.dto.DepositRequest;
 import com.bank.dto.TransactionDto;
 import com.bank.dto.TransferRequestDto;
 import com.bank.dto.WithdrawalRequest;
+import com.bank.model.Account;
+import com.bank.service.StatementExportService;
 import com.bank.service.TransactionOperationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
@@ -24,6 +30,9 @@ public class TransactionOperationController {
     @Autowired
     private TransactionOperationService transactionService;
 
+    @Autowired
+    private StatementExportService statementExportService;
+
     /**
      * Deposit money
      */
@@ -107,6 +116,25 @@ public class TransactionOperationController {
         }
     }
 
+    /**
+     * Get transaction history by continuation token (keyset pagination)
+     */
+    @GetMapping("/account/{accountId}/seek")
+    public ResponseEntity<?> getTransactionHistoryAfter(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        try {
+            String username = authentication.getName();
+            CursorPage<TransactionDto> transactions = transactionService.getTransactionHistoryAfter(
+                accountId, username, cursor, size);
+            return ResponseEntity.ok(transactions);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * Get transactions by date range
      */
@@ -125,4 +153,38 @@ public class TransactionOperationController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    /**
+     * Export a statement for a date range as CSV or NDJSON, streamed row by row
+     */
+    @GetMapping("/account/{accountId}/statement")
+    public ResponseEntity<?> exportStatement(
+            @PathVariable Long accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            Authentication authentication) {
+        try {
+            String username = authentication.getName();
+            String fmt = format.toLowerCase();
+            Account account = statementExportService.prepareExport(accountId, username, startDate, endDate, fmt);
+
+            StreamingResponseBody body = out ->
+                statementExportService.writeStatement(accountId, startDate, endDate, fmt, gzip, out);
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(StatementExportService.FORMAT_NDJSON.equals(fmt)
+                    ? MediaType.parseMediaType("application/x-ndjson")
+                    : MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"statement-" + account.getAccountNumber() + "." + fmt + "\"");
+            if (gzip) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return response.body(body);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package com.bank.dto;
+
+import com.bank.model.LoanType;
+import com.bank.model.RepaymentFrequency;
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * Grid of principals x rates x tenures for the batch EMI calculator. Without rates, the loan type's rate is
+ * used, as in the single calculator.
+ */
+public class LoanEmiGridRequest {
+    
+    private LoanType loanType;
+    
+    @NotEmpty(message = "At least one principal amount is required")
+    private double[] principalAmounts;
+    
+    // Annual rates in percent
+    private double[] interestRates;
+    
+    @NotEmpty(message = "At least one tenure is required")
+    private int[] tenureMonths;
+    
+    private RepaymentFrequency repaymentFrequency = RepaymentFrequency.MONTHLY;
+
+    // Getters and Setters
+    public LoanType getLoanType() {
+        return loanType;
+    }
+
+    public void setLoanType(LoanType loanType) {
+        this.loanType = loanType;
+    }
+
+    public double[] getPrincipalAmounts() {
+        return principalAmounts;
+    }
+
+    public void setPrincipalAmounts(double[] principalAmounts) {
+        this.principalAmounts = principalAmounts;
+    }
+
+    public double[] getInterestRates() {
+        return interestRates;
+    }
+
+    public void setInterestRates(double[] interestRates) {
+        this.interestRates = interestRates;
+    }
+
+    public int[] getTenureMonths() {
+        return tenureMonths;
+    }
+
+    public void setTenureMonths(int[] tenureMonths) {
+        this.tenureMonths = tenureMonths;
+    }
+
+    public RepaymentFrequency getRepaymentFrequency() {
+        return repaymentFrequency;
+    }
+
+    public void setRepaymentFrequency(RepaymentFrequency repaymentFrequency) {
+        this.repaymentFrequency = repaymentFrequency;
+    }
+}
@@ -0,0 +1,76 @@
+package com.bank.dto;
+
+import com.bank.model.RepaymentFrequency;
+
+/**
+ * Batch EMI results as columns. Cell {@code (p, r, t)} is at index
+ * {@code (p * interestRates.length + r) * tenureMonths.length + t} of {@code emiAmounts} and {@code totalInterest}.
+ */
+public class LoanEmiGridResponse {
+    
+    private double[] principalAmounts;
+    private double[] interestRates;
+    private int[] tenureMonths;
+    // Payments per tenure at the requested frequency
+    private int[] numberOfPayments;
+    private RepaymentFrequency repaymentFrequency;
+    private double[] emiAmounts;
+    private double[] totalInterest;
+
+    // Getters and Setters
+    public double[] getPrincipalAmounts() {
+        return principalAmounts;
+    }
+
+    public void setPrincipalAmounts(double[] principalAmounts) {
+        this.principalAmounts = principalAmounts;
+    }
+
+    public double[] getInterestRates() {
+        return interestRates;
+    }
+
+    public void setInterestRates(double[] interestRates) {
+        this.interestRates = interestRates;
+    }
+
+    public int[] getTenureMonths() {
+        return tenureMonths;
+    }
+
+    public void setTenureMonths(int[] tenureMonths) {
+        this.tenureMonths = tenureMonths;
+    }
+
+    public int[] getNumberOfPayments() {
+        return numberOfPayments;
+    }
+
+    public void setNumberOfPayments(int[] numberOfPayments) {
+        this.numberOfPayments = numberOfPayments;
+    }
+
+    public RepaymentFrequency getRepaymentFrequency() {
+        return repaymentFrequency;
+    }
+
+    public void setRepaymentFrequency(RepaymentFrequency repaymentFrequency) {
+        this.repaymentFrequency = repaymentFrequency;
+    }
+
+    public double[] getEmiAmounts() {
+        return emiAmounts;
+    }
+
+    public void setEmiAmounts(double[] emiAmounts) {
+        this.emiAmounts = emiAmounts;
+    }
+
+    public double[] getTotalInterest() {
+        return totalInterest;
+    }
+
+    public void setTotalInterest(double[] totalInterest) {
+        this.totalInterest = totalInterest;
+    }
+}
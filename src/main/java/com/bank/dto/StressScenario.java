@@ -0,0 +1,66 @@
+package com.bank.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+
+public class StressScenario {
+    
+    @NotBlank(message = "Scenario name is required")
+    private String name;
+    
+    // Added to every loan's annual rate; 100 bps = 1%
+    private Double rateShockBps = 0.0;
+    
+    // Added to every loan's remaining tenure (negative shortens it)
+    private Integer tenureChangeMonths = 0;
+    
+    @DecimalMin(value = "0.0", message = "Default rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Default rate must be between 0 and 1")
+    private Double defaultRate = 0.0;
+    
+    @DecimalMin(value = "0.0", message = "Loss given default must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Loss given default must be between 0 and 1")
+    private Double lossGivenDefault = 1.0;
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getRateShockBps() {
+        return rateShockBps;
+    }
+
+    public void setRateShockBps(Double rateShockBps) {
+        this.rateShockBps = rateShockBps;
+    }
+
+    public Integer getTenureChangeMonths() {
+        return tenureChangeMonths;
+    }
+
+    public void setTenureChangeMonths(Integer tenureChangeMonths) {
+        this.tenureChangeMonths = tenureChangeMonths;
+    }
+
+    public Double getDefaultRate() {
+        return defaultRate;
+    }
+
+    public void setDefaultRate(Double defaultRate) {
+        this.defaultRate = defaultRate;
+    }
+
+    public Double getLossGivenDefault() {
+        return lossGivenDefault;
+    }
+
+    public void setLossGivenDefault(Double lossGivenDefault) {
+        this.lossGivenDefault = lossGivenDefault;
+    }
+}
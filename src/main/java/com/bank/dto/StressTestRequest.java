@@ -0,0 +1,36 @@
+package com.bank.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class StressTestRequest {
+    
+    @NotEmpty(message = "At least one scenario is required")
+    @Size(max = 200, message = "At most 200 scenarios per run")
+    @Valid
+    private List<StressScenario> scenarios;
+    
+    // A loan whose EMI rises by at least this fraction counts towards at-risk exposure
+    @DecimalMin(value = "0.0", message = "Payment shock threshold cannot be negative")
+    private Double paymentShockThreshold = 0.20;
+
+    // Getters and Setters
+    public List<StressScenario> getScenarios() {
+        return scenarios;
+    }
+
+    public void setScenarios(List<StressScenario> scenarios) {
+        this.scenarios = scenarios;
+    }
+
+    public Double getPaymentShockThreshold() {
+        return paymentShockThreshold;
+    }
+
+    public void setPaymentShockThreshold(Double paymentShockThreshold) {
+        this.paymentShockThreshold = paymentShockThreshold;
+    }
+}
@@ -0,0 +1,152 @@
+package com.bank.dto;
+
+import java.util.List;
+
+public class StressTestResponse {
+    
+    private Integer loanCount;
+    private Double totalOutstanding;
+    private Double baseMonthlyEmi;
+    // Interest still to be earned over remaining tenures at today's rates
+    private Double baseInterestIncome;
+    private Long elapsedMillis;
+    private List<ScenarioResult> results;
+
+    // Getters and Setters
+    public Integer getLoanCount() {
+        return loanCount;
+    }
+
+    public void setLoanCount(Integer loanCount) {
+        this.loanCount = loanCount;
+    }
+
+    public Double getTotalOutstanding() {
+        return totalOutstanding;
+    }
+
+    public void setTotalOutstanding(Double totalOutstanding) {
+        this.totalOutstanding = totalOutstanding;
+    }
+
+    public Double getBaseMonthlyEmi() {
+        return baseMonthlyEmi;
+    }
+
+    public void setBaseMonthlyEmi(Double baseMonthlyEmi) {
+        this.baseMonthlyEmi = baseMonthlyEmi;
+    }
+
+    public Double getBaseInterestIncome() {
+        return baseInterestIncome;
+    }
+
+    public void setBaseInterestIncome(Double baseInterestIncome) {
+        this.baseInterestIncome = baseInterestIncome;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<ScenarioResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ScenarioResult> results) {
+        this.results = results;
+    }
+
+    public static class ScenarioResult {
+        
+        private String name;
+        private Double monthlyEmi;
+        private Double emiChange;
+        private Double emiChangePercent;
+        // Remaining interest under the scenario, scaled by (1 - default rate)
+        private Double interestIncome;
+        private Double interestIncomeChange;
+        // Outstanding x default rate x loss given default
+        private Double expectedLoss;
+        // Outstanding of loans whose EMI rises by at least the payment shock threshold
+        private Double atRiskExposure;
+        private Integer loansAtRisk;
+
+        // Getters and Setters
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Double getMonthlyEmi() {
+            return monthlyEmi;
+        }
+
+        public void setMonthlyEmi(Double monthlyEmi) {
+            this.monthlyEmi = monthlyEmi;
+        }
+
+        public Double getEmiChange() {
+            return emiChange;
+        }
+
+        public void setEmiChange(Double emiChange) {
+            this.emiChange = emiChange;
+        }
+
+        public Double getEmiChangePercent() {
+            return emiChangePercent;
+        }
+
+        public void setEmiChangePercent(Double emiChangePercent) {
+            this.emiChangePercent = emiChangePercent;
+        }
+
+        public Double getInterestIncome() {
+            return interestIncome;
+        }
+
+        public void setInterestIncome(Double interestIncome) {
+            this.interestIncome = interestIncome;
+        }
+
+        public Double getInterestIncomeChange() {
+            return interestIncomeChange;
+        }
+
+        public void setInterestIncomeChange(Double interestIncomeChange) {
+            this.interestIncomeChange = interestIncomeChange;
+        }
+
+        public Double getExpectedLoss() {
+            return expectedLoss;
+        }
+
+        public void setExpectedLoss(Double expectedLoss) {
+            this.expectedLoss = expectedLoss;
+        }
+
+        public Double getAtRiskExposure() {
+            return atRiskExposure;
+        }
+
+        public void setAtRiskExposure(Double atRiskExposure) {
+            this.atRiskExposure = atRiskExposure;
+        }
+
+        public Integer getLoansAtRisk() {
+            return loansAtRisk;
+        }
+
+        public void setLoansAtRisk(Integer loansAtRisk) {
+            this.loansAtRisk = loansAtRisk;
+        }
+    }
+}
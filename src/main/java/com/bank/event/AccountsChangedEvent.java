@@ -0,0 +1,21 @@
+package com.bank.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when a customer gains or loses accounts, so per-customer views built over their account set
+ * can be dropped.
+ */
+public class AccountsChangedEvent
+extends ApplicationEvent {
+    private final Long customerId;
+
+    public AccountsChangedEvent(Object source, Long customerId) {
+        super(source);
+        this.customerId = customerId;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+}
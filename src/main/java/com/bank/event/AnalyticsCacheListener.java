@@ -0,0 +1,32 @@
+package com.bank.event;
+
+import com.bank.model.Transaction;
+import com.bank.service.AnalyticsCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class AnalyticsCacheListener {
+    @Autowired
+    private AnalyticsCache analyticsCache;
+
+    // After commit, so a reload cannot cache the pre-posting figures again
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionPosted(TransactionPostedEvent ev) {
+        for (Transaction t : ev.getTransactions()) {
+            if (t.getAccount() != null && t.getAccount().getCustomer() != null) {
+                analyticsCache.invalidate(t.getAccount().getCustomer().getId(), t.getDate() != null ? t.getDate().toLocalDate() : null);
+            }
+        }
+    }
+
+    // Account summaries list the customer's accounts, so every cached view of theirs is stale
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountsChanged(AccountsChangedEvent ev) {
+        if (ev.getCustomerId() != null) {
+            analyticsCache.invalidate(ev.getCustomerId(), null);
+        }
+    }
+}
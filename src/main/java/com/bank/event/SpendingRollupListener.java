@@ -0,0 +1,18 @@
+package com.bank.event;
+
+import com.bank.service.SpendingRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SpendingRollupListener {
+    @Autowired
+    private SpendingRollupService spendingRollupService;
+
+    // Synchronous, so the rollup upsert commits or rolls back with the ledger rows
+    @EventListener
+    public void onTransactionPosted(TransactionPostedEvent ev) {
+        ev.getTransactions().forEach(spendingRollupService::onPosted);
+    }
+}
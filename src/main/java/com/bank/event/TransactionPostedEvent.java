@@ -0,0 +1,23 @@
+package com.bank.event;
+
+import com.bank.model.Transaction;
+import java.util.List;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published, inside the posting transaction, once ledger rows have been saved. A transfer posts both legs
+ * in one event.
+ */
+public class TransactionPostedEvent
+extends ApplicationEvent {
+    private final List<Transaction> transactions;
+
+    public TransactionPostedEvent(Object source, List<Transaction> transactions) {
+        super(source);
+        this.transactions = transactions;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+}
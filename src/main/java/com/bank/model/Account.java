@@ -1,5 +1,8 @@
 package com.bank.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -15,7 +18,9 @@ public class Account {
     private String accountNumber;
     private String accountType;
     private String status;
-    private double balance;
+    @Convert(converter=MoneyConverter.class)
+    @Column(name="balance_paise", nullable=false)
+    private Money balance = Money.ZERO;
     private String nickname;
     private String branchCode;
     private java.time.LocalDateTime createdAt;
@@ -49,10 +54,19 @@ public class Account {
     }
 
     public double getBalance() {
-        return this.balance;
+        return this.balance.toDouble();
     }
 
     public void setBalance(double balance) {
+        this.balance = Money.of(balance);
+    }
+
+    @JsonIgnore
+    public Money getBalanceMoney() {
+        return this.balance;
+    }
+
+    public void setBalanceMoney(Money balance) {
         this.balance = balance;
     }
 
@@ -0,0 +1,232 @@
+package com.bank.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Loan-level repayment terms from which any installment is computed on demand. A segment covers
+ * installments {@code firstEmiNumber .. firstEmiNumber + tenureMonths - 1}, amortizing {@code principal}
+ * at {@code annualRate} with a level {@code emiAmount}. Prepayment and restructure start a new segment.
+ * Only installments up to {@code materializedThrough} have emi_schedules rows, because they were paid or
+ * fell due. Due dates are offsets from one anchor ({@code dueAnchor} is the due date of installment
+ * {@code dueAnchorEmiNumber}), so a 31st-of-month schedule stays on month ends instead of drifting to the 28th.
+ */
+@Entity
+@Table(name = "amortization_plans", indexes = @Index(name = "idx_plan_loan_next_due", columnList = "loan_id, next_due_date"))
+public class AmortizationPlan {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "loan_id", nullable = false, unique = true)
+    private Loan loan;
+
+    // Outstanding principal at the start of the segment
+    @Column(nullable = false)
+    private Double principal;
+
+    @Column(nullable = false)
+    private Double annualRate;
+
+    @Column(nullable = false)
+    private Double emiAmount;
+
+    @Column(nullable = false)
+    private Integer firstEmiNumber;
+
+    @Column(nullable = false)
+    private Integer tenureMonths;
+
+    @Column(nullable = false)
+    private LocalDate dueAnchor;
+
+    @Column(nullable = false)
+    private Integer dueAnchorEmiNumber;
+
+    // Every installment up to this number has an emi_schedules row
+    @Column(nullable = false)
+    private Integer materializedThrough;
+
+    // Due date of installment materializedThrough + 1; null once the segment is fully materialized
+    @Column(name = "next_due_date")
+    private LocalDate nextDueDate;
+
+    // Overdue sweeps and installment payments both advance materializedThrough
+    @Version
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public int lastEmiNumber() {
+        return firstEmiNumber + tenureMonths - 1;
+    }
+
+    public LocalDate dueDateOf(int emiNumber) {
+        return dueAnchor.plusMonths(emiNumber - dueAnchorEmiNumber);
+    }
+
+    /**
+     * Replaces the terms from {@code firstEmiNumber} on, with installment {@code firstEmiNumber} due on
+     * {@code firstDueDate} and the rest monthly from it. Earlier installments must already have rows.
+     */
+    public void startSegment(int firstEmiNumber, double principal, double annualRate, double emiAmount,
+                             int tenureMonths, LocalDate firstDueDate) {
+        this.dueAnchor = firstDueDate;
+        this.dueAnchorEmiNumber = firstEmiNumber;
+        startSegment(firstEmiNumber, principal, annualRate, emiAmount, tenureMonths);
+    }
+
+    /** Replaces the terms from {@code firstEmiNumber} on, keeping the due dates. */
+    public void startSegment(int firstEmiNumber, double principal, double annualRate, double emiAmount,
+                             int tenureMonths) {
+        this.firstEmiNumber = firstEmiNumber;
+        this.principal = principal;
+        this.annualRate = annualRate;
+        this.emiAmount = emiAmount;
+        this.tenureMonths = tenureMonths;
+        this.materializedThrough = firstEmiNumber - 1;
+        this.nextDueDate = tenureMonths > 0 ? dueDateOf(firstEmiNumber) : null;
+    }
+
+    /** Ends the schedule at the last installment that has a row (loan closed early). */
+    public void close() {
+        tenureMonths = materializedThrough - firstEmiNumber + 1;
+        nextDueDate = null;
+    }
+
+    /** Records that installments up to {@code emiNumber} now have rows. */
+    public void materializedUpTo(int emiNumber) {
+        materializedThrough = Math.max(materializedThrough, emiNumber);
+        nextDueDate = materializedThrough < lastEmiNumber() ? dueDateOf(materializedThrough + 1) : null;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Loan getLoan() {
+        return loan;
+    }
+
+    public void setLoan(Loan loan) {
+        this.loan = loan;
+    }
+
+    public Double getPrincipal() {
+        return principal;
+    }
+
+    public void setPrincipal(Double principal) {
+        this.principal = principal;
+    }
+
+    public Double getAnnualRate() {
+        return annualRate;
+    }
+
+    public void setAnnualRate(Double annualRate) {
+        this.annualRate = annualRate;
+    }
+
+    public Double getEmiAmount() {
+        return emiAmount;
+    }
+
+    public void setEmiAmount(Double emiAmount) {
+        this.emiAmount = emiAmount;
+    }
+
+    public Integer getFirstEmiNumber() {
+        return firstEmiNumber;
+    }
+
+    public void setFirstEmiNumber(Integer firstEmiNumber) {
+        this.firstEmiNumber = firstEmiNumber;
+    }
+
+    public Integer getTenureMonths() {
+        return tenureMonths;
+    }
+
+    public void setTenureMonths(Integer tenureMonths) {
+        this.tenureMonths = tenureMonths;
+    }
+
+    public LocalDate getDueAnchor() {
+        return dueAnchor;
+    }
+
+    public void setDueAnchor(LocalDate dueAnchor) {
+        this.dueAnchor = dueAnchor;
+    }
+
+    public Integer getDueAnchorEmiNumber() {
+        return dueAnchorEmiNumber;
+    }
+
+    public void setDueAnchorEmiNumber(Integer dueAnchorEmiNumber) {
+        this.dueAnchorEmiNumber = dueAnchorEmiNumber;
+    }
+
+    public Integer getMaterializedThrough() {
+        return materializedThrough;
+    }
+
+    public void setMaterializedThrough(Integer materializedThrough) {
+        this.materializedThrough = materializedThrough;
+    }
+
+    public LocalDate getNextDueDate() {
+        return nextDueDate;
+    }
+
+    public void setNextDueDate(LocalDate nextDueDate) {
+        this.nextDueDate = nextDueDate;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
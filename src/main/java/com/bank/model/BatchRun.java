@@ -0,0 +1,130 @@
+package com.bank.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint for one day's run of a keyset-driven batch job. Work is committed together with
+ * {@code lastKey}, so a run that stops mid-way resumes after the last committed key. updatedAt doubles as
+ * the heartbeat other nodes use to decide a run has been abandoned.
+ */
+@Entity
+@Table(name = "batch_runs",
+       uniqueConstraints = @UniqueConstraint(name = "uk_batch_run_job_date", columnNames = {"job_name", "run_date"}))
+public class BatchRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 64)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BatchRunStatus status = BatchRunStatus.RUNNING;
+
+    // Highest key whose work is committed; 0 before the first chunk
+    @Column(nullable = false)
+    private Long lastKey = 0L;
+
+    @Column(nullable = false)
+    private Long processed = 0L;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public void setRunDate(LocalDate runDate) {
+        this.runDate = runDate;
+    }
+
+    public BatchRunStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BatchRunStatus status) {
+        this.status = status;
+    }
+
+    public Long getLastKey() {
+        return lastKey;
+    }
+
+    public void setLastKey(Long lastKey) {
+        this.lastKey = lastKey;
+    }
+
+    public Long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(Long processed) {
+        this.processed = processed;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bank.model;
+
+public enum BatchRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -10,13 +10,14 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "credit_scores")
+@Table(name = "credit_scores", indexes = @Index(name = "idx_credit_score_customer_date_id", columnList = "customer_id, calculation_date, id"))
 public class CreditScore {
     
     @Id
@@ -49,6 +50,7 @@ public class CreditScore {
     private Double creditUtilizationRatio;
     private Integer oldestAccountAgeMonths;
     private Integer numberOfActiveAccounts;
+    @Column(name = "hard_inquiries_last6months") // pinned: CreditRescoreJob inserts by column name
     private Integer hardInquiriesLast6Months;
     
     private Integer previousScore;
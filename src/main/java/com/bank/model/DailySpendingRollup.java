@@ -0,0 +1,98 @@
+package com.bank.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+
+/**
+ * Per-customer totals for one day, transaction type and category (the transaction description). Rows are
+ * upserted as transactions post and re-derived by the nightly repair; see {@code SpendingRollupService}.
+ */
+@Entity
+@Table(name = "daily_spending_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_rollup_key", columnNames = {"customer_id", "rollup_date", "type", "category"}))
+public class DailySpendingRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(nullable = false, length = 32)
+    private String type;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(name = "total_paise", nullable = false)
+    private long totalPaise;
+
+    @Column(name = "txn_count", nullable = false)
+    private long txnCount;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public LocalDate getRollupDate() {
+        return rollupDate;
+    }
+
+    public void setRollupDate(LocalDate rollupDate) {
+        this.rollupDate = rollupDate;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public long getTotalPaise() {
+        return totalPaise;
+    }
+
+    public void setTotalPaise(long totalPaise) {
+        this.totalPaise = totalPaise;
+    }
+
+    public long getTxnCount() {
+        return txnCount;
+    }
+
+    public void setTxnCount(long txnCount) {
+        this.txnCount = txnCount;
+    }
+}
@@ -5,11 +5,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "emi_schedules")
+@Table(name = "emi_schedules", indexes = @Index(name = "idx_emi_loan_paid_due", columnList = "loan_id, is_paid, due_date"),
+       uniqueConstraints = @UniqueConstraint(name = "uk_emi_loan_number", columnNames = {"loan_id", "emi_number"}))
 public class EmiSchedule {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "emi_schedules_seq")
+    @SequenceGenerator(name = "emi_schedules_seq", sequenceName = "emi_schedules_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne
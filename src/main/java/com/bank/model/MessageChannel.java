@@ -0,0 +1,6 @@
+package com.bank.model;
+
+public enum MessageChannel {
+    EMAIL,
+    SMS
+}
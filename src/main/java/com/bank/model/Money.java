@@ -0,0 +1,107 @@
+package com.bank.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable rupee amount held as an exact count of paise.
+ *
+ * Ledger arithmetic (balances, transaction amounts, analytics totals) is done on the underlying long;
+ * conversion to BigDecimal or double only happens at API edges.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L);
+
+    private static final int SCALE = 2;
+    private static final long PAISE_PER_RUPEE = 100L;
+
+    private final long paise;
+
+    private Money(long paise) {
+        this.paise = paise;
+    }
+
+    public static Money ofPaise(long paise) {
+        return paise == 0L ? ZERO : new Money(paise);
+    }
+
+    public static Money of(double rupees) {
+        return ofPaise(toPaise(rupees));
+    }
+
+    public static Money of(BigDecimal rupees) {
+        return ofPaise(toPaise(rupees));
+    }
+
+    /**
+     * Convert a rupee amount to paise, rounding half-even to the nearest paisa.
+     */
+    public static long toPaise(double rupees) {
+        return toPaise(BigDecimal.valueOf(rupees));
+    }
+
+    public static long toPaise(BigDecimal rupees) {
+        return rupees.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long paise) {
+        return BigDecimal.valueOf(paise, SCALE);
+    }
+
+    public static double toDouble(long paise) {
+        return paise / (double) PAISE_PER_RUPEE;
+    }
+
+    public long getPaise() {
+        return paise;
+    }
+
+    public Money plus(Money other) {
+        return ofPaise(Math.addExact(paise, other.paise));
+    }
+
+    public Money minus(Money other) {
+        return ofPaise(Math.subtractExact(paise, other.paise));
+    }
+
+    public boolean isLessThan(Money other) {
+        return paise < other.paise;
+    }
+
+    public boolean isPositive() {
+        return paise > 0L;
+    }
+
+    public boolean isNegative() {
+        return paise < 0L;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(paise);
+    }
+
+    public double toDouble() {
+        return toDouble(paise);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(paise, other.paise);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money && ((Money) o).paise == paise);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(paise);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
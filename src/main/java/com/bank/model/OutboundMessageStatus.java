@@ -0,0 +1,8 @@
+package com.bank.model;
+
+public enum OutboundMessageStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -5,7 +5,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "overdue_trackings")
+@Table(name = "overdue_trackings", indexes = @Index(name = "idx_overdue_emi_resolved", columnList = "emi_schedule_id, is_resolved"))
 public class OverdueTracking {
     
     @Id
@@ -0,0 +1,181 @@
+package com.bank.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Progress record for a bulk account/profile purge. Every phase is an idempotent set-based DELETE, so a
+ * job interrupted mid-way is resumed by re-running from the recorded phase.
+ */
+@Entity
+@Table(name = "purge_jobs")
+public class PurgeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private Long customerId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(length = 4000)
+    private String accountIds; // comma-separated
+
+    @Column(nullable = false)
+    private Boolean includeProfile = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PurgeJobStatus status = PurgeJobStatus.PENDING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PurgePhase phase = PurgePhase.CARDS;
+
+    @Column(nullable = false)
+    private Long rowsDeleted = 0L;
+
+    // Failed runs so far; a FAILED job is retried until this reaches PurgeService's limit
+    @Column(nullable = false)
+    private Integer failedAttempts = 0;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getAccountIds() {
+        return accountIds;
+    }
+
+    public void setAccountIds(String accountIds) {
+        this.accountIds = accountIds;
+    }
+
+    public Boolean getIncludeProfile() {
+        return includeProfile;
+    }
+
+    public void setIncludeProfile(Boolean includeProfile) {
+        this.includeProfile = includeProfile;
+    }
+
+    public PurgeJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PurgeJobStatus status) {
+        this.status = status;
+    }
+
+    public PurgePhase getPhase() {
+        return phase;
+    }
+
+    public void setPhase(PurgePhase phase) {
+        this.phase = phase;
+    }
+
+    public Long getRowsDeleted() {
+        return rowsDeleted;
+    }
+
+    public void setRowsDeleted(Long rowsDeleted) {
+        this.rowsDeleted = rowsDeleted;
+    }
+
+    public Integer getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    public void setFailedAttempts(Integer failedAttempts) {
+        this.failedAttempts = failedAttempts;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,8 @@
+package com.bank.model;
+
+public enum PurgeJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
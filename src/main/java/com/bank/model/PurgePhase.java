@@ -0,0 +1,18 @@
+package com.bank.model;
+
+/**
+ * Steps of a purge in execution order. Account purges stop after SPENDING_ROLLUPS; profile purges run every step.
+ */
+public enum PurgePhase {
+    CARDS,
+    TRANSACTIONS,
+    PENDING_TRANSFERS,
+    ACCOUNTS,
+    SPENDING_ROLLUPS,
+    USER_PREFERENCES,
+    AUDIT_LOGS,
+    DEVICE_SESSIONS,
+    CUSTOMER,
+    USER,
+    DONE
+}
@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 public class RewardPoints {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reward_points_seq")
+    @SequenceGenerator(name = "reward_points_seq", sequenceName = "reward_points_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne
@@ -1,22 +1,32 @@
 package com.bank.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes={@Index(name="idx_txn_account_date_id", columnList="account_id, date, id")})
 public class Transaction {
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="transaction_seq")
+    @SequenceGenerator(name="transaction_seq", sequenceName="transaction_seq", allocationSize=50)
     private Long id;
     @Enumerated(value=EnumType.STRING)
     private TransactionType type;
-    private double amount;
+    @Convert(converter=MoneyConverter.class)
+    @Column(name="amount_paise", nullable=false)
+    private Money amount = Money.ZERO;
     private LocalDateTime date = LocalDateTime.now();
     @ManyToOne
     private Account account;
@@ -43,10 +53,19 @@ public class Transaction {
     }
 
     public double getAmount() {
-        return this.amount;
+        return this.amount.toDouble();
     }
 
     public void setAmount(double amount) {
+        this.amount = Money.of(amount);
+    }
+
+    @JsonIgnore
+    public Money getAmountMoney() {
+        return this.amount;
+    }
+
+    public void setAmountMoney(Money amount) {
         this.amount = amount;
     }
 
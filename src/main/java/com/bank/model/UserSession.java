@@ -7,12 +7,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "user_sessions")
+@Table(name = "user_sessions", indexes = @Index(name = "idx_session_expires_at", columnList = "expires_at"))
 public class UserSession {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
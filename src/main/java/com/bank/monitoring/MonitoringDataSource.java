@@ -0,0 +1,135 @@
+package com.bank.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Wraps the pool so JDBC execution time and fetched rows can be attributed to the current request.
+ * Connections handed out off a monitored request thread are returned unwrapped.
+ */
+public class MonitoringDataSource extends DelegatingDataSource {
+
+    public MonitoringDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        if (RequestSqlStats.current() == null) {
+            return connection;
+        }
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(MonitoringDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = MonitoringDataSource.invoke(target, method, args);
+            if (result instanceof CallableStatement cs) {
+                return proxy(CallableStatement.class, new StatementHandler(cs));
+            }
+            if (result instanceof PreparedStatement ps) {
+                return proxy(PreparedStatement.class, new StatementHandler(ps));
+            }
+            if (result instanceof Statement st && !method.getName().equals("unwrap")) {
+                return proxy(Statement.class, new StatementHandler(st));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+
+        StatementHandler(Statement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            RequestSqlStats stats = RequestSqlStats.current();
+            if (stats == null) {
+                return MonitoringDataSource.invoke(target, method, args);
+            }
+            Object result;
+            if (name.startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    result = MonitoringDataSource.invoke(target, method, args);
+                } finally {
+                    stats.recordJdbcTime(System.nanoTime() - start);
+                }
+            } else {
+                result = MonitoringDataSource.invoke(target, method, args);
+            }
+            if (result instanceof ResultSet rs && (name.equals("executeQuery") || name.equals("getResultSet"))) {
+                return proxy(ResultSet.class, new ResultSetHandler(rs, stats));
+            }
+            return result;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final RequestSqlStats stats;
+
+        ResultSetHandler(ResultSet target, RequestSqlStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().equals("next")) {
+                return MonitoringDataSource.invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            Object result = MonitoringDataSource.invoke(target, method, args);
+            stats.recordJdbcTime(System.nanoTime() - start);
+            if (Boolean.TRUE.equals(result)) {
+                stats.recordRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.bank.monitoring;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SQL activity of the HTTP request bound to the current thread. Filled by {@link SqlStatementInspector}
+ * (statement text) and {@link MonitoringDataSource} (rows and JDBC time); read by {@link SqlMonitoringFilter}.
+ */
+public class RequestSqlStats {
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rowsFetched;
+    private long jdbcNanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private final List<String> unboundedScans = new ArrayList<>();
+
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        executionsBySql.merge(sql, 1, Integer::sum);
+        if (isUnboundedSelect(sql) && !unboundedScans.contains(sql)) {
+            unboundedScans.add(sql);
+        }
+    }
+
+    void recordRow() {
+        rowsFetched++;
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRowsFetched() {
+        return rowsFetched;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public List<String> getUnboundedScans() {
+        return unboundedScans;
+    }
+
+    /** SQL texts executed at least {@code threshold} times, with their counts. */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        for (Map.Entry<String, Integer> e : executionsBySql.entrySet()) {
+            if (e.getValue() >= threshold) {
+                repeated.put(e.getKey(), e.getValue());
+            }
+        }
+        return repeated;
+    }
+
+    /** A SELECT with neither a WHERE clause nor a row limit reads the whole table. */
+    static boolean isUnboundedSelect(String sql) {
+        String s = sql.toLowerCase(Locale.ROOT).trim();
+        if (!s.startsWith("select")) {
+            return false;
+        }
+        return !s.contains(" where ") && !s.contains(" limit ") && !s.contains(" fetch first ");
+    }
+}
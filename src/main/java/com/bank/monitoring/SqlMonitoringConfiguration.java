@@ -0,0 +1,37 @@
+package com.bank.monitoring;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the statement inspector with Hibernate and wraps the pool for row and timing counts.
+ * Turn off with {@code sql.monitoring.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix="sql.monitoring", name="enabled", havingValue="true", matchIfMissing=true)
+public class SqlMonitoringConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+    }
+
+    @Bean
+    public static BeanPostProcessor monitoringDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource ds && !(bean instanceof MonitoringDataSource)) {
+                    return new MonitoringDataSource(ds);
+                }
+                return bean;
+            }
+        };
+    }
+}
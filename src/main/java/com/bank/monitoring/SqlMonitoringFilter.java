@@ -0,0 +1,99 @@
+package com.bank.monitoring;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.bank.config.SqlMonitoringProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Collects SQL statements, fetched rows and JDBC time for each HTTP request, publishes them per endpoint
+ * and warns when the request goes over the configured budget or shows N+1 / full-scan patterns.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix="sql.monitoring", name="enabled", havingValue="true", matchIfMissing=true)
+public class SqlMonitoringFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(SqlMonitoringFilter.class);
+
+    @Autowired
+    private SqlMonitoringProperties properties;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain chain) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.end();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestSqlStats stats) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNMATCHED";
+
+        DistributionSummary.builder("bank.sql.statements").tags("method", method, "uri", uri).register(meterRegistry).record(stats.getStatements());
+        DistributionSummary.builder("bank.sql.rows").tags("method", method, "uri", uri).register(meterRegistry).record(stats.getRowsFetched());
+        Timer.builder("bank.sql.time").tags("method", method, "uri", uri).register(meterRegistry).record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        List<String> violations = new ArrayList<>();
+        long jdbcMs = TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos());
+        if (stats.getStatements() > properties.getMaxStatements()) {
+            violations.add(flag(method, uri, "statements"));
+        }
+        if (stats.getRowsFetched() > properties.getMaxRows()) {
+            violations.add(flag(method, uri, "rows"));
+        }
+        if (jdbcMs > properties.getMaxJdbcTimeMs()) {
+            violations.add(flag(method, uri, "time"));
+        }
+        Map<String, Integer> repeated = stats.getRepeatedStatements(properties.getRepeatThreshold());
+        if (!repeated.isEmpty()) {
+            violations.add(flag(method, uri, "repeated"));
+        }
+        if (!stats.getUnboundedScans().isEmpty()) {
+            violations.add(flag(method, uri, "unbounded"));
+        }
+        if (violations.isEmpty()) {
+            return;
+        }
+        logger.warn("SQL budget exceeded {} on {} {}: statements={} rows={} jdbcMs={}", violations, method, uri, stats.getStatements(), stats.getRowsFetched(), jdbcMs);
+        repeated.forEach((sql, count) -> logger.warn("  repeated x{} (possible N+1): {}", count, sql));
+        stats.getUnboundedScans().forEach(sql -> logger.warn("  unbounded scan: {}", sql));
+    }
+
+    private String flag(String method, String uri, String reason) {
+        Counter.builder("bank.sql.budget.exceeded").tags("method", method, "uri", uri, "reason", reason).register(meterRegistry).increment();
+        return reason;
+    }
+}
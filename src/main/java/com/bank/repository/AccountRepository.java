@@ -2,9 +2,15 @@ package com.bank.repository;
 
 import com.bank.model.Account;
 import com.bank.model.Customer;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AccountRepository
 extends JpaRepository<Account, Long> {
@@ -16,4 +22,26 @@ extends JpaRepository<Account, Long> {
     
     // Find account by customer's username
     Optional<Account> findFirstByCustomer_User_Username(String username);
+
+    // Row lock (SELECT ... FOR UPDATE) used by the pessimistic transfer mode
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    // Resolve ids without locking so rows can be locked in ascending id order
+    @Query("SELECT a.id FROM Account a WHERE a.accountNumber IN :accountNumbers ORDER BY a.id")
+    List<Long> findIdsByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    @Query("SELECT a.accountNumber FROM Account a WHERE a.id IN :ids")
+    List<String> findAccountNumbersByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id FROM Account a WHERE a.customer.id = :customerId")
+    List<Long> findIdsByCustomerId(@Param("customerId") Long customerId);
+
+    boolean existsByCustomer_Id(Long customerId);
+
+    // Bulk purge
+    @Modifying
+    @Query("DELETE FROM Account a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
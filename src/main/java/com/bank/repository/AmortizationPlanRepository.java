@@ -0,0 +1,20 @@
+package com.bank.repository;
+
+import com.bank.model.AmortizationPlan;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AmortizationPlanRepository extends JpaRepository<AmortizationPlan, Long> {
+    Optional<AmortizationPlan> findByLoanId(Long loanId);
+
+    // Overdue engine: plans in [fromLoanId, toLoanId) with an installment that fell due without a row
+    @Query("SELECT p FROM AmortizationPlan p WHERE p.loan.id >= :fromLoanId AND p.loan.id < :toLoanId AND p.nextDueDate < :asOf")
+    List<AmortizationPlan> findWithUnmaterializedDues(@Param("fromLoanId") Long fromLoanId, @Param("toLoanId") Long toLoanId,
+                                                      @Param("asOf") LocalDate asOf);
+}
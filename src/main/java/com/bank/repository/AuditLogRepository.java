@@ -1,9 +1,14 @@
 package com.bank.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.bank.model.AppUser;
@@ -17,4 +22,14 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     List<AuditLog> findByUserAndActionOrderByTimestampDesc(AppUser user, String action);
     List<AuditLog> findByStatusOrderByTimestampDesc(AuditStatus status);
     long countByUserAndActionAndTimestampAfter(AppUser user, String action, LocalDateTime timestamp);
+
+    long countByUser_Id(Long userId);
+
+    // Bulk purge, chunked by id so each chunk commits on its own
+    @Query("SELECT a.id FROM AuditLog a WHERE a.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable limit);
+
+    @Modifying
+    @Query("DELETE FROM AuditLog a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,29 @@
+package com.bank.repository;
+
+import com.bank.model.BatchRun;
+import com.bank.model.BatchRunStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchRunRepository extends JpaRepository<BatchRun, Long> {
+    Optional<BatchRun> findByJobNameAndRunDate(String jobName, LocalDate runDate);
+
+    List<BatchRun> findByJobNameAndStatusAndUpdatedAtBefore(String jobName, BatchRunStatus status, LocalDateTime updatedBefore);
+
+    // Compare-and-set on the heartbeat: only one node takes over an abandoned run
+    @Modifying
+    @Query("UPDATE BatchRun r SET r.updatedAt = :now WHERE r.id = :id AND r.status = com.bank.model.BatchRunStatus.RUNNING AND r.updatedAt = :seen")
+    int claim(@Param("id") Long id, @Param("seen") LocalDateTime seen, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE BatchRun r SET r.lastKey = :lastKey, r.processed = r.processed + :processed, r.updatedAt = :now WHERE r.id = :id")
+    int advance(@Param("id") Long id, @Param("lastKey") Long lastKey, @Param("processed") long processed, @Param("now") LocalDateTime now);
+}
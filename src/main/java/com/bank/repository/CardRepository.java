@@ -2,8 +2,12 @@ package com.bank.repository;
 
 import com.bank.model.Account;
 import com.bank.model.Card;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CardRepository
 extends JpaRepository<Card, Long> {
@@ -13,4 +17,9 @@ extends JpaRepository<Card, Long> {
     
     // Module 3 additions
     List<Card> findByAccount(Account account);
+
+    // Bulk purge
+    @Modifying
+    @Query("DELETE FROM Card c WHERE c.account.id IN :accountIds")
+    int deleteByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
 }
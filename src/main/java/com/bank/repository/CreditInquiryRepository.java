@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -40,6 +41,21 @@ public interface CreditInquiryRepository extends JpaRepository<CreditInquiry, Lo
         @Param("sinceDate") LocalDate sinceDate
     );
     
+    // Credit profile batch: hard inquiries per customer since a date
+    @Query("SELECT ci.customer.id AS customerId, COUNT(ci) AS inquiries FROM CreditInquiry ci " +
+           "WHERE ci.customer.id IN :customerIds AND ci.inquiryType = 'HARD' AND ci.inquiryDate >= :sinceDate " +
+           "GROUP BY ci.customer.id")
+    List<CustomerCount> countHardInquiriesForCustomers(
+        @Param("customerIds") Collection<Long> customerIds,
+        @Param("sinceDate") LocalDate sinceDate
+    );
+    
+    interface CustomerCount {
+        Long getCustomerId();
+        
+        Long getInquiries();
+    }
+    
     // Find inquiries by customer ordered by date
     List<CreditInquiry> findByCustomerIdOrderByInquiryDateDesc(Long customerId);
 }
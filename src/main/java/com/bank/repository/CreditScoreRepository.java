@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,22 @@ public interface CreditScoreRepository extends JpaRepository<CreditScore, Long>
     @Query("SELECT cs FROM CreditScore cs WHERE cs.customer.id = :customerId ORDER BY cs.calculationDate DESC LIMIT 1")
     Optional<CreditScore> findLatestByCustomerId(@Param("customerId") Long customerId);
     
+    // Latest score per customer for a batch: each customer's latest calculation date from one grouped pass
+    // over idx_credit_score_customer_date_id, joined back to that day's rows. Rows come in id order, so when
+    // a day holds several scores the last row per customer is the last one written.
+    @Query(value = "SELECT cs.customer_id AS customerId, cs.score AS score FROM credit_scores cs " +
+           "JOIN (SELECT customer_id, MAX(calculation_date) AS latest FROM credit_scores " +
+           "WHERE customer_id IN (:customerIds) GROUP BY customer_id) m " +
+           "ON m.customer_id = cs.customer_id AND cs.calculation_date = m.latest ORDER BY cs.id",
+           nativeQuery = true)
+    List<LatestScore> findLatestScoresForCustomers(@Param("customerIds") Collection<Long> customerIds);
+    
+    interface LatestScore {
+        Long getCustomerId();
+        
+        Integer getScore();
+    }
+    
     // Find credit scores for a customer ordered by calculation date
     List<CreditScore> findByCustomerIdOrderByCalculationDateDesc(Long customerId);
     
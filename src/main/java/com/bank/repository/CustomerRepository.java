@@ -1,12 +1,46 @@
 package com.bank.repository;
 
 import com.bank.model.Customer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomerRepository
 extends JpaRepository<Customer, Long> {
     Optional<Customer> findByUser_Username(String username);
     Optional<Customer> findByEmail(String email);
+
+    // Keyset walk over all customers for batch jobs; pass PageRequest.of(0, n) as the limit
+    @Query("SELECT c.id FROM Customer c WHERE c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable limit);
+
+    // Credit mix inputs for a batch of customers: one row per customer, 1/0 per product held
+    @Query(value = "SELECT c.id AS customerId, " +
+           "EXISTS (SELECT 1 FROM account a WHERE a.customer_id = c.id) AS hasAccounts, " +
+           "EXISTS (SELECT 1 FROM fixed_deposits fd WHERE fd.customer_id = c.id) AS hasFixedDeposits, " +
+           "EXISTS (SELECT 1 FROM recurring_deposits rd WHERE rd.customer_id = c.id) AS hasRecurringDeposits, " +
+           "EXISTS (SELECT 1 FROM card k JOIN account a ON a.id = k.account_id WHERE a.customer_id = c.id) AS hasCards, " +
+           "EXISTS (SELECT 1 FROM insurance_policies ip WHERE ip.customer_id = c.id) AS hasInsurance " +
+           "FROM customer c WHERE c.id IN (:customerIds)",
+           nativeQuery = true)
+    List<ProductFlags> findProductFlags(@Param("customerIds") Collection<Long> customerIds);
+
+    interface ProductFlags {
+        Long getCustomerId();
+
+        Number getHasAccounts();
+
+        Number getHasFixedDeposits();
+
+        Number getHasRecurringDeposits();
+
+        Number getHasCards();
+
+        Number getHasInsurance();
+    }
 }
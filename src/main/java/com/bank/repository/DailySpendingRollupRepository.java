@@ -0,0 +1,58 @@
+package com.bank.repository;
+
+import com.bank.model.DailySpendingRollup;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface DailySpendingRollupRepository extends JpaRepository<DailySpendingRollup, Long> {
+
+    List<DailySpendingRollup> findByCustomerIdAndRollupDateBetween(Long customerId, LocalDate startDate, LocalDate endDate);
+
+    // Single-statement upsert on uk_rollup_key; joins the posting transaction when there is one
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO daily_spending_rollups (customer_id, rollup_date, type, category, total_paise, txn_count) " +
+           "VALUES (:customerId, :rollupDate, :type, :category, :paise, 1) " +
+           "ON DUPLICATE KEY UPDATE total_paise = total_paise + VALUES(total_paise), txn_count = txn_count + 1",
+           nativeQuery = true)
+    int increment(@Param("customerId") Long customerId,
+                  @Param("rollupDate") LocalDate rollupDate,
+                  @Param("type") String type,
+                  @Param("category") String category,
+                  @Param("paise") long paise);
+
+    @Modifying
+    @Query("DELETE FROM DailySpendingRollup r WHERE r.rollupDate >= :startDate AND r.rollupDate < :endDate")
+    int deleteByRollupDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query("DELETE FROM DailySpendingRollup r WHERE r.customerId = :customerId")
+    int deleteByCustomerId(@Param("customerId") Long customerId);
+
+    // Keys must be derived exactly as SpendingRollupService.onPosted derives them
+    String REBUILD_SELECT = "SELECT a.customer_id, DATE(t.date), COALESCE(t.type, 'UNKNOWN'), " +
+           "LEFT(COALESCE(t.description, 'UNCATEGORIZED'), 255), SUM(t.amount_paise), COUNT(*) " +
+           "FROM transaction t JOIN account a ON a.id = t.account_id WHERE a.customer_id IS NOT NULL ";
+    // Overwrites rather than adds, so a rebuild racing a live upsert still ends on the derived total
+    String REBUILD_GROUP = "GROUP BY a.customer_id, DATE(t.date), COALESCE(t.type, 'UNKNOWN'), " +
+           "LEFT(COALESCE(t.description, 'UNCATEGORIZED'), 255) " +
+           "ON DUPLICATE KEY UPDATE total_paise = VALUES(total_paise), txn_count = VALUES(txn_count)";
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_spending_rollups (customer_id, rollup_date, type, category, total_paise, txn_count) " +
+           REBUILD_SELECT + "AND t.date >= :start AND t.date < :end " + REBUILD_GROUP,
+           nativeQuery = true)
+    int rebuildRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_spending_rollups (customer_id, rollup_date, type, category, total_paise, txn_count) " +
+           REBUILD_SELECT + "AND a.customer_id = :customerId " + REBUILD_GROUP,
+           nativeQuery = true)
+    int rebuildCustomer(@Param("customerId") Long customerId);
+}
@@ -3,6 +3,9 @@ package com.bank.repository;
 import com.bank.model.AppUser;
 import com.bank.model.DeviceSession;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +17,9 @@ public interface DeviceSessionRepository extends JpaRepository<DeviceSession, Lo
     Optional<DeviceSession> findBySessionToken(String sessionToken);
     List<DeviceSession> findByUserOrderByLastActivityTimeDesc(AppUser user);
     long countByUserAndIsActiveTrue(AppUser user);
+
+    // Bulk purge
+    @Modifying
+    @Query("DELETE FROM DeviceSession d WHERE d.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
 }
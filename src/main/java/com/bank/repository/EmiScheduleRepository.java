@@ -1,9 +1,12 @@
 package com.bank.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,6 +22,32 @@ public interface EmiScheduleRepository extends JpaRepository<EmiSchedule, Long>
     
     List<EmiSchedule> findByLoanIdAndIsPaidFalse(Long loanId);
     
+    Optional<EmiSchedule> findByLoanIdAndEmiNumber(Long loanId, Integer emiNumber);
+    
+    List<EmiSchedule> findByLoanIdAndEmiNumberBetweenOrderByEmiNumberAsc(Long loanId, Integer fromEmiNumber, Integer toEmiNumber);
+    
+    @Query("SELECT MIN(e.emiNumber) FROM EmiSchedule e WHERE e.loan.id = :loanId AND e.isPaid = false")
+    Integer findFirstUnpaidEmiNumber(@Param("loanId") Long loanId);
+    
+    // Loan closed early: settles unpaid rows from fromEmiNumber on in one statement
+    @Modifying
+    @Query("UPDATE EmiSchedule e SET e.isPaid = true, e.paidDate = :paidDate, e.paidAmount = 0.0, e.updatedAt = :now " +
+           "WHERE e.loan.id = :loanId AND e.isPaid = false AND e.emiNumber >= :fromEmiNumber")
+    int settleUnpaidFrom(@Param("loanId") Long loanId, @Param("fromEmiNumber") Integer fromEmiNumber,
+                         @Param("paidDate") LocalDate paidDate, @Param("now") LocalDateTime now);
+    
+    // Restructure: unpaid rows from fromEmiNumber on are replaced by the new plan segment
+    @Modifying
+    @Query("DELETE FROM EmiSchedule e WHERE e.loan.id = :loanId AND e.isPaid = false AND e.emiNumber >= :fromEmiNumber")
+    int deleteUnpaidFrom(@Param("loanId") Long loanId, @Param("fromEmiNumber") Integer fromEmiNumber);
+    
+    @Query("SELECT MAX(e.emiNumber) FROM EmiSchedule e WHERE e.loan.id = :loanId AND e.isPaid = true")
+    Integer findLastPaidEmiNumber(@Param("loanId") Long loanId);
+    
+    @Query("SELECT COUNT(e) AS count, COALESCE(SUM(e.principalComponent), 0) AS principal, " +
+           "COALESCE(SUM(e.interestComponent), 0) AS interest FROM EmiSchedule e WHERE e.loan.id = :loanId AND e.isPaid = false")
+    UnpaidTotals sumUnpaid(@Param("loanId") Long loanId);
+    
     @Query("SELECT e FROM EmiSchedule e WHERE e.loan.customer.id = :customerId AND e.isPaid = false AND e.dueDate <= :date ORDER BY e.dueDate ASC")
     List<EmiSchedule> findUpcomingDues(@Param("customerId") Long customerId, @Param("date") LocalDate date);
     
@@ -33,4 +62,19 @@ public interface EmiScheduleRepository extends JpaRepository<EmiSchedule, Long>
     
     @Query("SELECT SUM(e.principalComponent) FROM EmiSchedule e WHERE e.loan.id = :loanId AND e.isPaid = true")
     Double getTotalPrincipalPaid(@Param("loanId") Long loanId);
+    
+    // Overdue engine: days overdue and penalty for every unpaid past-due EMI of loans in [fromLoanId, toLoanId)
+    @Modifying
+    @Query(value = "UPDATE emi_schedules SET days_overdue = DATEDIFF(:asOf, due_date), " +
+                   "penalty_amount = emi_amount * :dailyPenaltyRate * DATEDIFF(:asOf, due_date), updated_at = NOW() " +
+                   "WHERE loan_id >= :fromLoanId AND loan_id < :toLoanId AND is_paid = false AND due_date < :asOf",
+           nativeQuery = true)
+    int refreshOverdue(@Param("fromLoanId") Long fromLoanId, @Param("toLoanId") Long toLoanId,
+                       @Param("asOf") LocalDate asOf, @Param("dailyPenaltyRate") double dailyPenaltyRate);
+    
+    interface UnpaidTotals {
+        long getCount();
+        double getPrincipal();
+        double getInterest();
+    }
 }
@@ -3,9 +3,14 @@ package com.bank.repository;
 import com.bank.model.Customer;
 import com.bank.model.Loan;
 import com.bank.model.LoanStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +19,35 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
     
     Optional<Loan> findByLoanNumber(String loanNumber);
     
+    @Query("SELECT MAX(l.id) FROM Loan l")
+    Long findMaxId();
+    
     List<Loan> findByCustomer(Customer customer);
     
     List<Loan> findByCustomerAndStatus(Customer customer, LoanStatus status);
     
     List<Loan> findByStatus(LoanStatus status);
+    
+    // Amortization plan migration: loans after afterId that are repaying or have schedule rows, but no plan
+    @Query("SELECT l FROM Loan l WHERE l.id > :afterId " +
+           "AND (l.status IN :statuses OR EXISTS (SELECT e.id FROM EmiSchedule e WHERE e.loan = l)) " +
+           "AND NOT EXISTS (SELECT p.id FROM AmortizationPlan p WHERE p.loan = l) ORDER BY l.id")
+    List<Loan> findWithoutPlan(@Param("afterId") Long afterId, @Param("statuses") Collection<LoanStatus> statuses,
+                               Pageable pageable);
+    
+    // Credit profile batch: only the columns scoring reads, in id order like findByCustomer
+    @Query("SELECT l.customer.id AS customerId, l.outstandingAmount AS outstandingAmount, " +
+           "l.principalAmount AS principalAmount, l.applicationDate AS applicationDate " +
+           "FROM Loan l WHERE l.customer.id IN :customerIds ORDER BY l.customer.id, l.id")
+    List<CreditLine> findCreditLinesForCustomers(@Param("customerIds") Collection<Long> customerIds);
+    
+    interface CreditLine {
+        Long getCustomerId();
+        
+        Double getOutstandingAmount();
+        
+        Double getPrincipalAmount();
+        
+        LocalDate getApplicationDate();
+    }
 }
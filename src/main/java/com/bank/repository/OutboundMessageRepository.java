@@ -0,0 +1,49 @@
+package com.bank.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bank.model.MessageChannel;
+import com.bank.model.OutboundMessage;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface OutboundMessageRepository extends JpaRepository<OutboundMessage, Long> {
+
+    // FOR UPDATE SKIP LOCKED (lock timeout -2): several workers or nodes can claim disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM OutboundMessage m WHERE m.channel = :channel AND m.status = com.bank.model.OutboundMessageStatus.PENDING "
+         + "AND m.nextAttemptAt <= :now ORDER BY m.id")
+    List<OutboundMessage> findClaimable(@Param("channel") MessageChannel channel, @Param("now") LocalDateTime now, Pageable limit);
+
+    // A worker that died mid-send leaves its claim behind; put such messages back in the queue
+    @Modifying
+    @Query("UPDATE OutboundMessage m SET m.status = com.bank.model.OutboundMessageStatus.PENDING "
+         + "WHERE m.status = com.bank.model.OutboundMessageStatus.SENDING AND m.claimedAt < :before")
+    int releaseStaleClaims(@Param("before") LocalDateTime before);
+
+    // Parameters of messages that can no longer be usefully sent (an OTP past its validity) are cleared
+    @Modifying
+    @Query("UPDATE OutboundMessage m SET m.status = com.bank.model.OutboundMessageStatus.FAILED, m.payload = NULL, "
+         + "m.lastError = 'Expired before delivery' WHERE m.template = :template "
+         + "AND m.status = com.bank.model.OutboundMessageStatus.PENDING AND m.createdAt < :before")
+    int expireUndelivered(@Param("template") String template, @Param("before") LocalDateTime before);
+
+    // Retention for finished rows; bounded so one run never holds a long delete
+    @Modifying
+    @Query(value = "DELETE FROM outbound_messages WHERE status IN ('SENT', 'FAILED') AND created_at < :before LIMIT :limit",
+           nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
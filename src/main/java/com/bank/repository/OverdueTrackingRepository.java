@@ -3,15 +3,24 @@ package com.bank.repository;
 import com.bank.model.OverdueTracking;
 import com.bank.model.OverdueStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface OverdueTrackingRepository extends JpaRepository<OverdueTracking, Long> {
     
+    // OverdueStatus bucket for emi_schedules e, which the overdue engine has already refreshed
+    String STATUS_BUCKET = "CASE WHEN e.days_overdue <= 30 THEN 'OVERDUE_1_30' " +
+                           "WHEN e.days_overdue <= 60 THEN 'OVERDUE_31_60' " +
+                           "WHEN e.days_overdue <= 90 THEN 'OVERDUE_61_90' ELSE 'OVERDUE_90_PLUS' END";
+    
+    String OVERDUE_EMIS_IN_RANGE = "e.loan_id >= :fromLoanId AND e.loan_id < :toLoanId AND e.is_paid = false AND e.due_date < :asOf";
+    
     List<OverdueTracking> findByLoanId(Long loanId);
     
     List<OverdueTracking> findByCustomerId(Long customerId);
@@ -30,4 +39,43 @@ public interface OverdueTrackingRepository extends JpaRepository<OverdueTracking
     
     @Query("SELECT COUNT(o) FROM OverdueTracking o WHERE o.customer.id = :customerId AND o.isResolved = false")
     Long countActiveOverdues(@Param("customerId") Long customerId);
+    
+    // Overdue engine: copies refreshed EMI figures onto the active tracking row of each overdue EMI in range
+    @Modifying
+    @Query(value = "UPDATE overdue_trackings o JOIN emi_schedules e ON e.id = o.emi_schedule_id " +
+                   "SET o.overdue_status = " + STATUS_BUCKET + ", o.days_overdue = e.days_overdue, " +
+                   "o.penalty_amount = e.penalty_amount, o.total_overdue_amount = e.emi_amount + e.penalty_amount, " +
+                   "o.updated_at = NOW() WHERE o.is_resolved = false AND " + OVERDUE_EMIS_IN_RANGE,
+           nativeQuery = true)
+    int refreshActiveForLoans(@Param("fromLoanId") Long fromLoanId, @Param("toLoanId") Long toLoanId, @Param("asOf") LocalDate asOf);
+    
+    // Overdue engine: opens a tracking row for each overdue EMI in range that has no active one yet
+    @Modifying
+    @Query(value = "INSERT INTO overdue_trackings (loan_id, customer_id, emi_schedule_id, overdue_status, emi_due_date, " +
+                   "emi_amount, days_overdue, total_overdue_amount, penalty_amount, notification_sent, notification_count, " +
+                   "is_resolved, created_at, updated_at) " +
+                   "SELECT e.loan_id, l.customer_id, e.id, " + STATUS_BUCKET + ", e.due_date, e.emi_amount, e.days_overdue, " +
+                   "e.emi_amount + e.penalty_amount, e.penalty_amount, false, 0, false, NOW(), NOW() " +
+                   "FROM emi_schedules e JOIN loans l ON l.id = e.loan_id WHERE " + OVERDUE_EMIS_IN_RANGE + " " +
+                   "AND NOT EXISTS (SELECT 1 FROM overdue_trackings o WHERE o.emi_schedule_id = e.id AND o.is_resolved = false)",
+           nativeQuery = true)
+    int openMissingForLoans(@Param("fromLoanId") Long fromLoanId, @Param("toLoanId") Long toLoanId, @Param("asOf") LocalDate asOf);
+    
+    String UNPAID_EMIS_FROM = "SELECT id FROM emi_schedules WHERE loan_id = :loanId AND is_paid = false AND emi_number >= :fromEmiNumber";
+    
+    // Closes the active tracking of unpaid EMIs from fromEmiNumber on (loan closed or restructured)
+    @Modifying
+    @Query(value = "UPDATE overdue_trackings SET is_resolved = true, resolution_date = :resolutionDate, " +
+                   "collection_status = 'RESOLVED', collection_remarks = :remarks, updated_at = NOW() " +
+                   "WHERE loan_id = :loanId AND is_resolved = false AND emi_schedule_id IN (" + UNPAID_EMIS_FROM + ")",
+           nativeQuery = true)
+    int resolveForUnpaidFrom(@Param("loanId") Long loanId, @Param("fromEmiNumber") Integer fromEmiNumber,
+                             @Param("resolutionDate") LocalDate resolutionDate, @Param("remarks") String remarks);
+    
+    // Keeps tracking history when the EMI rows it points at are deleted
+    @Modifying
+    @Query(value = "UPDATE overdue_trackings SET emi_schedule_id = NULL, updated_at = NOW() " +
+                   "WHERE loan_id = :loanId AND emi_schedule_id IN (" + UNPAID_EMIS_FROM + ")",
+           nativeQuery = true)
+    int detachUnpaidFrom(@Param("loanId") Long loanId, @Param("fromEmiNumber") Integer fromEmiNumber);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -51,6 +52,26 @@ public interface PaymentHistoryRepository extends JpaRepository<PaymentHistory,
         @Param("sinceDate") LocalDate sinceDate
     );
     
+    // Credit profile batch: payment counts per customer and status since a date
+    @Query("SELECT ph.customer.id AS customerId, ph.status AS status, COUNT(ph) AS payments, " +
+           "SUM(CASE WHEN ph.daysLate IS NOT NULL THEN 1 ELSE 0 END) AS withDaysLate " +
+           "FROM PaymentHistory ph WHERE ph.customer.id IN :customerIds AND ph.paymentDate >= :sinceDate " +
+           "GROUP BY ph.customer.id, ph.status")
+    List<StatusCount> countByStatusForCustomers(
+        @Param("customerIds") Collection<Long> customerIds,
+        @Param("sinceDate") LocalDate sinceDate
+    );
+    
+    interface StatusCount {
+        Long getCustomerId();
+        
+        String getStatus();
+        
+        Long getPayments();
+        
+        Long getWithDaysLate();
+    }
+    
     // Find payment history ordered by date
     List<PaymentHistory> findByCustomerIdOrderByPaymentDateDesc(Long customerId);
 }
@@ -1,8 +1,16 @@
 package com.bank.repository;
 
 import com.bank.model.PendingTransfer;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PendingTransferRepository
 extends JpaRepository<PendingTransfer, Long> {
+    // Bulk purge
+    @Modifying
+    @Query("DELETE FROM PendingTransfer p WHERE p.fromAccount IN :accountNumbers OR p.toAccount IN :accountNumbers")
+    int deleteByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
 }
@@ -0,0 +1,17 @@
+package com.bank.repository;
+
+import com.bank.model.PurgeJob;
+import com.bank.model.PurgeJobStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PurgeJobRepository extends JpaRepository<PurgeJob, Long> {
+    List<PurgeJob> findByStatusInAndUpdatedAtBefore(Collection<PurgeJobStatus> statuses, LocalDateTime updatedBefore);
+
+    List<PurgeJob> findByStatusAndFailedAttemptsLessThanAndUpdatedAtBefore(PurgeJobStatus status, Integer maxAttempts,
+                                                                          LocalDateTime updatedBefore);
+}
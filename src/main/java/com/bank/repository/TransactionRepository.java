@@ -3,12 +3,19 @@ package com.bank.repository;
 import com.bank.model.Account;
 import com.bank.model.Transaction;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface TransactionRepository
 extends JpaRepository<Transaction, Long> {
@@ -23,4 +30,76 @@ extends JpaRepository<Transaction, Long> {
     List<Transaction> findByAccountAndDateBetween(Account account, LocalDateTime startDate, LocalDateTime endDate);
     
     Optional<Transaction> findTopByAccountOrderByDateDesc(Account account);
+
+    // Keyset (seek) pagination over idx_txn_account_date_id; pass PageRequest.of(0, limit) to bound the slice
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId ORDER BY t.date DESC, t.id DESC")
+    List<Transaction> findLatestByAccountId(@Param("accountId") Long accountId, Pageable limit);
+
+    // Dated rows only, so the range stays on the index; TransactionCursor continues into the undated ones
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId " +
+           "AND (t.date < :lastDate OR (t.date = :lastDate AND t.id < :lastId)) " +
+           "ORDER BY t.date DESC, t.id DESC")
+    List<Transaction> findByAccountIdBefore(@Param("accountId") Long accountId,
+                                            @Param("lastDate") LocalDateTime lastDate,
+                                            @Param("lastId") Long lastId,
+                                            Pageable limit);
+
+    // Undated rows sort after every dated one (NULL is lowest in MySQL), so they follow in id order
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId AND t.date IS NULL AND t.id < :lastId " +
+           "ORDER BY t.id DESC")
+    List<Transaction> findUndatedByAccountIdBefore(@Param("accountId") Long accountId,
+                                                   @Param("lastId") Long lastId,
+                                                   Pageable limit);
+
+    // Statement export: forward-only cursor in posting order; must be consumed (and closed) inside a transaction
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId AND t.date BETWEEN :startDate AND :endDate " +
+           "ORDER BY t.date, t.id")
+    Stream<Transaction> streamByAccountIdAndDateBetween(@Param("accountId") Long accountId,
+                                                        @Param("startDate") LocalDateTime startDate,
+                                                        @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * Analytics totals for all of a customer's accounts in one round trip: one row per transaction type
+     * (dimension TYPE), per description (CATEGORY) and per calendar day (DAY, bucket yyyy-MM-dd).
+     */
+    @Query(value = "SELECT 'TYPE' AS dimension, t.type AS bucket, SUM(t.amount_paise) AS paise, COUNT(*) AS txnCount " +
+           "FROM transaction t JOIN account a ON a.id = t.account_id " +
+           "WHERE a.customer_id = :customerId AND t.date BETWEEN :startDate AND :endDate GROUP BY t.type " +
+           "UNION ALL " +
+           "SELECT 'CATEGORY', COALESCE(t.description, 'UNCATEGORIZED'), SUM(t.amount_paise), COUNT(*) " +
+           "FROM transaction t JOIN account a ON a.id = t.account_id " +
+           "WHERE a.customer_id = :customerId AND t.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY COALESCE(t.description, 'UNCATEGORIZED') " +
+           "UNION ALL " +
+           "SELECT 'DAY', CAST(DATE(t.date) AS CHAR), SUM(t.amount_paise), COUNT(*) " +
+           "FROM transaction t JOIN account a ON a.id = t.account_id " +
+           "WHERE a.customer_id = :customerId AND t.date BETWEEN :startDate AND :endDate GROUP BY DATE(t.date)",
+           nativeQuery = true)
+    List<AnalyticsAggregate> aggregateForCustomer(@Param("customerId") Long customerId,
+                                                  @Param("startDate") LocalDateTime startDate,
+                                                  @Param("endDate") LocalDateTime endDate);
+
+    interface AnalyticsAggregate {
+        String getDimension();
+
+        String getBucket();
+
+        Long getPaise();
+
+        Long getTxnCount();
+    }
+
+    long countByAccount_IdIn(Collection<Long> accountIds);
+
+    // Bulk purge, chunked by id so each chunk commits on its own
+    @Query("SELECT t.id FROM Transaction t WHERE t.account.id IN :accountIds")
+    List<Long> findIdsByAccountIdIn(@Param("accountIds") Collection<Long> accountIds, Pageable limit);
+
+    @Modifying
+    @Query("DELETE FROM Transaction t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -3,6 +3,9 @@ package com.bank.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.bank.model.UserPreferences;
@@ -13,4 +16,9 @@ public interface UserPreferencesRepository extends JpaRepository<UserPreferences
     Optional<UserPreferences> findByCustomer_User_Username(String username);
     
     Optional<UserPreferences> findByCustomer_Id(Long customerId);
+
+    // Bulk purge
+    @Modifying
+    @Query("DELETE FROM UserPreferences p WHERE p.customer.id = :customerId")
+    int deleteByCustomerId(@Param("customerId") Long customerId);
 }
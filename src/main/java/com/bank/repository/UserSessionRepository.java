@@ -1,10 +1,14 @@
 package com.bank.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.bank.model.AppUser;
@@ -18,4 +22,25 @@ public interface UserSessionRepository extends JpaRepository<UserSession, Long>
     void deleteByUser(AppUser user);
     void deleteByExpiresAtBefore(LocalDateTime dateTime);
     long countByUserAndActiveTrue(AppUser user);
+
+    // Used to warm the in-memory session registry on startup
+    @Query("SELECT s FROM UserSession s JOIN FETCH s.user WHERE s.active = true AND s.expiresAt > :now")
+    List<UserSession> findLiveSessions(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE UserSession s SET s.active = false WHERE s.sessionToken = :token")
+    int deactivateBySessionToken(@Param("token") String token);
+
+    @Modifying
+    @Query("UPDATE UserSession s SET s.active = false WHERE s.user = :user AND s.active = true")
+    int deactivateAllByUser(@Param("user") AppUser user);
+
+    @Modifying
+    @Query("DELETE FROM UserSession s WHERE s.sessionToken IN :tokens")
+    int deleteBySessionTokenIn(@Param("tokens") Collection<String> tokens);
+
+    // Bounded sweep over idx_session_expires_at for rows the registry no longer tracks (logged out, evicted)
+    @Modifying
+    @Query(value = "DELETE FROM user_sessions WHERE expires_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
@@ -25,8 +25,12 @@ implements UserDetailsService {
         if (u == null) {
             throw new UsernameNotFoundException("User not found");
         }
-        String role = u.getRole();
+        return new User(u.getUsername(), u.getPassword(), Collections.singletonList(toAuthority(u.getRole())));
+    }
+
+    /** Stored roles may or may not carry the ROLE_ prefix; authorities always do. */
+    public static SimpleGrantedAuthority toAuthority(String role) {
         String authority = role != null && role.startsWith("ROLE_") ? role : "ROLE_" + role;
-        return new User(u.getUsername(), u.getPassword(), Collections.singletonList(new SimpleGrantedAuthority(authority)));
+        return new SimpleGrantedAuthority(authority);
     }
 }
@@ -7,12 +7,15 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import io.jsonwebtoken.Claims;
+import com.bank.config.JwtProperties;
+
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -28,6 +31,10 @@ extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
     @Autowired
     private AppUserDetailsService userDetailsService;
+    @Autowired
+    private UserAuthCache userAuthCache;
+    @Autowired
+    private JwtProperties jwtProperties;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
@@ -35,19 +42,36 @@ extends OncePerRequestFilter {
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
             try {
-                Claims claims = this.jwtUtil.parseToken(token);
-                String username = claims.getSubject();
+                // Signature is checked once per distinct token; repeats hit JwtUtil's verified-token cache
+                VerifiedToken verified = this.jwtUtil.verify(token);
+                String username = verified.getUsername();
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                    UserDetails userDetails = resolveUser(verified);
                     UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken((Object)userDetails, null, userDetails.getAuthorities());
                     auth.setDetails((Object)new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication((Authentication)auth);
                 }
             }
-            catch (JwtException | IllegalArgumentException throwable) {
+            catch (JwtException | IllegalArgumentException | UsernameNotFoundException throwable) {
                 // empty catch block
             }
         }
         filterChain.doFilter((ServletRequest)request, (ServletResponse)response);
     }
+
+    /**
+     * In CLAIMS mode the verified role claim is enough and no query is made, unless the user was
+     * invalidated after the token was issued. Otherwise the user comes from the (cached) database lookup.
+     */
+    private UserDetails resolveUser(VerifiedToken verified) {
+        String username = verified.getUsername();
+        if (this.jwtProperties.getAuthMode() == JwtProperties.AuthMode.CLAIMS && verified.getRole() != null
+                && !this.userAuthCache.isStale(username, verified.getIssuedAt())) {
+            return User.withUsername(username)
+                    .password("")
+                    .authorities(AppUserDetailsService.toAuthority(verified.getRole()))
+                    .build();
+        }
+        return this.userAuthCache.get(username, this.userDetailsService::loadUserByUsername);
+    }
 }
@@ -1,23 +1,73 @@
 package com.bank.security;
 
 import com.bank.config.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
+    // Upper bound on remembered verifications; beyond it Caffeine evicts the least valuable entries
+    private static final int VERIFIED_CACHE_MAX = 10000;
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
     @Autowired
     private JwtProperties jwtProperties;
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(this.jwtProperties.getSecret().getBytes());
+    // Built once: the HMAC key and the parser are immutable and safe to share across threads
+    private Key signingKey;
+    private JwtParser parser;
+
+    /** SHA-256 of a token string -> its verified claims, each entry expiring with its token. */
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(this.jwtProperties.getSecret().getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(this.signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_CACHE_MAX)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                    long remainingMs = token.getExpiration().getTime() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                }
+
+                @Override
+                public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
     }
 
     // Generate access token with role
@@ -25,59 +75,70 @@ public class JwtUtil {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", role);
         claims.put("type", "access");
-        
+
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getExpirationMs()))
-                .signWith(this.key())
+                .signWith(this.signingKey)
                 .compact();
     }
 
-    // Generate access token without role (backward compatibility)
-    public String generateToken(String username) {
-        return generateToken(username, "ROLE_CUSTOMER");
-    }
-
     // Generate refresh token (longer expiration)
     public String generateRefreshToken(String username) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("type", "refresh");
-        
+
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + (jwtProperties.getExpirationMs() * 24))) // 24 hours
-                .signWith(this.key())
+                .signWith(this.signingKey)
                 .compact();
     }
 
     // Parse and validate token
     public Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(this.key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return this.parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Verifies signature and expiry once and returns the typed claims. A token seen before is answered
+     * from the digest cache without repeating the HMAC, until it expires.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached;
+        }
+        Claims claims = parseToken(token);
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), (String) claims.get("role"),
+            (String) claims.get("type"), claims.getIssuedAt(), claims.getExpiration());
+        if (verified.getExpiration() != null) {
+            verifiedTokens.put(digest, verified);
+        }
+        return verified;
     }
 
     // Extract username from token
     public String extractUsername(String token) {
-        return parseToken(token).getSubject();
+        return verify(token).getUsername();
     }
 
     // Extract role from token
     public String extractRole(String token) {
-        Claims claims = parseToken(token);
-        return (String) claims.get("role");
+        return verify(token).getRole();
     }
 
     // Check if token is expired
     public boolean isTokenExpired(String token) {
         try {
-            return parseToken(token).getExpiration().before(new Date());
+            return verify(token).isExpired(System.currentTimeMillis());
         } catch (Exception e) {
             return true;
         }
@@ -86,8 +147,8 @@ public class JwtUtil {
     // Validate token
     public boolean validateToken(String token, String username) {
         try {
-            String extractedUsername = extractUsername(token);
-            return (extractedUsername.equals(username) && !isTokenExpired(token));
+            VerifiedToken verified = verify(token);
+            return verified.getUsername().equals(username) && !verified.isExpired(System.currentTimeMillis());
         } catch (Exception e) {
             return false;
         }
@@ -96,10 +157,15 @@ public class JwtUtil {
     // Check if token is a refresh token
     public boolean isRefreshToken(String token) {
         try {
-            Claims claims = parseToken(token);
-            return "refresh".equals(claims.get("type"));
+            return verify(token).isRefreshToken();
         } catch (Exception e) {
             return false;
         }
     }
+
+    private static String digest(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        return Base64.getEncoder().encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
 }
@@ -1,6 +1,7 @@
 package com.bank.security;
 
 import com.bank.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Filter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -33,9 +34,10 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    // ASYNC dispatches only finish a response (SSE, streamed exports) whose request was already authorized
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        http.csrf(csrf -> csrf.disable()).sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS)).authorizeHttpRequests(auth -> ((AuthorizeHttpRequestsConfigurer.AuthorizedUrl)((AuthorizeHttpRequestsConfigurer.AuthorizedUrl)((AuthorizeHttpRequestsConfigurer.AuthorizedUrl)auth.requestMatchers(new String[]{"/api/auth/**"})).permitAll().requestMatchers(new String[]{"/h2-console/**"})).permitAll().anyRequest()).authenticated()).httpBasic(Customizer.withDefaults());
+        http.csrf(csrf -> csrf.disable()).sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS)).authorizeHttpRequests(auth -> ((AuthorizeHttpRequestsConfigurer.AuthorizedUrl)((AuthorizeHttpRequestsConfigurer.AuthorizedUrl)((AuthorizeHttpRequestsConfigurer.AuthorizedUrl)((AuthorizeHttpRequestsConfigurer.AuthorizedUrl)((AuthorizeHttpRequestsConfigurer.AuthorizedUrl)auth.dispatcherTypeMatchers(new DispatcherType[]{DispatcherType.ASYNC})).permitAll().requestMatchers(new String[]{"/api/auth/**"})).permitAll().requestMatchers(new String[]{"/h2-console/**"})).permitAll().requestMatchers(new String[]{"/actuator/metrics", "/actuator/metrics/**"})).hasRole("ADMIN").anyRequest()).authenticated()).httpBasic(Customizer.withDefaults());
         http.addFilterBefore((Filter)this.jwtFilter, UsernamePasswordAuthenticationFilter.class);
         http.headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()));
         return (SecurityFilterChain)http.build();
@@ -0,0 +1,67 @@
+package com.bank.security;
+
+import com.bank.config.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size- and TTL-bounded cache of {@link UserDetails} for request authentication, plus a per-user
+ * invalidation timestamp. Tokens issued before a user's last invalidation (role change, logout,
+ * revoke-all, password change, deletion) are no longer trusted on their claims alone.
+ */
+@Component
+public class UserAuthCache {
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    private Cache<String, UserDetails> users;
+    // Kept for the longest token lifetime (refresh tokens); older marks can no longer match a live token
+    private Cache<String, Long> invalidatedAt;
+
+    @PostConstruct
+    void init() {
+        JwtProperties.UserCache config = jwtProperties.getUserCache();
+        users = Caffeine.newBuilder()
+            .maximumSize(config.getMaxSize())
+            .expireAfterWrite(Duration.ofSeconds(config.getTtlSeconds()))
+            .build();
+        invalidatedAt = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(jwtProperties.getExpirationMs() * 24))
+            .build();
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        if (!jwtProperties.getUserCache().isEnabled()) {
+            return loader.apply(username);
+        }
+        UserDetails cached = users.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+        UserDetails details = loader.apply(username);
+        users.put(username, details);
+        return details;
+    }
+
+    /** True if the token was issued at or before the user's last invalidation. */
+    public boolean isStale(String username, Date issuedAt) {
+        Long since = invalidatedAt.getIfPresent(username);
+        return since != null && (issuedAt == null || issuedAt.getTime() <= since);
+    }
+
+    public void invalidate(String username) {
+        if (username == null) {
+            return;
+        }
+        users.invalidate(username);
+        invalidatedAt.put(username, System.currentTimeMillis());
+    }
+}
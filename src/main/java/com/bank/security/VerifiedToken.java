@@ -0,0 +1,51 @@
+package com.bank.security;
+
+import java.util.Date;
+
+/**
+ * Claims of a JWT whose signature has already been checked. Produced once per token by
+ * {@link JwtUtil#verify(String)} so callers never re-parse the same string.
+ */
+public class VerifiedToken {
+    private final String username;
+    private final String role;
+    private final String type;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    public VerifiedToken(String username, String role, String type, Date issuedAt, Date expiration) {
+        this.username = username;
+        this.role = role;
+        this.type = type;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Date getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiration != null && expiration.getTime() <= nowMillis;
+    }
+}
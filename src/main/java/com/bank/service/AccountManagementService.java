@@ -6,11 +6,13 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.bank.dto.AccountCreationRequest;
 import com.bank.dto.AccountDetailsResponse;
+import com.bank.event.AccountsChangedEvent;
 import com.bank.model.Account;
 import com.bank.model.AppUser;
 import com.bank.model.Customer;
@@ -35,6 +37,9 @@ public class AccountManagementService {
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private static final SecureRandom random = new SecureRandom();
 
     /**
@@ -66,6 +71,7 @@ public class AccountManagementService {
     account.setBalance(request.getInitialDeposit() == null ? 0.0 : request.getInitialDeposit());
         
         account = accountRepository.save(account);
+        eventPublisher.publishEvent(new AccountsChangedEvent(this, customer.getId()));
 
         return mapToDetailsResponse(account);
     }
@@ -0,0 +1,96 @@
+package com.bank.service;
+
+import com.bank.dto.EmiScheduleDto;
+import com.bank.model.AmortizationPlan;
+import com.bank.model.EmiSchedule;
+
+/**
+ * Installments of an {@link AmortizationPlan} from the closed-form reducing-balance formulas, so any
+ * installment costs O(1) whatever the tenure. Balances are the same values the month-by-month loop produced:
+ * {@code B(k) = P(1+r)^k - E((1+r)^k - 1)/r}, principal component {@code E - r B(k-1)}.
+ */
+public final class AmortizationEngine {
+
+    private AmortizationEngine() {
+    }
+
+    public static double monthlyRate(double annualRate) {
+        return annualRate / 12 / 100;
+    }
+
+    /**
+     * Level EMI for a principal over {@code months}: P * r * (1+r)^n / ((1+r)^n - 1)
+     */
+    public static double emi(double principal, double annualRate, int months) {
+        double r = monthlyRate(annualRate);
+        if (r == 0) {
+            return principal / months;
+        }
+        double growth = Math.pow(1 + r, months);
+        return principal * r * growth / (growth - 1);
+    }
+
+    /**
+     * Principal still owed once installment {@code emiNumber} is paid, not floored at zero. Numbers
+     * before the segment give its opening principal.
+     */
+    public static double balanceAfter(AmortizationPlan plan, int emiNumber) {
+        int k = Math.max(0, Math.min(plan.getTenureMonths(), emiNumber - plan.getFirstEmiNumber() + 1));
+        double p = plan.getPrincipal();
+        double e = plan.getEmiAmount();
+        double r = monthlyRate(plan.getAnnualRate());
+        if (r == 0) {
+            return p - e * k;
+        }
+        double growth = Math.pow(1 + r, k);
+        return p * growth - e * (growth - 1) / r;
+    }
+
+    /** Sum of the principal components of installments {@code fromEmiNumber} to the end of the segment. */
+    public static double principalFrom(AmortizationPlan plan, int fromEmiNumber) {
+        return balanceAfter(plan, fromEmiNumber - 1) - balanceAfter(plan, plan.lastEmiNumber());
+    }
+
+    /** Sum of the interest components of installments {@code fromEmiNumber} to the end of the segment. */
+    public static double interestFrom(AmortizationPlan plan, int fromEmiNumber) {
+        return plan.getEmiAmount() * remainingFrom(plan, fromEmiNumber) - principalFrom(plan, fromEmiNumber);
+    }
+
+    public static int remainingFrom(AmortizationPlan plan, int fromEmiNumber) {
+        return Math.max(0, plan.lastEmiNumber() - Math.max(fromEmiNumber, plan.getFirstEmiNumber()) + 1);
+    }
+
+    /** An installment that has no emi_schedules row yet. */
+    public static EmiScheduleDto installment(AmortizationPlan plan, int emiNumber) {
+        double opening = balanceAfter(plan, emiNumber - 1);
+        double interest = opening * monthlyRate(plan.getAnnualRate());
+        EmiScheduleDto dto = new EmiScheduleDto();
+        dto.setEmiNumber(emiNumber);
+        dto.setDueDate(plan.dueDateOf(emiNumber));
+        dto.setEmiAmount(plan.getEmiAmount());
+        dto.setInterestComponent(interest);
+        dto.setPrincipalComponent(plan.getEmiAmount() - interest);
+        dto.setOutstandingPrincipal(Math.max(0, opening - (plan.getEmiAmount() - interest)));
+        dto.setIsPaid(false);
+        dto.setDaysOverdue(0);
+        dto.setPenaltyAmount(0.0);
+        return dto;
+    }
+
+    /** The row to persist when an installment is paid or falls due. */
+    public static EmiSchedule toRow(AmortizationPlan plan, int emiNumber) {
+        EmiScheduleDto dto = installment(plan, emiNumber);
+        EmiSchedule row = new EmiSchedule();
+        row.setLoan(plan.getLoan());
+        row.setEmiNumber(emiNumber);
+        row.setDueDate(dto.getDueDate());
+        row.setEmiAmount(dto.getEmiAmount());
+        row.setInterestComponent(dto.getInterestComponent());
+        row.setPrincipalComponent(dto.getPrincipalComponent());
+        row.setOutstandingPrincipal(dto.getOutstandingPrincipal());
+        row.setIsPaid(false);
+        row.setDaysOverdue(0);
+        row.setPenaltyAmount(0.0);
+        return row;
+    }
+}
@@ -0,0 +1,137 @@
+package com.bank.service;
+
+import com.bank.model.AmortizationPlan;
+import com.bank.model.EmiSchedule;
+import com.bank.model.Loan;
+import com.bank.model.LoanStatus;
+import com.bank.repository.AmortizationPlanRepository;
+import com.bank.repository.EmiScheduleRepository;
+import com.bank.repository.LoanRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * One-off conversion of loans disbursed before amortization plans existed. Such a loan's schedule was
+ * written in full at disbursement. Rows up to the last paid or past-due one stay; the not-yet-due tail
+ * is replaced with a plan segment. Runs at startup and finds nothing to do once every loan has a plan.
+ * Run database/amortization-plan-anchor-migration.sql first so legacy emi numbers are unique per loan.
+ */
+@Component
+public class AmortizationPlanMigration {
+    private static final Logger logger = LoggerFactory.getLogger(AmortizationPlanMigration.class);
+
+    private static final int BATCH_SIZE = 200;
+
+    // Loans repaying without rows yet; loans in any status with rows are migrated too
+    private static final List<LoanStatus> REPAYING = List.of(LoanStatus.DISBURSED, LoanStatus.ACTIVE);
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private EmiScheduleRepository emiScheduleRepository;
+
+    @Autowired
+    private AmortizationPlanRepository amortizationPlanRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacySchedules() {
+        long afterId = 0L;
+        boolean retried = false;
+        int migrated = 0;
+        while (true) {
+            List<Loan> loans = loanRepository.findWithoutPlan(afterId, REPAYING, PageRequest.of(0, BATCH_SIZE));
+            if (loans.isEmpty()) {
+                break;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Loan loan : loans) {
+                        amortizationPlanRepository.save(planFromRows(loan));
+                    }
+                    amortizationPlanRepository.flush();
+                });
+                migrated += loans.size();
+            } catch (DataIntegrityViolationException e) {
+                // Another node migrated some of this batch first: the batch rolled back, so read it again
+                // without the loans that now have plans
+                if (!retried) {
+                    retried = true;
+                    continue;
+                }
+                throw e;
+            }
+            retried = false;
+            afterId = loans.get(loans.size() - 1).getId();
+        }
+        if (migrated > 0) {
+            logger.info("Amortization plans created for {} legacy loans", migrated);
+        }
+    }
+
+    private AmortizationPlan planFromRows(Loan loan) {
+        List<EmiSchedule> rows = emiScheduleRepository.findByLoanIdOrderByEmiNumberAsc(loan.getId());
+        if (rows.isEmpty()) {
+            LocalDate disbursed = loan.getDisbursementDate() != null ? loan.getDisbursementDate() : LocalDate.now();
+            return LoanManagementService.newPlan(loan, disbursed);
+        }
+
+        AmortizationPlan plan = new AmortizationPlan();
+        plan.setLoan(loan);
+        LocalDate today = LocalDate.now();
+        int keep = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).getIsPaid() || rows.get(i).getDueDate().isBefore(today)) {
+                keep = i + 1;
+            }
+        }
+        EmiSchedule last = rows.get(rows.size() - 1);
+        if (keep == rows.size()) {
+            plan.setDueAnchor(last.getDueDate());
+            plan.setDueAnchorEmiNumber(last.getEmiNumber());
+            plan.startSegment(last.getEmiNumber() + 1, 0.0, loan.getInterestRate(), last.getEmiAmount(), 0);
+            return plan;
+        }
+
+        List<EmiSchedule> tail = rows.subList(keep, rows.size());
+        EmiSchedule first = tail.get(0);
+        // Legacy due dates were start date plus i months, clamped to short months; the latest day of month
+        // in the tail is the unclamped one
+        EmiSchedule anchor = first;
+        for (EmiSchedule row : tail) {
+            if (row.getDueDate().getDayOfMonth() > anchor.getDueDate().getDayOfMonth()) {
+                anchor = row;
+            }
+        }
+        plan.setDueAnchor(anchor.getDueDate());
+        plan.setDueAnchorEmiNumber(anchor.getEmiNumber());
+        double opening = first.getOutstandingPrincipal() + first.getPrincipalComponent();
+        double annualRate = opening > 0 ? first.getInterestComponent() / opening * 12 * 100 : loan.getInterestRate();
+        plan.startSegment(first.getEmiNumber(), opening, annualRate, first.getEmiAmount(),
+                last.getEmiNumber() - first.getEmiNumber() + 1);
+        emiScheduleRepository.deleteAllInBatch(new ArrayList<>(tail));
+        return plan;
+    }
+}
@@ -0,0 +1,198 @@
+package com.bank.service;
+
+import com.bank.config.AnalyticsProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-customer cache of analytics responses, bounded by size (Caffeine's W-TinyLFU) and TTL. Concurrent
+ * misses for the same key share one load. Postings invalidate only the affected customer's entries,
+ * and a load that overlaps an invalidation is returned to its waiters but never stored.
+ */
+@Component
+public class AnalyticsCache {
+
+    public enum Kind {
+        TRANSACTION_ANALYTICS,
+        ACCOUNT_SUMMARY
+    }
+
+    private static final int VERSION_STRIPES = 1024;
+
+    @Autowired
+    private AnalyticsProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<Key, CompletableFuture<Object>> cache;
+    // Index for per-customer invalidation; a key leaves it whenever its entry leaves the cache, and empty sets go
+    private final Map<Long, Set<Key>> keysByCustomer = new ConcurrentHashMap<>();
+    // Bumped on every invalidation; a load that saw a different value may be stale
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private Counter hits;
+    private Counter misses;
+    private Counter coalesced;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(properties.getCacheMaxSize())
+            .expireAfterWrite(Duration.ofSeconds(properties.getCacheTtlSeconds()))
+            .evictionListener((Key key, CompletableFuture<Object> value, RemovalCause cause) -> {
+                if (key != null) {
+                    unindex(key);
+                }
+            })
+            .build();
+        hits = meterRegistry.counter("bank.analytics.cache", "result", "hit");
+        misses = meterRegistry.counter("bank.analytics.cache", "result", "miss");
+        coalesced = meterRegistry.counter("bank.analytics.cache", "result", "coalesced");
+        Gauge.builder("bank.analytics.cache.size", this, c -> c.cache.estimatedSize()).register(meterRegistry);
+    }
+
+    /** Cached value for the key, or the loader's result; start/end are null for range-less kinds. */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long customerId, Kind kind, LocalDate start, LocalDate end, Supplier<T> loader) {
+        if (!properties.isCacheEnabled()) {
+            return loader.get();
+        }
+        Key key = new Key(customerId, kind, start, end);
+        CompletableFuture<Object> existing = cache.getIfPresent(key);
+        if (existing != null) {
+            (existing.isDone() ? hits : coalesced).increment();
+            return (T) await(existing);
+        }
+
+        int stripe = stripe(customerId);
+        long version = versions.get(stripe);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        existing = cache.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) await(existing);
+        }
+        misses.increment();
+        keysByCustomer.compute(customerId, (id, keys) -> {
+            Set<Key> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            indexed.add(key);
+            return indexed;
+        });
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            if (versions.get(stripe) != version) {
+                discard(key, mine);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            discard(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the customer's account summary and every analytics range containing {@code day}. Call after
+     * the posting has committed.
+     */
+    public void invalidate(Long customerId, LocalDate day) {
+        versions.incrementAndGet(stripe(customerId));
+        Set<Key> keys = keysByCustomer.get(customerId);
+        if (keys == null) {
+            return;
+        }
+        for (Key key : List.copyOf(keys)) {
+            if (key.covers(day)) {
+                discard(key, null);
+            }
+        }
+    }
+
+    // Removes the entry (unless another load replaced {@code only}, when given) and its index entry under the
+    // key's lock, so a load for the same key starting meanwhile keeps its own index entry
+    private void discard(Key key, CompletableFuture<Object> only) {
+        cache.asMap().compute(key, (k, current) -> {
+            if (only != null && current != null && current != only) {
+                return current;
+            }
+            unindex(k);
+            return null;
+        });
+    }
+
+    private void unindex(Key key) {
+        keysByCustomer.computeIfPresent(key.customerId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static int stripe(Long customerId) {
+        return (Long.hashCode(customerId) & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+
+    private static final class Key {
+        final Long customerId;
+        final Kind kind;
+        final LocalDate start;
+        final LocalDate end;
+
+        Key(Long customerId, Kind kind, LocalDate start, LocalDate end) {
+            this.customerId = customerId;
+            this.kind = kind;
+            this.start = start;
+            this.end = end;
+        }
+
+        boolean covers(LocalDate day) {
+            return start == null || day == null || (!day.isBefore(start) && !day.isAfter(end));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return customerId.equals(other.customerId) && kind == other.kind
+                && Objects.equals(start, other.start) && Objects.equals(end, other.end);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(customerId, kind, start, end);
+        }
+    }
+}
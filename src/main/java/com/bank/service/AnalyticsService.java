@@ -1,27 +1,29 @@
 package com.bank.service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.bank.config.AnalyticsProperties;
 import com.bank.dto.AnalyticsRequest;
 import com.bank.dto.AnalyticsResponse;
 import com.bank.exception.ResourceNotFoundException;
 import com.bank.model.Account;
 import com.bank.model.Customer;
-import com.bank.model.Transaction;
+import com.bank.model.DailySpendingRollup;
+import com.bank.model.Money;
 import com.bank.model.TransactionAnalytics;
 import com.bank.model.TransactionType;
 import com.bank.repository.AccountRepository;
@@ -45,6 +47,18 @@ public class AnalyticsService {
     @Autowired
     private AccountRepository accountRepository;
     
+    @Autowired
+    private SpendingRollupService spendingRollupService;
+    
+    @Autowired
+    private AnalyticsProperties analyticsProperties;
+    
+    @Autowired
+    private AnalyticsCache analyticsCache;
+    
+    // No surrounding transaction: the loader's reads must see everything committed before AnalyticsCache
+    // recorded the invalidation version, not a snapshot opened by the customer lookup
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AnalyticsResponse getTransactionAnalytics(String username, AnalyticsRequest request) {
         Customer customer = customerRepository.findByUser_Username(username)
             .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
@@ -52,63 +66,30 @@ public class AnalyticsService {
         LocalDate startDate = request.getStartDate() != null ? request.getStartDate() : LocalDate.now().minusMonths(1);
         LocalDate endDate = request.getEndDate() != null ? request.getEndDate() : LocalDate.now();
         
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
-        
-        // Get all transactions for the customer's accounts
-        List<Account> accounts = accountRepository.findByCustomer(customer);
-        List<Transaction> allTransactions = new ArrayList<>();
-        
-        for (Account account : accounts) {
-            List<Transaction> transactions = transactionRepository
-                .findByAccountAndDateBetween(account, startDateTime, endDateTime);
-            allTransactions.addAll(transactions);
+        return analyticsCache.get(customer.getId(), AnalyticsCache.Kind.TRANSACTION_ANALYTICS, startDate, endDate,
+            () -> calculateAnalytics(loadTotals(customer, startDate, endDate)));
+    }
+    
+    // Whole days, startDate through endDate inclusive
+    private PeriodTotals loadTotals(Customer customer, LocalDate startDate, LocalDate endDate) {
+        if (analyticsProperties.isRollupEnabled()) {
+            return PeriodTotals.fromRollups(spendingRollupService.findRange(customer.getId(), startDate, endDate));
         }
-        
-        return calculateAnalytics(allTransactions, startDate, endDate);
+        return PeriodTotals.from(transactionRepository.aggregateForCustomer(customer.getId(),
+            startDate.atStartOfDay(), endDate.atTime(23, 59, 59)));
     }
     
-    private AnalyticsResponse calculateAnalytics(List<Transaction> transactions, LocalDate startDate, LocalDate endDate) {
+    private AnalyticsResponse calculateAnalytics(PeriodTotals totals) {
         AnalyticsResponse response = new AnalyticsResponse();
         
-        BigDecimal totalIncome = BigDecimal.ZERO;
-        BigDecimal totalExpenses = BigDecimal.ZERO;
-        BigDecimal totalTransfers = BigDecimal.ZERO;
-        Map<String, BigDecimal> categoryBreakdown = new HashMap<>();
-        
-        for (Transaction txn : transactions) {
-            BigDecimal amount = BigDecimal.valueOf(txn.getAmount());
-            
-            // Categorize based on transaction type
-            if (txn.getType() == TransactionType.DEPOSIT) {
-                totalIncome = totalIncome.add(amount);
-            } else if (txn.getType() == TransactionType.WITHDRAWAL || txn.getType() == TransactionType.WITHDRAW) {
-                totalExpenses = totalExpenses.add(amount);
-            } else if (txn.getType() == TransactionType.TRANSFER_IN || txn.getType() == TransactionType.TRANSFER_OUT) {
-                totalTransfers = totalTransfers.add(amount);
-            }
-            
-            // Category breakdown (using description as category proxy)
-            String category = txn.getDescription() != null ? txn.getDescription() : "UNCATEGORIZED";
-            categoryBreakdown.put(category, categoryBreakdown.getOrDefault(category, BigDecimal.ZERO).add(amount));
-        }
+        response.setTotalIncome(Money.toBigDecimal(totals.income));
+        response.setTotalExpenses(Money.toBigDecimal(totals.expenses));
+        response.setTotalTransfers(Money.toBigDecimal(totals.transfers));
+        response.setNetSavings(Money.toBigDecimal(totals.income - totals.expenses));
+        response.setTransactionCount((int) totals.count);
+        response.setAverageTransactionAmount(averageOf(totals.totalPaise, totals.count));
         
-        response.setTotalIncome(totalIncome);
-        response.setTotalExpenses(totalExpenses);
-        response.setTotalTransfers(totalTransfers);
-        response.setNetSavings(totalIncome.subtract(totalExpenses));
-        response.setTransactionCount(transactions.size());
-        
-        if (!transactions.isEmpty()) {
-            double totalAmount = transactions.stream()
-                .mapToDouble(Transaction::getAmount)
-                .sum();
-            response.setAverageTransactionAmount(
-                BigDecimal.valueOf(totalAmount / transactions.size())
-            );
-        } else {
-            response.setAverageTransactionAmount(BigDecimal.ZERO);
-        }
+        Map<String, BigDecimal> categoryBreakdown = toBigDecimalMap(totals.categories);
         
         // Top category
         if (!categoryBreakdown.isEmpty()) {
@@ -122,29 +103,36 @@ public class AnalyticsService {
         }
         
         response.setCategoryBreakdown(categoryBreakdown);
-        response.setDailyTransactions(calculateDailyTransactions(transactions));
+        response.setDailyTransactions(calculateDailyTransactions(totals));
         
         return response;
     }
     
-    private List<AnalyticsResponse.DailyTransaction> calculateDailyTransactions(List<Transaction> transactions) {
-        Map<String, List<Transaction>> transactionsByDate = transactions.stream()
-            .collect(Collectors.groupingBy(txn -> 
-                txn.getDate().toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE)));
-        
-        return transactionsByDate.entrySet().stream()
-            .map(entry -> {
-                double dayTotal = entry.getValue().stream()
-                    .mapToDouble(Transaction::getAmount)
-                    .sum();
-                return new AnalyticsResponse.DailyTransaction(
-                    entry.getKey(),
-                    BigDecimal.valueOf(dayTotal),
-                    entry.getValue().size()
-                );
-            })
-            .sorted(Comparator.comparing(AnalyticsResponse.DailyTransaction::getDate))
-            .collect(Collectors.toList());
+    private List<AnalyticsResponse.DailyTransaction> calculateDailyTransactions(PeriodTotals totals) {
+        List<AnalyticsResponse.DailyTransaction> daily = new ArrayList<>(totals.days.size());
+        for (Map.Entry<String, long[]> entry : totals.days.entrySet()) {
+            daily.add(new AnalyticsResponse.DailyTransaction(
+                entry.getKey(),
+                Money.toBigDecimal(entry.getValue()[0]),
+                (int) entry.getValue()[1]
+            ));
+        }
+        return daily;
+    }
+    
+    private BigDecimal averageOf(long totalPaise, long count) {
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        return Money.toBigDecimal(totalPaise).divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_EVEN);
+    }
+    
+    private Map<String, BigDecimal> toBigDecimalMap(Map<String, long[]> totals) {
+        Map<String, BigDecimal> result = new HashMap<>();
+        for (Map.Entry<String, long[]> entry : totals.entrySet()) {
+            result.put(entry.getKey(), Money.toBigDecimal(entry.getValue()[0]));
+        }
+        return result;
     }
     
     public TransactionAnalytics saveAnalytics(String username, LocalDate periodStart, LocalDate periodEnd) {
@@ -162,52 +150,18 @@ public class AnalyticsService {
             analytics = new TransactionAnalytics(customer, periodStart, periodEnd);
         }
         
-        LocalDateTime startDateTime = periodStart.atStartOfDay();
-        LocalDateTime endDateTime = periodEnd.atTime(23, 59, 59);
+        PeriodTotals totals = loadTotals(customer, periodStart, periodEnd);
         
-        // Calculate and update analytics
-        List<Account> accounts = accountRepository.findByCustomer(customer);
-        List<Transaction> allTransactions = new ArrayList<>();
+        analytics.setTotalIncome(Money.toBigDecimal(totals.income));
+        analytics.setTotalExpenses(Money.toBigDecimal(totals.expenses));
+        analytics.setTotalTransfers(Money.toBigDecimal(totals.transfers));
+        analytics.setTransactionCount((int) totals.count);
         
-        for (Account account : accounts) {
-            List<Transaction> transactions = transactionRepository
-                .findByAccountAndDateBetween(account, startDateTime, endDateTime);
-            allTransactions.addAll(transactions);
+        if (totals.count > 0) {
+            analytics.setAverageTransactionAmount(averageOf(totals.totalPaise, totals.count));
         }
         
-        BigDecimal totalIncome = BigDecimal.ZERO;
-        BigDecimal totalExpenses = BigDecimal.ZERO;
-        BigDecimal totalTransfers = BigDecimal.ZERO;
-        Map<String, BigDecimal> categoryTotals = new HashMap<>();
-        
-        for (Transaction txn : allTransactions) {
-            BigDecimal amount = BigDecimal.valueOf(txn.getAmount());
-            
-            if (txn.getType() == TransactionType.DEPOSIT) {
-                totalIncome = totalIncome.add(amount);
-            } else if (txn.getType() == TransactionType.WITHDRAWAL || txn.getType() == TransactionType.WITHDRAW) {
-                totalExpenses = totalExpenses.add(amount);
-            } else if (txn.getType() == TransactionType.TRANSFER_IN || txn.getType() == TransactionType.TRANSFER_OUT) {
-                totalTransfers = totalTransfers.add(amount);
-            }
-            
-            String category = txn.getDescription() != null ? txn.getDescription() : "UNCATEGORIZED";
-            categoryTotals.put(category, categoryTotals.getOrDefault(category, BigDecimal.ZERO).add(amount));
-        }
-        
-        analytics.setTotalIncome(totalIncome);
-        analytics.setTotalExpenses(totalExpenses);
-        analytics.setTotalTransfers(totalTransfers);
-        analytics.setTransactionCount(allTransactions.size());
-        
-        if (!allTransactions.isEmpty()) {
-            double totalAmount = allTransactions.stream()
-                .mapToDouble(Transaction::getAmount)
-                .sum();
-            analytics.setAverageTransactionAmount(
-                BigDecimal.valueOf(totalAmount / allTransactions.size())
-            );
-        }
+        Map<String, BigDecimal> categoryTotals = toBigDecimalMap(totals.categories);
         
         if (!categoryTotals.isEmpty()) {
             Map.Entry<String, BigDecimal> topEntry = categoryTotals.entrySet().stream()
@@ -226,19 +180,26 @@ public class AnalyticsService {
         return analyticsRepository.findByCustomer_User_UsernameOrderByPeriodStartDesc(username);
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> getAccountSummary(String username) {
         Customer customer = customerRepository.findByUser_Username(username)
             .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
         
+        return analyticsCache.get(customer.getId(), AnalyticsCache.Kind.ACCOUNT_SUMMARY, null, null,
+            () -> buildAccountSummary(customer));
+    }
+    
+    private Map<String, Object> buildAccountSummary(Customer customer) {
         List<Account> accounts = accountRepository.findByCustomer(customer);
         
         Map<String, Object> summary = new HashMap<>();
-        double totalBalance = accounts.stream()
-            .mapToDouble(Account::getBalance)
-            .sum();
+        long totalBalance = 0L;
+        for (Account account : accounts) {
+            totalBalance += account.getBalanceMoney().getPaise();
+        }
         
         summary.put("totalAccounts", accounts.size());
-        summary.put("totalBalance", totalBalance);
+        summary.put("totalBalance", Money.toBigDecimal(totalBalance));
         summary.put("accounts", accounts.stream()
             .map(acc -> Map.of(
                 "accountNumber", acc.getAccountNumber(),
@@ -248,4 +209,55 @@ public class AnalyticsService {
         
         return summary;
     }
+
+    /** Period totals in paise, assembled from daily rollups or from the TYPE / CATEGORY / DAY aggregate rows. */
+    private static final class PeriodTotals {
+        long income;
+        long expenses;
+        long transfers;
+        long totalPaise;
+        long count;
+        final Map<String, long[]> categories = new HashMap<>();
+        // ISO dates sort chronologically as strings; [0] = total paise, [1] = count
+        final Map<String, long[]> days = new TreeMap<>();
+        
+        static PeriodTotals from(List<TransactionRepository.AnalyticsAggregate> rows) {
+            PeriodTotals totals = new PeriodTotals();
+            for (TransactionRepository.AnalyticsAggregate row : rows) {
+                long paise = row.getPaise() != null ? row.getPaise() : 0L;
+                switch (row.getDimension()) {
+                    case "TYPE" -> totals.addType(row.getBucket(), paise, row.getTxnCount());
+                    case "CATEGORY" -> totals.categories.put(row.getBucket(), new long[]{paise});
+                    case "DAY" -> totals.days.put(row.getBucket(), new long[]{paise, row.getTxnCount()});
+                    default -> throw new IllegalStateException("Unknown aggregate dimension " + row.getDimension());
+                }
+            }
+            return totals;
+        }
+        
+        static PeriodTotals fromRollups(List<DailySpendingRollup> rollups) {
+            PeriodTotals totals = new PeriodTotals();
+            for (DailySpendingRollup rollup : rollups) {
+                long paise = rollup.getTotalPaise();
+                totals.addType(rollup.getType(), paise, rollup.getTxnCount());
+                totals.categories.computeIfAbsent(rollup.getCategory(), k -> new long[1])[0] += paise;
+                long[] day = totals.days.computeIfAbsent(rollup.getRollupDate().toString(), k -> new long[2]);
+                day[0] += paise;
+                day[1] += rollup.getTxnCount();
+            }
+            return totals;
+        }
+        
+        private void addType(String type, long paise, long txnCount) {
+            totalPaise += paise;
+            count += txnCount;
+            if (TransactionType.DEPOSIT.name().equals(type)) {
+                income += paise;
+            } else if (TransactionType.WITHDRAWAL.name().equals(type) || TransactionType.WITHDRAW.name().equals(type)) {
+                expenses += paise;
+            } else if (TransactionType.TRANSFER_IN.name().equals(type) || TransactionType.TRANSFER_OUT.name().equals(type)) {
+                transfers += paise;
+            }
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package com.bank.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import com.bank.model.AuditStatus;
+
+/**
+ * An audit entry waiting to be written. Either {@code userId} or {@code username} identifies the user;
+ * the writer resolves a username to its id inside the INSERT rather than with a separate lookup.
+ */
+public class AuditEvent {
+    private final Long userId;
+    private final String username;
+    private final String action;
+    private final AuditStatus status;
+    private final String ipAddress;
+    private final String userAgent;
+    private final String details;
+    private final LocalDateTime timestamp = LocalDateTime.now();
+    private CompletableFuture<Void> persisted;
+
+    public AuditEvent(Long userId, String username, String action, AuditStatus status, String ipAddress, String userAgent, String details) {
+        this.userId = userId;
+        this.username = username;
+        this.action = action;
+        this.status = status;
+        this.ipAddress = ipAddress;
+        this.userAgent = userAgent;
+        this.details = details;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public AuditStatus getStatus() {
+        return status;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    /** Completed by the writer once the row is committed; null unless the caller waits for it. */
+    public CompletableFuture<Void> getPersisted() {
+        return persisted;
+    }
+
+    public void setPersisted(CompletableFuture<Void> persisted) {
+        this.persisted = persisted;
+    }
+}
@@ -0,0 +1,74 @@
+package com.bank.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer / single-consumer ring buffer. Each slot carries a sequence number, so
+ * a producer claims a slot with one CAS on the tail and publishes it with a release store. {@link #offer}
+ * never blocks; it returns false when the buffer is full.
+ */
+public class AuditRingBuffer<E> {
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    public AuditRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        while (true) {
+            long t = tail.get();
+            int index = (int) (t & mask);
+            long seq = sequences.getAcquire(index);
+            if (seq == t) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    slots.setPlain(index, element);
+                    sequences.setRelease(index, t + 1);
+                    return true;
+                }
+            } else if (seq < t) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /** Moves up to {@code max} published elements into {@code sink}. Only the writer thread may call this. */
+    public int drainTo(List<E> sink, int max) {
+        long h = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (h & mask);
+            if (sequences.getAcquire(index) != h + 1) {
+                break;
+            }
+            sink.add(slots.getPlain(index));
+            slots.setPlain(index, null);
+            sequences.setRelease(index, h + mask + 1);
+            h++;
+            drained++;
+        }
+        head = h;
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -5,12 +5,10 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.bank.model.AppUser;
 import com.bank.model.AuditLog;
 import com.bank.model.AuditStatus;
-import com.bank.repository.AppUserRepository;
 import com.bank.repository.AuditLogRepository;
 
 @Service
@@ -20,23 +18,19 @@ public class AuditService {
     private AuditLogRepository auditLogRepository;
 
     @Autowired
-    private AppUserRepository userRepository;
+    private AuditWriter auditWriter;
 
-    @Transactional
+    @Autowired
+    private LoginAttemptTracker loginAttemptTracker;
+
+    /**
+     * Hands the entry to the audit writer; whether this waits for the row depends on audit.durability.
+     */
     public void logAction(AppUser user, String action, AuditStatus status, String ipAddress, String userAgent, String details) {
-        AuditLog log = new AuditLog();
-        log.setUser(user);
-        log.setAction(action);
-        log.setStatus(status);
-        log.setIpAddress(ipAddress);
-        log.setUserAgent(userAgent);
-        log.setDetails(details);
-        log.setTimestamp(LocalDateTime.now());
-        
-        auditLogRepository.save(log);
+        Long userId = user != null ? user.getId() : null;
+        auditWriter.submit(new AuditEvent(userId, null, action, status, ipAddress, userAgent, details));
     }
 
-    @Transactional
     public void logAction(AppUser user, String action, AuditStatus status, String ipAddress, String userAgent) {
         logAction(user, action, status, ipAddress, userAgent, null);
     }
@@ -44,10 +38,8 @@ public class AuditService {
     /**
      * Simple logging method for internal operations (username, action, details)
      */
-    @Transactional
     public void logAction(String username, String action, String details) {
-        AppUser user = userRepository.findByUsername(username).orElse(null);
-        logAction(user, action, AuditStatus.SUCCESS, "system", "internal", details);
+        auditWriter.submit(new AuditEvent(null, username, action, AuditStatus.SUCCESS, "system", "internal", details));
     }
 
     public List<AuditLog> getUserAuditLogs(AppUser user) {
@@ -63,8 +55,28 @@ public class AuditService {
         return auditLogRepository.countByUserAndActionAndTimestampAfter(user, "FAILED_LOGIN", since);
     }
 
+    /**
+     * Records a failed login in the in-memory lockout windows and queues the FAILED_LOGIN audit row.
+     */
+    public void recordFailedLogin(String username, String ipAddress, String userAgent, String details) {
+        loginAttemptTracker.recordFailure(username, ipAddress);
+        auditWriter.submit(new AuditEvent(null, username, "FAILED_LOGIN", AuditStatus.FAILURE, ipAddress, userAgent, details));
+    }
+
+    public void recordSuccessfulLogin(AppUser user, String ipAddress, String userAgent) {
+        loginAttemptTracker.recordSuccess(user.getUsername());
+        logAction(user, "LOGIN", AuditStatus.SUCCESS, ipAddress, userAgent, "User logged in successfully");
+    }
+
+    /**
+     * True when the username or the client IP has too many recent failures. Answered from memory;
+     * audit_logs is only written, never counted, on the login path.
+     */
+    public boolean isLoginBlocked(String username, String ipAddress) {
+        return loginAttemptTracker.isUserLocked(username) || loginAttemptTracker.isIpBlocked(ipAddress);
+    }
+
     public boolean isAccountLocked(AppUser user) {
-        // Lock account if more than 5 failed login attempts in the last 15 minutes
-        return countRecentFailedLogins(user, 15) >= 5;
+        return loginAttemptTracker.isUserLocked(user.getUsername());
     }
 }
@@ -0,0 +1,246 @@
+package com.bank.service;
+
+import com.bank.config.AuditProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes audit events off the request path. Events go onto a lock-free ring buffer and a single
+ * background thread drains them into multi-row JDBC batch inserts. How long the caller waits is set by
+ * {@link AuditProperties.Durability}.
+ */
+@Service
+public class AuditWriter {
+    private static final Logger logger = LoggerFactory.getLogger(AuditWriter.class);
+
+    // user_id is resolved inside the INSERT so callers that only know the username need no lookup
+    private static final String INSERT_SQL = "INSERT INTO audit_logs (id, user_id, action, timestamp, ip_address, user_agent, details, status) "
+        + "VALUES (?, COALESCE(?, (SELECT u.id FROM app_user u WHERE u.username = ?)), ?, ?, ?, ?, ?, ?)";
+    private static final int[] INSERT_TYPES = {Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR,
+        Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR};
+    private static final Object OUTBOX_KEY = new Object();
+
+    @Autowired
+    private AuditProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private AuditRingBuffer<AuditEvent> buffer;
+    private TransactionTemplate requiresNew;
+    private Counter droppedCounter;
+    private Counter writtenCounter;
+    private Counter failureCounter;
+    private Thread writerThread;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    void start() {
+        buffer = new AuditRingBuffer<>(properties.getBufferCapacity());
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        meterRegistry.gauge("bank.audit.queue.depth", buffer, AuditRingBuffer::size);
+        droppedCounter = meterRegistry.counter("bank.audit.dropped");
+        writtenCounter = meterRegistry.counter("bank.audit.written");
+        failureCounter = meterRegistry.counter("bank.audit.write.failures");
+        writerThread = new Thread(this::drainLoop, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public void submit(AuditEvent event) {
+        switch (properties.getDurability()) {
+            case OUTBOX -> enlist(event);
+            case FLUSH_BEFORE_COMMIT -> enqueueAndAwait(event);
+            default -> {
+                if (!buffer.offer(event)) {
+                    droppedCounter.increment();
+                }
+            }
+        }
+    }
+
+    private void enqueueAndAwait(AuditEvent event) {
+        event.setPersisted(new CompletableFuture<>());
+        if (!buffer.offer(event)) {
+            // Full buffer: write this one on the caller's thread rather than lose it
+            writeInNewTransaction(List.of(event));
+        } else {
+            LockSupport.unpark(writerThread);
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    await(event);
+                }
+            });
+        } else {
+            await(event);
+        }
+    }
+
+    private void await(AuditEvent event) {
+        try {
+            event.getPersisted().get(properties.getFlushTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for audit log to be written");
+        } catch (ExecutionException | TimeoutException e) {
+            throw new RuntimeException("Audit log could not be written: " + e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void enlist(AuditEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            writeInNewTransaction(List.of(event));
+            return;
+        }
+        List<AuditEvent> pending = (List<AuditEvent>) TransactionSynchronizationManager.getResource(OUTBOX_KEY);
+        if (pending == null) {
+            List<AuditEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(OUTBOX_KEY, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (readOnly) {
+                        writeInNewTransaction(events);
+                    } else {
+                        insert(events);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OUTBOX_KEY);
+                }
+            });
+            pending = events;
+        }
+        pending.add(event);
+    }
+
+    private void drainLoop() {
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        while (running || buffer.size() > 0) {
+            buffer.drainTo(batch, properties.getBatchSize());
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(idleNanos);
+                continue;
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * One bad row (say, a user purged meanwhile) fails the whole JDBC batch, so a failed batch is retried
+     * row by row and only the rows that fail again are dropped.
+     */
+    private void writeBatch(List<AuditEvent> batch) {
+        try {
+            requiresNew.executeWithoutResult(status -> insert(batch));
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            logger.warn("Audit batch of {} failed, retrying row by row: {}", batch.size(), e.getMessage());
+            for (AuditEvent event : batch) {
+                try {
+                    writeInNewTransaction(List.of(event));
+                } catch (RuntimeException rowFailure) {
+                    droppedCounter.increment();
+                    logger.error("Dropping audit event {} for {}: {}", event.getAction(), event.getUsername(), rowFailure.getMessage());
+                }
+            }
+            return;
+        }
+        batch.forEach(ev -> {
+            if (ev.getPersisted() != null) {
+                ev.getPersisted().complete(null);
+            }
+        });
+    }
+
+    private void writeInNewTransaction(List<AuditEvent> events) {
+        try {
+            requiresNew.executeWithoutResult(status -> insert(events));
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            events.forEach(ev -> {
+                if (ev.getPersisted() != null) {
+                    ev.getPersisted().completeExceptionally(e);
+                }
+            });
+            throw e;
+        }
+        events.forEach(ev -> {
+            if (ev.getPersisted() != null) {
+                ev.getPersisted().complete(null);
+            }
+        });
+    }
+
+    /** One id reservation plus one batched INSERT, on whatever transaction is current. */
+    private void insert(List<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long id = reserveIds(events.size());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (AuditEvent e : events) {
+            rows.add(new Object[]{id++, e.getUserId(), e.getUsername(), e.getAction(), Timestamp.valueOf(e.getTimestamp()),
+                e.getIpAddress(), e.getUserAgent(), e.getDetails(), e.getStatus() != null ? e.getStatus().name() : null});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_TYPES);
+        writtenCounter.increment(events.size());
+    }
+
+    /**
+     * Takes {@code count} ids from the same table-backed sequence Hibernate uses for AuditLog. Hibernate's
+     * pooled-lo optimizer treats the stored value as the first id of its next block, so advancing it by
+     * {@code count} here never overlaps a block Hibernate has handed out.
+     */
+    private long reserveIds(int count) {
+        Long first = requiresNew.execute(status -> {
+            Long next = jdbcTemplate.queryForObject("SELECT next_val FROM audit_logs_seq FOR UPDATE", Long.class);
+            jdbcTemplate.update("UPDATE audit_logs_seq SET next_val = ?", next + count);
+            return next;
+        });
+        return first;
+    }
+}
@@ -1,7 +1,10 @@
 package com.bank.service;
 
+import com.bank.dto.CursorPage;
 import com.bank.dto.TransactionDto;
+import com.bank.event.AccountsChangedEvent;
 import com.bank.event.CardCreatedEvent;
+import com.bank.event.TransactionPostedEvent;
 import com.bank.exception.InsufficientFundsException;
 import com.bank.exception.InvalidOtpException;
 import com.bank.exception.ResourceNotFoundException;
@@ -9,8 +12,10 @@ import com.bank.model.Account;
 import com.bank.model.Card;
 import com.bank.model.CardType;
 import com.bank.model.Customer;
+import com.bank.model.Money;
 import com.bank.model.PendingTransfer;
 import com.bank.model.PendingTransferStatus;
+import com.bank.model.PurgeJob;
 import com.bank.model.Transaction;
 import com.bank.model.TransactionType;
 import com.bank.repository.AccountRepository;
@@ -18,18 +23,11 @@ import com.bank.repository.CardRepository;
 import com.bank.repository.CustomerRepository;
 import com.bank.repository.PendingTransferRepository;
 import com.bank.repository.TransactionRepository;
-import com.bank.repository.AppUserRepository;
-import com.bank.repository.AuditLogRepository;
-import com.bank.repository.DeviceSessionRepository;
-import com.bank.repository.UserPreferencesRepository;
-import com.bank.model.AppUser;
-import com.bank.model.AuditLog;
-import com.bank.model.DeviceSession;
-import com.bank.model.UserPreferences;
 import java.math.BigDecimal;
 import java.security.SecureRandom;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -56,13 +54,9 @@ public class BankingService {
     @Autowired
     private PendingTransferRepository pendingTransferRepo;
     @Autowired
-    private AppUserRepository userRepo;
+    private PurgeService purgeService;
     @Autowired
-    private AuditLogRepository auditLogRepo;
-    @Autowired
-    private DeviceSessionRepository deviceSessionRepo;
-    @Autowired
-    private UserPreferencesRepository userPreferencesRepo;
+    private TransferExecutor transferExecutor;
     private final SecureRandom random = new SecureRandom();
     private final SecureRandom secureRandom = new SecureRandom();
 
@@ -79,6 +73,9 @@ public class BankingService {
         if (saved.getBalance() >= 5000.0) {
             this.createDebitCardForAccount(saved);
         }
+        if (saved.getCustomer() != null) {
+            this.eventPublisher.publishEvent((ApplicationEvent)new AccountsChangedEvent(this, saved.getCustomer().getId()));
+        }
         return saved;
     }
 
@@ -160,16 +157,21 @@ public class BankingService {
             throw new ResourceNotFoundException("Account not found for transaction");
         }
         TransactionType type = t.getType();
+        Money amount = t.getAmountMoney();
         if (type == TransactionType.DEPOSIT) {
-            account.setBalance(account.getBalance() + t.getAmount());
+            account.setBalanceMoney(account.getBalanceMoney().plus(amount));
         } else if (type == TransactionType.WITHDRAW) {
-            if (account.getBalance() < t.getAmount()) {
+            if (account.getBalanceMoney().isLessThan(amount)) {
                 throw new InsufficientFundsException("Insufficient balance for withdraw");
             }
-            account.setBalance(account.getBalance() - t.getAmount());
+            account.setBalanceMoney(account.getBalanceMoney().minus(amount));
         }
         this.accountRepo.save(account);
-        return (Transaction)this.transactionRepo.save(t);
+        // Callers pass an id-only account; listeners need the loaded one with its customer
+        t.setAccount(account);
+        Transaction saved = (Transaction)this.transactionRepo.save(t);
+        this.eventPublisher.publishEvent((ApplicationEvent)new TransactionPostedEvent(this, List.of(saved)));
+        return saved;
     }
 
     public List<Transaction> getAllTransactions() {
@@ -178,49 +180,64 @@ public class BankingService {
 
     public Page<TransactionDto> getTransactionsForAccount(String accountNumber, Pageable pageable) {
         Page<Transaction> page = this.transactionRepo.findByAccount_AccountNumber(accountNumber, pageable);
-        List<TransactionDto> dtos = page.stream().map(tx -> {
-            TransactionDto d = new TransactionDto();
-            d.setId(tx.getId());
-            if (tx.getType() != null) {
-                d.setType(tx.getType().name());
-            }
-            d.setAmount(tx.getAmount());
-            d.setDate(tx.getDate());
-            if (tx.getAccount() != null) {
-                d.setAccountNumber(tx.getAccount().getAccountNumber());
-            }
-            return d;
-        }).collect(Collectors.toList());
+        List<TransactionDto> dtos = page.stream().map(this::toTransactionDto).collect(Collectors.toList());
         return new PageImpl<>(dtos, pageable, page.getTotalElements());
     }
 
+    public CursorPage<TransactionDto> getTransactionsForAccountAfter(String accountNumber, String cursor, Integer size) {
+        Account account = this.accountRepo.findByAccountNumber(accountNumber)
+            .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
+        return TransactionCursor.page(this.transactionRepo, account.getId(), cursor, size, this::toTransactionDto);
+    }
+
+    private TransactionDto toTransactionDto(Transaction tx) {
+        TransactionDto d = new TransactionDto();
+        d.setId(tx.getId());
+        if (tx.getType() != null) {
+            d.setType(tx.getType().name());
+        }
+        d.setAmount(tx.getAmount());
+        d.setDate(tx.getDate());
+        if (tx.getAccount() != null) {
+            d.setAccountNumber(tx.getAccount().getAccountNumber());
+        }
+        return d;
+    }
+
     public List<Account> getAllAccounts() {
         return this.accountRepo.findAll();
     }
 
-    @Transactional
     public String transferMoney(String fromAccountNum, String toAccountNum, double amount) {
-        Account fromAcc = this.accountRepo.findByAccountNumber(fromAccountNum)
+        return this.transferExecutor.executeForAccountNumbers(List.of(fromAccountNum, toAccountNum),
+            () -> this.doTransferMoney(fromAccountNum, toAccountNum, amount));
+    }
+
+    private String doTransferMoney(String fromAccountNum, String toAccountNum, double amount) {
+        Map<String, Account> accounts = this.transferExecutor.loadAccountsByNumber(List.of(fromAccountNum, toAccountNum));
+        Account fromAcc = Optional.ofNullable(accounts.get(fromAccountNum))
             .orElseThrow(() -> new ResourceNotFoundException("Source account not found"));
-        Account toAcc = this.accountRepo.findByAccountNumber(toAccountNum)
+        Account toAcc = Optional.ofNullable(accounts.get(toAccountNum))
             .orElseThrow(() -> new ResourceNotFoundException("Destination account not found"));
-        if (fromAcc.getBalance() < amount) {
+        Money money = Money.of(amount);
+        if (fromAcc.getBalanceMoney().isLessThan(money)) {
             throw new InsufficientFundsException("Insufficient balance in sender's account");
         }
-        fromAcc.setBalance(fromAcc.getBalance() - amount);
-        toAcc.setBalance(toAcc.getBalance() + amount);
+        fromAcc.setBalanceMoney(fromAcc.getBalanceMoney().minus(money));
+        toAcc.setBalanceMoney(toAcc.getBalanceMoney().plus(money));
         this.accountRepo.save(fromAcc);
         this.accountRepo.save(toAcc);
         Transaction t1 = new Transaction();
         t1.setType(TransactionType.TRANSFER_OUT);
-        t1.setAmount(amount);
+        t1.setAmountMoney(money);
         t1.setAccount(fromAcc);
         this.transactionRepo.save(t1);
         Transaction t2 = new Transaction();
         t2.setType(TransactionType.TRANSFER_IN);
-        t2.setAmount(amount);
+        t2.setAmountMoney(money);
         t2.setAccount(toAcc);
         this.transactionRepo.save(t2);
+        this.eventPublisher.publishEvent((ApplicationEvent)new TransactionPostedEvent(this, List.of(t1, t2)));
         return "\u2705 \u20b9" + amount + " transferred successfully from " + fromAccountNum + " to " + toAccountNum + "!";
     }
 
@@ -266,15 +283,10 @@ public class BankingService {
             .orElseThrow(() -> new ResourceNotFoundException("Customer not found with username: " + username));
         
         // Check if customer has any accounts
-        List<Account> accounts = accountRepo.findAll().stream()
-            .filter(a -> a.getCustomer() != null && a.getCustomer().getId().equals(customer.getId()))
-            .collect(Collectors.toList());
-        
-        return !accounts.isEmpty();
+        return accountRepo.existsByCustomer_Id(customer.getId());
     }
 
-    @Transactional
-    public void deleteSingleAccount(Long accountId, String username) {
+    public PurgeJob deleteSingleAccount(Long accountId, String username) {
         System.out.println("🏦 Starting single account deletion for account ID: " + accountId);
         
         // Find the account
@@ -289,172 +301,41 @@ public class BankingService {
             throw new RuntimeException("This account does not belong to you");
         }
         
-        System.out.println("   Account Number: " + account.getAccountNumber());
-        
-        // Delete cards for this account
-        List<Card> cards = cardRepo.findAll().stream()
-            .filter(c -> c.getAccount() != null && c.getAccount().getId().equals(account.getId()))
-            .collect(Collectors.toList());
-        cardRepo.deleteAll(cards);
-        System.out.println("   Deleted " + cards.size() + " card(s)");
-        
-        // Delete transactions for this account
-        List<Transaction> transactions = transactionRepo.findAll().stream()
-            .filter(t -> t.getAccount() != null && t.getAccount().getId().equals(account.getId()))
-            .collect(Collectors.toList());
-        transactionRepo.deleteAll(transactions);
-        System.out.println("   Deleted " + transactions.size() + " transaction(s)");
-        
-        // Delete pending transfers for this account
-        List<PendingTransfer> transfers = pendingTransferRepo.findAll().stream()
-            .filter(pt -> pt.getFromAccount().equals(account.getAccountNumber()) || 
-                         pt.getToAccount().equals(account.getAccountNumber()))
-            .collect(Collectors.toList());
-        pendingTransferRepo.deleteAll(transfers);
-        System.out.println("   Deleted " + transfers.size() + " pending transfer(s)");
-        
-        // Delete the account
-        accountRepo.delete(account);
-        System.out.println("✅ Account deletion completed: " + account.getAccountNumber());
+        // Cards, transactions, pending transfers and the account are removed with set-based deletes
+        PurgeJob job = purgeService.purgeAccounts(customer, List.of(accountId));
+        System.out.println("✅ Account deletion " + job.getStatus() + " (job " + job.getId() + "): " + account.getAccountNumber());
+        return job;
     }
 
-    @Transactional
-    public void deleteCustomerBankAccounts(String username) {
+    public PurgeJob deleteCustomerBankAccounts(String username) {
         System.out.println("🏦 Starting bank accounts deletion for user: " + username);
         
         // Find customer by username
         Customer customer = customerRepo.findByUser_Username(username)
             .orElseThrow(() -> new ResourceNotFoundException("Customer not found with username: " + username));
         
-        System.out.println("   Found customer ID: " + customer.getId());
-        
-        // Get all accounts for this customer
-        List<Account> accounts = accountRepo.findAll().stream()
-            .filter(a -> a.getCustomer() != null && a.getCustomer().getId().equals(customer.getId()))
-            .collect(Collectors.toList());
-        System.out.println("   Found " + accounts.size() + " account(s)");
-        
-        // Delete all associated data for each account
-        for (Account account : accounts) {
-            // Delete cards
-            List<Card> cards = cardRepo.findAll().stream()
-                .filter(c -> c.getAccount() != null && c.getAccount().getId().equals(account.getId()))
-                .collect(Collectors.toList());
-            cardRepo.deleteAll(cards);
-            System.out.println("   Deleted " + cards.size() + " card(s) for account " + account.getAccountNumber());
-            
-            // Delete transactions
-            List<Transaction> transactions = transactionRepo.findAll().stream()
-                .filter(t -> t.getAccount() != null && t.getAccount().getId().equals(account.getId()))
-                .collect(Collectors.toList());
-            transactionRepo.deleteAll(transactions);
-            System.out.println("   Deleted " + transactions.size() + " transaction(s) for account " + account.getAccountNumber());
-        }
-        
-        // Delete pending transfers
-        List<PendingTransfer> transfers = pendingTransferRepo.findAll().stream()
-            .filter(pt -> {
-                for (Account acc : accounts) {
-                    if (pt.getFromAccount().equals(acc.getAccountNumber()) || 
-                        pt.getToAccount().equals(acc.getAccountNumber())) {
-                        return true;
-                    }
-                }
-                return false;
-            })
-            .collect(Collectors.toList());
-        pendingTransferRepo.deleteAll(transfers);
-        System.out.println("   Deleted " + transfers.size() + " pending transfer(s)");
+        List<Long> accountIds = accountRepo.findIdsByCustomerId(customer.getId());
+        System.out.println("   Found " + accountIds.size() + " account(s) for customer ID: " + customer.getId());
         
-        // Delete all accounts
-        accountRepo.deleteAll(accounts);
-        System.out.println("   Deleted " + accounts.size() + " account(s)");
-        
-        System.out.println("✅ Bank accounts deletion completed. Profile retained for user: " + username);
+        PurgeJob job = purgeService.purgeAccounts(customer, accountIds);
+        System.out.println("✅ Bank accounts deletion " + job.getStatus() + " (job " + job.getId() + "). Profile retained for user: " + username);
+        return job;
     }
 
-    @Transactional
-    public void deleteCustomerProfile(String username) {
+    public PurgeJob deleteCustomerProfile(String username) {
         System.out.println("🗑️ Starting COMPLETE profile deletion for user: " + username);
         
         // Find customer by username
         Customer customer = customerRepo.findByUser_Username(username)
             .orElseThrow(() -> new ResourceNotFoundException("Customer not found with username: " + username));
         
-        AppUser user = customer.getUser();
-        System.out.println("   Found customer ID: " + customer.getId() + ", User ID: " + user.getId());
-        
-        // Get all accounts for this customer
-        List<Account> accounts = accountRepo.findAll().stream()
-            .filter(a -> a.getCustomer() != null && a.getCustomer().getId().equals(customer.getId()))
-            .collect(Collectors.toList());
-        System.out.println("   Found " + accounts.size() + " account(s)");
-        
-        // Delete all associated data for each account
-        for (Account account : accounts) {
-            // Delete cards
-            List<Card> cards = cardRepo.findAll().stream()
-                .filter(c -> c.getAccount() != null && c.getAccount().getId().equals(account.getId()))
-                .collect(Collectors.toList());
-            cardRepo.deleteAll(cards);
-            System.out.println("   Deleted " + cards.size() + " card(s) for account " + account.getAccountNumber());
-            
-            // Delete transactions
-            List<Transaction> transactions = transactionRepo.findAll().stream()
-                .filter(t -> t.getAccount() != null && t.getAccount().getId().equals(account.getId()))
-                .collect(Collectors.toList());
-            transactionRepo.deleteAll(transactions);
-            System.out.println("   Deleted " + transactions.size() + " transaction(s) for account " + account.getAccountNumber());
-        }
-        
-        // Delete pending transfers
-        List<PendingTransfer> transfers = pendingTransferRepo.findAll().stream()
-            .filter(pt -> {
-                for (Account acc : accounts) {
-                    if (pt.getFromAccount().equals(acc.getAccountNumber()) || 
-                        pt.getToAccount().equals(acc.getAccountNumber())) {
-                        return true;
-                    }
-                }
-                return false;
-            })
-            .collect(Collectors.toList());
-        pendingTransferRepo.deleteAll(transfers);
-        System.out.println("   Deleted " + transfers.size() + " pending transfer(s)");
-        
-        // Delete all accounts
-        accountRepo.deleteAll(accounts);
-        System.out.println("   Deleted " + accounts.size() + " account(s)");
-        
-        // Delete user preferences
-        List<UserPreferences> preferences = userPreferencesRepo.findAll().stream()
-            .filter(p -> p.getCustomer() != null && p.getCustomer().getId().equals(customer.getId()))
-            .collect(Collectors.toList());
-        userPreferencesRepo.deleteAll(preferences);
-        System.out.println("   Deleted " + preferences.size() + " user preference(s)");
-        
-        // Delete audit logs
-        List<AuditLog> auditLogs = auditLogRepo.findAll().stream()
-            .filter(log -> log.getUser() != null && log.getUser().getId().equals(user.getId()))
-            .collect(Collectors.toList());
-        auditLogRepo.deleteAll(auditLogs);
-        System.out.println("   Deleted " + auditLogs.size() + " audit log(s)");
-        
-        // Delete device sessions
-        List<DeviceSession> deviceSessions = deviceSessionRepo.findAll().stream()
-            .filter(ds -> ds.getUser() != null && ds.getUser().getId().equals(user.getId()))
-            .collect(Collectors.toList());
-        deviceSessionRepo.deleteAll(deviceSessions);
-        System.out.println("   Deleted " + deviceSessions.size() + " device session(s)");
-        
-        // Delete the customer (cascade should handle user, but we'll be explicit)
-        customerRepo.delete(customer);
-        System.out.println("   Deleted customer record");
-        
-        // Delete the user
-        userRepo.delete(user);
-        System.out.println("   Deleted user record");
-        
-        System.out.println("✅ COMPLETE profile deletion completed for user: " + username);
+        // Accounts, preferences, audit logs, device sessions, customer and user are removed with set-based deletes
+        PurgeJob job = purgeService.purgeProfile(customer);
+        System.out.println("✅ COMPLETE profile deletion " + job.getStatus() + " (job " + job.getId() + ") for user: " + username);
+        return job;
+    }
+
+    public PurgeJob getPurgeJob(Long jobId, String username) {
+        return purgeService.getJob(jobId, username);
     }
 }
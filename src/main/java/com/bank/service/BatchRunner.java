@@ -0,0 +1,176 @@
+package com.bank.service;
+
+import com.bank.model.BatchRun;
+import com.bank.model.BatchRunStatus;
+import com.bank.repository.BatchRunRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs keyset-driven jobs under a {@link BatchRun} checkpoint. It creates each day's run once across
+ * nodes, takes over RUNNING runs whose heartbeat went stale, and records the outcome. It also keeps at
+ * most one sweep per job going on this node. A job supplies only its sweep; everything the sweep commits
+ * through its {@link Checkpoint} lands in the same transaction as the run's progress.
+ */
+@Component
+public class BatchRunner {
+    private static final Logger logger = LoggerFactory.getLogger(BatchRunner.class);
+
+    // BatchRun.errorMessage column length
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Autowired
+    private BatchRunRepository batchRunRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    // Jobs sweeping on this node
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Starts today's run of {@code job} unless this or another node already has. */
+    public void runNightly(Job job) {
+        if (!job.isEnabled()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        BatchRun run;
+        try {
+            run = transactionTemplate.execute(status -> {
+                if (batchRunRepository.findByJobNameAndRunDate(job.name(), today).isPresent()) {
+                    return null; // started elsewhere; resumeAbandonedRuns covers it if that node dies
+                }
+                BatchRun r = new BatchRun();
+                r.setJobName(job.name());
+                r.setRunDate(today);
+                return batchRunRepository.saveAndFlush(r);
+            });
+        } catch (DataIntegrityViolationException e) {
+            return; // another node created today's run first
+        }
+        if (run != null) {
+            execute(job, run);
+        }
+    }
+
+    /** Claims one RUNNING run of {@code job} with no checkpoint for stale-after-ms and resumes it. */
+    public void resumeAbandonedRuns(Job job) {
+        if (!job.isEnabled() || running.contains(job.name())) {
+            return;
+        }
+        LocalDateTime staleBefore = LocalDateTime.now().minusNanos(job.getStaleAfterMs() * 1_000_000L);
+        for (BatchRun run : batchRunRepository.findByJobNameAndStatusAndUpdatedAtBefore(job.name(), BatchRunStatus.RUNNING, staleBefore)) {
+            Integer claimed = transactionTemplate.execute(status ->
+                batchRunRepository.claim(run.getId(), run.getUpdatedAt(), LocalDateTime.now()));
+            if (claimed != null && claimed == 1) {
+                logger.info("Resuming {} for {} after key {}", job.name(), run.getRunDate(), run.getLastKey());
+                execute(job, run);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sweeps everything as of {@code asOf} on the calling thread, outside any batch run. Returns what
+     * the sweep reports.
+     */
+    public long runNow(Job job, LocalDate asOf) {
+        if (!running.add(job.name())) {
+            throw new RuntimeException("Batch job " + job.name() + " is already running");
+        }
+        try {
+            return job.sweep(asOf, 0L, (nextKey, rows, work) -> transactionTemplate.executeWithoutResult(status -> work.run()));
+        } finally {
+            running.remove(job.name());
+        }
+    }
+
+    private void execute(Job job, BatchRun run) {
+        if (!running.add(job.name())) {
+            return;
+        }
+        try {
+            job.sweep(run.getRunDate(), run.getLastKey(), (nextKey, rows, work) -> transactionTemplate.executeWithoutResult(status -> {
+                work.run();
+                batchRunRepository.advance(run.getId(), nextKey, rows, LocalDateTime.now());
+            }));
+            finish(run.getId(), BatchRunStatus.COMPLETED, null);
+        } catch (RuntimeException e) {
+            logger.error("{} run for {} failed", job.name(), run.getRunDate(), e);
+            finish(run.getId(), BatchRunStatus.FAILED, e.getMessage());
+        } finally {
+            running.remove(job.name());
+        }
+    }
+
+    private void finish(Long runId, BatchRunStatus status, String error) {
+        transactionTemplate.executeWithoutResult(tx -> batchRunRepository.findById(runId).ifPresent(r -> {
+            r.setStatus(status);
+            r.setErrorMessage(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            if (status == BatchRunStatus.COMPLETED) {
+                r.setCompletedAt(LocalDateTime.now());
+            }
+            batchRunRepository.save(r);
+        }));
+    }
+
+    /** Result of a sweep's parallel step, with its own failure rethrown unwrapped. */
+    static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for batch work", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /** A keyset-driven job: its batch_runs name, switches and sweep. */
+    public interface Job {
+        String name();
+
+        boolean isEnabled();
+
+        /** A RUNNING run with no checkpoint for this long may be taken over. */
+        long getStaleAfterMs();
+
+        /**
+         * Processes the key space as of {@code runDate}, resuming at {@code fromKey}, the key the last
+         * checkpoint recorded (0 for a fresh run). Each step is committed through {@code checkpoint}.
+         * Returns the rows processed by this call.
+         */
+        long sweep(LocalDate runDate, long fromKey, Checkpoint checkpoint);
+    }
+
+    /** Commits one step of a sweep. */
+    public interface Checkpoint {
+        /**
+         * Runs {@code work}, then advances the run to {@code nextKey} with {@code rows} more processed, both
+         * in one transaction.
+         */
+        void commit(long nextKey, long rows, Runnable work);
+    }
+}
@@ -2,6 +2,7 @@ package com.bank.service;
 
 import com.bank.dto.BillPaymentRequest;
 import com.bank.dto.BillPaymentResponse;
+import com.bank.event.TransactionPostedEvent;
 import com.bank.exception.InsufficientFundsException;
 import com.bank.exception.ResourceNotFoundException;
 import com.bank.model.*;
@@ -9,6 +10,7 @@ import com.bank.repository.AccountRepository;
 import com.bank.repository.BillPaymentRepository;
 import com.bank.repository.TransactionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +33,9 @@ public class BillPaymentService {
     @Autowired
     private TransactionRepository transactionRepository;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     @Transactional
     public BillPaymentResponse payBill(String username, BillPaymentRequest request) {
         // Find customer's account
@@ -82,6 +87,7 @@ public class BillPaymentService {
         transaction.setAmount(totalAmount);
         transaction.setDescription(request.getBillType() + " Bill Payment - " + request.getBillerName());
         transactionRepository.save(transaction);
+        eventPublisher.publishEvent(new TransactionPostedEvent(this, List.of(transaction)));
         
         // Build response
         return buildResponse(saved, "Bill payment processed successfully");
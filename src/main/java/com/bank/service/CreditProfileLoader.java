@@ -0,0 +1,104 @@
+package com.bank.service;
+
+import com.bank.repository.CreditInquiryRepository;
+import com.bank.repository.CreditScoreRepository;
+import com.bank.repository.CustomerRepository;
+import com.bank.repository.LoanRepository;
+import com.bank.repository.PaymentHistoryRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Builds {@link CreditProfileSnapshot}s with five set-based queries per batch of customers (payment
+ * counts, loan lines, product flags, hard inquiries, latest score), independent of how many accounts,
+ * loans or cards each customer has.
+ */
+@Component
+public class CreditProfileLoader {
+
+    @Autowired
+    private PaymentHistoryRepository paymentHistoryRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CreditInquiryRepository creditInquiryRepository;
+
+    @Autowired
+    private CreditScoreRepository creditScoreRepository;
+
+    public CreditProfileSnapshot load(Long customerId, LocalDate asOf) {
+        return loadAll(List.of(customerId), asOf).get(customerId);
+    }
+
+    /** One snapshot per existing customer id, in the order given; unknown ids are left out. */
+    @Transactional(readOnly = true)
+    public Map<Long, CreditProfileSnapshot> loadAll(Collection<Long> customerIds, LocalDate asOf) {
+        Map<Long, CreditProfileSnapshot> snapshots = new LinkedHashMap<>();
+        if (customerIds.isEmpty()) {
+            return snapshots;
+        }
+        Map<Long, CustomerRepository.ProductFlags> flagsById = new HashMap<>();
+        for (CustomerRepository.ProductFlags flags : customerRepository.findProductFlags(customerIds)) {
+            flagsById.put(flags.getCustomerId(), flags);
+        }
+        for (Long id : customerIds) {
+            CustomerRepository.ProductFlags flags = flagsById.get(id);
+            if (flags == null) {
+                continue;
+            }
+            CreditProfileSnapshot s = new CreditProfileSnapshot(id, asOf);
+            s.hasAccounts = isSet(flags.getHasAccounts());
+            s.hasFixedDeposits = isSet(flags.getHasFixedDeposits());
+            s.hasRecurringDeposits = isSet(flags.getHasRecurringDeposits());
+            s.hasCards = isSet(flags.getHasCards());
+            s.hasInsurance = isSet(flags.getHasInsurance());
+            snapshots.put(id, s);
+        }
+        Collection<Long> ids = snapshots.keySet();
+        if (ids.isEmpty()) {
+            return snapshots;
+        }
+
+        for (PaymentHistoryRepository.StatusCount row
+                : paymentHistoryRepository.countByStatusForCustomers(ids, asOf.minusMonths(24))) {
+            CreditProfileSnapshot s = snapshots.get(row.getCustomerId());
+            s.totalPayments += row.getPayments();
+            if ("ON_TIME".equals(row.getStatus())) {
+                s.onTimePayments += row.getPayments();
+            } else if ("LATE".equals(row.getStatus())) {
+                s.latePaymentsWithDaysLate += row.getWithDaysLate();
+            } else if ("MISSED".equals(row.getStatus())) {
+                s.missedPayments += row.getPayments();
+            }
+        }
+        for (LoanRepository.CreditLine line : loanRepository.findCreditLinesForCustomers(ids)) {
+            snapshots.get(line.getCustomerId()).loans.add(new CreditProfileSnapshot.CreditLine(
+                line.getOutstandingAmount(), line.getPrincipalAmount(), line.getApplicationDate()));
+        }
+        for (CreditInquiryRepository.CustomerCount row
+                : creditInquiryRepository.countHardInquiriesForCustomers(ids, asOf.minusMonths(6))) {
+            snapshots.get(row.getCustomerId()).hardInquiriesLast6Months = row.getInquiries();
+        }
+        // In id order: a later row on the same day overwrites an earlier one
+        for (CreditScoreRepository.LatestScore row : creditScoreRepository.findLatestScoresForCustomers(ids)) {
+            snapshots.get(row.getCustomerId()).previousScore = row.getScore();
+        }
+        return snapshots;
+    }
+
+    private static boolean isSet(Number flag) {
+        return flag != null && flag.intValue() != 0;
+    }
+}
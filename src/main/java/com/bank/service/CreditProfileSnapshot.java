@@ -0,0 +1,115 @@
+package com.bank.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every input the credit score reads for one customer, loaded once by {@link CreditProfileLoader} and
+ * scored by {@link CreditScoringRules} without further queries.
+ */
+public class CreditProfileSnapshot {
+    private final Long customerId;
+    private final LocalDate asOf;
+
+    // Payment history over the last 24 months
+    long totalPayments;
+    long onTimePayments;
+    long latePaymentsWithDaysLate;
+    long missedPayments;
+
+    final List<CreditLine> loans = new ArrayList<>();
+    boolean hasAccounts;
+    boolean hasFixedDeposits;
+    boolean hasRecurringDeposits;
+    boolean hasCards;
+    boolean hasInsurance;
+    long hardInquiriesLast6Months;
+    Integer previousScore;
+
+    public CreditProfileSnapshot(Long customerId, LocalDate asOf) {
+        this.customerId = customerId;
+        this.asOf = asOf;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public long getTotalPayments() {
+        return totalPayments;
+    }
+
+    public long getOnTimePayments() {
+        return onTimePayments;
+    }
+
+    public long getLatePaymentsWithDaysLate() {
+        return latePaymentsWithDaysLate;
+    }
+
+    public long getMissedPayments() {
+        return missedPayments;
+    }
+
+    public List<CreditLine> getLoans() {
+        return loans;
+    }
+
+    public boolean hasAccounts() {
+        return hasAccounts;
+    }
+
+    public boolean hasFixedDeposits() {
+        return hasFixedDeposits;
+    }
+
+    public boolean hasRecurringDeposits() {
+        return hasRecurringDeposits;
+    }
+
+    public boolean hasCards() {
+        return hasCards;
+    }
+
+    public boolean hasInsurance() {
+        return hasInsurance;
+    }
+
+    public long getHardInquiriesLast6Months() {
+        return hardInquiriesLast6Months;
+    }
+
+    public Integer getPreviousScore() {
+        return previousScore;
+    }
+
+    /** The loan columns scoring reads, in loan id order. */
+    public static class CreditLine {
+        private final Double outstandingAmount;
+        private final Double principalAmount;
+        private final LocalDate applicationDate;
+
+        public CreditLine(Double outstandingAmount, Double principalAmount, LocalDate applicationDate) {
+            this.outstandingAmount = outstandingAmount;
+            this.principalAmount = principalAmount;
+            this.applicationDate = applicationDate;
+        }
+
+        public Double getOutstandingAmount() {
+            return outstandingAmount;
+        }
+
+        public Double getPrincipalAmount() {
+            return principalAmount;
+        }
+
+        public LocalDate getApplicationDate() {
+            return applicationDate;
+        }
+    }
+}
@@ -9,7 +9,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -20,12 +19,6 @@ public class CreditScoreService {
     @Autowired
     private CreditScoreRepository creditScoreRepository;
 
-    @Autowired
-    private CreditInquiryRepository creditInquiryRepository;
-
-    @Autowired
-    private PaymentHistoryRepository paymentHistoryRepository;
-
     @Autowired
     private CreditReportRepository creditReportRepository;
 
@@ -41,26 +34,14 @@ public class CreditScoreService {
     @Autowired
     private LoanRepository loanRepository;
 
-    @Autowired
-    private AccountRepository accountRepository;
-
     @Autowired
     private WealthProfileRepository wealthProfileRepository;
 
-    @Autowired
-    private FixedDepositRepository fixedDepositRepository;
-
-    @Autowired
-    private RecurringDepositRepository recurringDepositRepository;
-
-    @Autowired
-    private CardRepository cardRepository;
-
     @Autowired
     private MutualFundRepository mutualFundRepository;
 
     @Autowired
-    private InsurancePolicyRepository insurancePolicyRepository;
+    private CreditProfileLoader creditProfileLoader;
 
     /**
      * Calculate credit score for a customer using 5-factor algorithm
@@ -69,61 +50,14 @@ public class CreditScoreService {
         Customer customer = customerRepository.findById(customerId)
             .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
 
-        // Get previous score if exists
-        Optional<CreditScore> previousScoreOpt = creditScoreRepository.findLatestByCustomerId(customerId);
-        Integer previousScore = previousScoreOpt.map(CreditScore::getScore).orElse(null);
-
-        // Calculate each factor
-        int paymentHistoryScore = calculatePaymentHistoryScore(customerId);
-        int creditUtilizationScore = calculateCreditUtilizationScore(customerId);
-        int creditHistoryLengthScore = calculateCreditHistoryLengthScore(customerId);
-        int creditMixScore = calculateCreditMixScore(customerId);
-        int recentInquiriesScore = calculateRecentInquiriesScore(customerId);
-
-        // Total score (300-900 range)
-        int totalScore = paymentHistoryScore + creditUtilizationScore + 
-                        creditHistoryLengthScore + creditMixScore + recentInquiriesScore;
-
-        // Ensure score is within valid range
-        totalScore = Math.max(300, Math.min(900, totalScore));
-
-        // Determine category
-        CreditScoreCategory category = determineCategory(totalScore);
-
-        // Get metrics
-        double onTimePaymentPercentage = calculateOnTimePaymentPercentage(customerId);
-        double creditUtilizationRatio = calculateCreditUtilizationRatio(customerId);
-        int oldestAccountAgeMonths = getOldestAccountAgeMonths(customerId);
-        int numberOfActiveAccounts = countActiveAccounts(customerId);
-        long hardInquiriesLast6Months = countHardInquiries(customerId, 6);
+        // All inputs in a handful of set-based queries; the factors below are pure functions of it
+        CreditProfileSnapshot profile = creditProfileLoader.load(customerId, LocalDate.now());
 
-        // Create and save credit score
         CreditScore creditScore = new CreditScore();
         creditScore.setCustomer(customer);
-        creditScore.setScore(totalScore);
-        creditScore.setCategory(category);
-        creditScore.setCalculationDate(LocalDate.now());
-        
-        creditScore.setPaymentHistoryScore(paymentHistoryScore);
-        creditScore.setCreditUtilizationScore(creditUtilizationScore);
-        creditScore.setCreditHistoryLengthScore(creditHistoryLengthScore);
-        creditScore.setCreditMixScore(creditMixScore);
-        creditScore.setRecentInquiriesScore(recentInquiriesScore);
-        
-        creditScore.setOnTimePaymentPercentage(onTimePaymentPercentage);
-        creditScore.setCreditUtilizationRatio(creditUtilizationRatio);
-        creditScore.setOldestAccountAgeMonths(oldestAccountAgeMonths);
-        creditScore.setNumberOfActiveAccounts(numberOfActiveAccounts);
-        creditScore.setHardInquiriesLast6Months((int) hardInquiriesLast6Months);
-        
-        if (previousScore != null) {
-            creditScore.setPreviousScore(previousScore);
-            creditScore.setScoreChange(totalScore - previousScore);
-        }
-        
-        // Generate improvement suggestions
-        List<String> suggestions = generateImprovementSuggestions(creditScore);
-        creditScore.setImprovementSuggestions(String.join("; ", suggestions));
+        creditScore.setCalculationDate(profile.getAsOf());
+        CreditScoringRules.score(profile, creditScore);
+        List<String> suggestions = CreditScoringRules.improvementSuggestions(creditScore);
 
         creditScore = creditScoreRepository.save(creditScore);
 
@@ -148,279 +82,6 @@ public class CreditScoreService {
         return response;
     }
 
-    /**
-     * Calculate payment history score (35% = 315 points max)
-     */
-    private int calculatePaymentHistoryScore(Long customerId) {
-        LocalDate twoYearsAgo = LocalDate.now().minusMonths(24);
-        List<PaymentHistory> payments = paymentHistoryRepository.findRecentPayments(customerId, twoYearsAgo);
-
-        if (payments.isEmpty()) {
-            return 250; // Default score if no payment history
-        }
-
-        long onTimePayments = payments.stream()
-            .filter(p -> "ON_TIME".equals(p.getStatus()))
-            .count();
-
-        double onTimePercentage = (double) onTimePayments / payments.size() * 100;
-        
-        // Base score from on-time percentage
-        int score = (int) (315 * (onTimePercentage / 100));
-
-        // Deduct for late payments
-        long latePayments = payments.stream()
-            .filter(p -> "LATE".equals(p.getStatus()) && p.getDaysLate() != null)
-            .count();
-
-        long missedPayments = payments.stream()
-            .filter(p -> "MISSED".equals(p.getStatus()))
-            .count();
-
-        // Penalties
-        score -= (int) (latePayments * 15);  // -15 points per late payment
-        score -= (int) (missedPayments * 30); // -30 points per missed payment
-
-        return Math.max(0, Math.min(315, score));
-    }
-
-    /**
-     * Calculate credit utilization score (30% = 270 points max)
-     */
-    private int calculateCreditUtilizationScore(Long customerId) {
-        double utilizationRatio = calculateCreditUtilizationRatio(customerId);
-
-        if (utilizationRatio < 0) {
-            return 270; // No credit used
-        }
-
-        // Optimal ratio is < 30%
-        // Score decreases as ratio increases
-        int score;
-        if (utilizationRatio <= 0.30) {
-            score = 270; // Full score for < 30% utilization
-        } else if (utilizationRatio <= 0.50) {
-            score = (int) (270 * (1 - (utilizationRatio - 0.30) / 0.20 * 0.3));
-        } else if (utilizationRatio <= 0.70) {
-            score = (int) (270 * (1 - (utilizationRatio - 0.30) / 0.40 * 0.5));
-        } else {
-            score = (int) (270 * (1 - Math.min(utilizationRatio, 1.0)));
-        }
-
-        return Math.max(0, Math.min(270, score));
-    }
-
-    /**
-     * Calculate credit history length score (15% = 135 points max)
-     */
-    private int calculateCreditHistoryLengthScore(Long customerId) {
-        int ageInMonths = getOldestAccountAgeMonths(customerId);
-
-        if (ageInMonths == 0) {
-            return 50; // Minimal score for new customers
-        }
-
-        // Max score at 120 months (10 years)
-        int score = (int) (135 * Math.min(ageInMonths / 120.0, 1.0));
-
-        return Math.max(0, Math.min(135, score));
-    }
-
-    /**
-     * Calculate credit mix score (10% = 90 points max)
-     */
-    private int calculateCreditMixScore(Long customerId) {
-        int distinctTypes = countActiveAccounts(customerId);
-
-        // 5+ types = max score
-        int score = (int) (90 * Math.min(distinctTypes / 5.0, 1.0));
-
-        return Math.max(0, Math.min(90, score));
-    }
-
-    /**
-     * Calculate recent inquiries score (10% = 90 points max)
-     */
-    private int calculateRecentInquiriesScore(Long customerId) {
-        long hardInquiries = countHardInquiries(customerId, 6);
-
-        // 0 inquiries = 90 points, 5+ inquiries = 0 points
-        int score = (int) (90 * Math.max(1 - (hardInquiries / 5.0), 0));
-
-        return Math.max(0, Math.min(90, score));
-    }
-
-    /**
-     * Calculate on-time payment percentage
-     */
-    private double calculateOnTimePaymentPercentage(Long customerId) {
-        LocalDate twoYearsAgo = LocalDate.now().minusMonths(24);
-        Long totalPayments = paymentHistoryRepository.countTotalPayments(customerId, twoYearsAgo);
-        
-        if (totalPayments == 0) {
-            return 100.0;
-        }
-
-        Long onTimePayments = paymentHistoryRepository.countOnTimePayments(customerId, twoYearsAgo);
-        return (double) onTimePayments / totalPayments * 100;
-    }
-
-    /**
-     * Calculate credit utilization ratio
-     */
-    private double calculateCreditUtilizationRatio(Long customerId) {
-        Customer customer = customerRepository.findById(customerId).orElse(null);
-        if (customer == null) return -1;
-
-        // Get total outstanding from loans
-        List<Loan> loans = loanRepository.findByCustomer(customer);
-        double totalOutstanding = loans.stream()
-            .filter(l -> l.getOutstandingAmount() != null)
-            .mapToDouble(Loan::getOutstandingAmount)
-            .sum();
-
-        // Get total principal (available credit)
-        double totalCredit = loans.stream()
-            .filter(l -> l.getPrincipalAmount() != null)
-            .mapToDouble(Loan::getPrincipalAmount)
-            .sum();
-
-        if (totalCredit == 0) {
-            return -1; // No credit history
-        }
-
-        return totalOutstanding / totalCredit;
-    }
-
-    /**
-     * Get oldest account age in months
-     */
-    private int getOldestAccountAgeMonths(Long customerId) {
-        Customer customer = customerRepository.findById(customerId).orElse(null);
-        if (customer == null) return 0;
-
-        LocalDate oldestDate = LocalDate.now();
-        boolean hasAccounts = false;
-
-        // Check loans
-        List<Loan> loans = loanRepository.findByCustomer(customer);
-        if (!loans.isEmpty()) {
-            hasAccounts = true;
-            for (Loan loan : loans) {
-                if (loan.getApplicationDate() != null && loan.getApplicationDate().isBefore(oldestDate)) {
-                    oldestDate = loan.getApplicationDate();
-                }
-            }
-        }
-
-        // Check accounts (savings)
-        List<Account> accounts = accountRepository.findByCustomer(customer);
-        if (!accounts.isEmpty()) {
-            hasAccounts = true;
-            // Assume first account is oldest (simplified)
-            oldestDate = oldestDate.minusYears(2); // Simplified assumption
-        }
-
-        if (!hasAccounts) {
-            return 0;
-        }
-
-        return (int) ChronoUnit.MONTHS.between(oldestDate, LocalDate.now());
-    }
-
-    /**
-     * Count active accounts of different types
-     */
-    private int countActiveAccounts(Long customerId) {
-        Customer customer = customerRepository.findById(customerId).orElse(null);
-        if (customer == null) return 0;
-
-        int types = 0;
-
-        // Check accounts
-        List<Account> accounts = accountRepository.findByCustomer(customer);
-        if (!accounts.isEmpty()) types++;
-
-        // Check loans
-        if (!loanRepository.findByCustomer(customer).isEmpty()) types++;
-
-        // Check fixed deposits
-        if (!fixedDepositRepository.findByCustomer(customer).isEmpty()) types++;
-
-        // Check recurring deposits
-        if (!recurringDepositRepository.findByCustomer(customer).isEmpty()) types++;
-
-        // Check cards (via accounts)
-        for (Account account : accounts) {
-            if (!cardRepository.findByAccount(account).isEmpty()) {
-                types++;
-                break;
-            }
-        }
-
-        // Check insurance
-        if (!insurancePolicyRepository.findByCustomerId(customerId).isEmpty()) types++;
-
-        return types;
-    }
-
-    /**
-     * Count hard inquiries in last X months
-     */
-    private long countHardInquiries(Long customerId, int months) {
-        LocalDate sinceDate = LocalDate.now().minusMonths(months);
-        return creditInquiryRepository.countHardInquiriesSince(customerId, sinceDate);
-    }
-
-    /**
-     * Determine credit score category
-     */
-    private CreditScoreCategory determineCategory(int score) {
-        if (score >= 800) return CreditScoreCategory.EXCELLENT;
-        if (score >= 750) return CreditScoreCategory.VERY_GOOD;
-        if (score >= 650) return CreditScoreCategory.GOOD;
-        if (score >= 550) return CreditScoreCategory.FAIR;
-        return CreditScoreCategory.POOR;
-    }
-
-    /**
-     * Generate improvement suggestions
-     */
-    private List<String> generateImprovementSuggestions(CreditScore creditScore) {
-        List<String> suggestions = new ArrayList<>();
-
-        // Payment history suggestions
-        if (creditScore.getOnTimePaymentPercentage() < 95) {
-            suggestions.add("Pay all bills on time to improve payment history (35% impact)");
-        }
-
-        // Credit utilization suggestions
-        if (creditScore.getCreditUtilizationRatio() > 0.30) {
-            suggestions.add("Reduce credit utilization below 30% to boost score (30% impact)");
-        }
-
-        // Credit history length suggestions
-        if (creditScore.getOldestAccountAgeMonths() < 60) {
-            suggestions.add("Keep oldest accounts active to build credit history (15% impact)");
-        }
-
-        // Credit mix suggestions
-        if (creditScore.getNumberOfActiveAccounts() < 3) {
-            suggestions.add("Diversify credit types (accounts, loans, cards) for better credit mix (10% impact)");
-        }
-
-        // Recent inquiries suggestions
-        if (creditScore.getHardInquiriesLast6Months() > 2) {
-            suggestions.add("Limit new credit applications to reduce hard inquiries (10% impact)");
-        }
-
-        if (suggestions.isEmpty()) {
-            suggestions.add("Your credit profile is strong! Maintain current practices.");
-        }
-
-        return suggestions;
-    }
-
     /**
      * Calculate factor impact percentages
      */
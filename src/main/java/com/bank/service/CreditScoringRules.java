@@ -0,0 +1,263 @@
+package com.bank.service;
+
+import com.bank.model.CreditScore;
+import com.bank.model.CreditScoreCategory;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The 5-factor credit score as pure functions of a {@link CreditProfileSnapshot}. Nothing here touches
+ * the database, so on-demand scoring and the bulk re-score job produce the same numbers.
+ */
+public final class CreditScoringRules {
+
+    private CreditScoringRules() {
+    }
+
+    /**
+     * Fills score, category, factor scores, metrics and improvement suggestions on {@code target}.
+     * Customer, calculation date and previous-score fields are left to the caller.
+     */
+    public static CreditScore score(CreditProfileSnapshot s, CreditScore target) {
+        int paymentHistoryScore = paymentHistoryScore(s);
+        int creditUtilizationScore = creditUtilizationScore(s);
+        int creditHistoryLengthScore = creditHistoryLengthScore(s);
+        int creditMixScore = creditMixScore(s);
+        int recentInquiriesScore = recentInquiriesScore(s);
+
+        // Total score (300-900 range)
+        int totalScore = paymentHistoryScore + creditUtilizationScore +
+                        creditHistoryLengthScore + creditMixScore + recentInquiriesScore;
+        totalScore = Math.max(300, Math.min(900, totalScore));
+
+        target.setScore(totalScore);
+        target.setCategory(determineCategory(totalScore));
+
+        target.setPaymentHistoryScore(paymentHistoryScore);
+        target.setCreditUtilizationScore(creditUtilizationScore);
+        target.setCreditHistoryLengthScore(creditHistoryLengthScore);
+        target.setCreditMixScore(creditMixScore);
+        target.setRecentInquiriesScore(recentInquiriesScore);
+
+        target.setOnTimePaymentPercentage(onTimePaymentPercentage(s));
+        target.setCreditUtilizationRatio(creditUtilizationRatio(s));
+        target.setOldestAccountAgeMonths(oldestAccountAgeMonths(s));
+        target.setNumberOfActiveAccounts(numberOfActiveAccountTypes(s));
+        target.setHardInquiriesLast6Months((int) s.getHardInquiriesLast6Months());
+
+        if (s.getPreviousScore() != null) {
+            target.setPreviousScore(s.getPreviousScore());
+            target.setScoreChange(totalScore - s.getPreviousScore());
+        }
+        target.setImprovementSuggestions(String.join("; ", improvementSuggestions(target)));
+        return target;
+    }
+
+    /**
+     * Payment history score (35% = 315 points max)
+     */
+    public static int paymentHistoryScore(CreditProfileSnapshot s) {
+        if (s.getTotalPayments() == 0) {
+            return 250; // Default score if no payment history
+        }
+
+        double onTimePercentage = (double) s.getOnTimePayments() / s.getTotalPayments() * 100;
+
+        // Base score from on-time percentage
+        int score = (int) (315 * (onTimePercentage / 100));
+
+        // Penalties
+        score -= (int) (s.getLatePaymentsWithDaysLate() * 15);  // -15 points per late payment
+        score -= (int) (s.getMissedPayments() * 30); // -30 points per missed payment
+
+        return Math.max(0, Math.min(315, score));
+    }
+
+    /**
+     * Credit utilization score (30% = 270 points max)
+     */
+    public static int creditUtilizationScore(CreditProfileSnapshot s) {
+        double utilizationRatio = creditUtilizationRatio(s);
+
+        if (utilizationRatio < 0) {
+            return 270; // No credit used
+        }
+
+        // Optimal ratio is < 30%
+        // Score decreases as ratio increases
+        int score;
+        if (utilizationRatio <= 0.30) {
+            score = 270; // Full score for < 30% utilization
+        } else if (utilizationRatio <= 0.50) {
+            score = (int) (270 * (1 - (utilizationRatio - 0.30) / 0.20 * 0.3));
+        } else if (utilizationRatio <= 0.70) {
+            score = (int) (270 * (1 - (utilizationRatio - 0.30) / 0.40 * 0.5));
+        } else {
+            score = (int) (270 * (1 - Math.min(utilizationRatio, 1.0)));
+        }
+
+        return Math.max(0, Math.min(270, score));
+    }
+
+    /**
+     * Credit history length score (15% = 135 points max)
+     */
+    public static int creditHistoryLengthScore(CreditProfileSnapshot s) {
+        int ageInMonths = oldestAccountAgeMonths(s);
+
+        if (ageInMonths == 0) {
+            return 50; // Minimal score for new customers
+        }
+
+        // Max score at 120 months (10 years)
+        int score = (int) (135 * Math.min(ageInMonths / 120.0, 1.0));
+
+        return Math.max(0, Math.min(135, score));
+    }
+
+    /**
+     * Credit mix score (10% = 90 points max)
+     */
+    public static int creditMixScore(CreditProfileSnapshot s) {
+        int distinctTypes = numberOfActiveAccountTypes(s);
+
+        // 5+ types = max score
+        int score = (int) (90 * Math.min(distinctTypes / 5.0, 1.0));
+
+        return Math.max(0, Math.min(90, score));
+    }
+
+    /**
+     * Recent inquiries score (10% = 90 points max)
+     */
+    public static int recentInquiriesScore(CreditProfileSnapshot s) {
+        long hardInquiries = s.getHardInquiriesLast6Months();
+
+        // 0 inquiries = 90 points, 5+ inquiries = 0 points
+        int score = (int) (90 * Math.max(1 - (hardInquiries / 5.0), 0));
+
+        return Math.max(0, Math.min(90, score));
+    }
+
+    public static double onTimePaymentPercentage(CreditProfileSnapshot s) {
+        if (s.getTotalPayments() == 0) {
+            return 100.0;
+        }
+        return (double) s.getOnTimePayments() / s.getTotalPayments() * 100;
+    }
+
+    /**
+     * Outstanding over principal across all loans, or -1 with no credit history
+     */
+    public static double creditUtilizationRatio(CreditProfileSnapshot s) {
+        double totalOutstanding = s.getLoans().stream()
+            .filter(l -> l.getOutstandingAmount() != null)
+            .mapToDouble(CreditProfileSnapshot.CreditLine::getOutstandingAmount)
+            .sum();
+
+        // Total principal (available credit)
+        double totalCredit = s.getLoans().stream()
+            .filter(l -> l.getPrincipalAmount() != null)
+            .mapToDouble(CreditProfileSnapshot.CreditLine::getPrincipalAmount)
+            .sum();
+
+        if (totalCredit == 0) {
+            return -1; // No credit history
+        }
+
+        return totalOutstanding / totalCredit;
+    }
+
+    public static int oldestAccountAgeMonths(CreditProfileSnapshot s) {
+        LocalDate oldestDate = s.getAsOf();
+        boolean hasAccounts = false;
+
+        // Check loans
+        if (!s.getLoans().isEmpty()) {
+            hasAccounts = true;
+            for (CreditProfileSnapshot.CreditLine loan : s.getLoans()) {
+                if (loan.getApplicationDate() != null && loan.getApplicationDate().isBefore(oldestDate)) {
+                    oldestDate = loan.getApplicationDate();
+                }
+            }
+        }
+
+        // Check accounts (savings)
+        if (s.hasAccounts()) {
+            hasAccounts = true;
+            // Assume first account is oldest (simplified)
+            oldestDate = oldestDate.minusYears(2); // Simplified assumption
+        }
+
+        if (!hasAccounts) {
+            return 0;
+        }
+
+        return (int) ChronoUnit.MONTHS.between(oldestDate, s.getAsOf());
+    }
+
+    /**
+     * Number of product types held: accounts, loans, FDs, RDs, cards, insurance
+     */
+    public static int numberOfActiveAccountTypes(CreditProfileSnapshot s) {
+        int types = 0;
+        if (s.hasAccounts()) types++;
+        if (!s.getLoans().isEmpty()) types++;
+        if (s.hasFixedDeposits()) types++;
+        if (s.hasRecurringDeposits()) types++;
+        if (s.hasCards()) types++;
+        if (s.hasInsurance()) types++;
+        return types;
+    }
+
+    /**
+     * Determine credit score category
+     */
+    public static CreditScoreCategory determineCategory(int score) {
+        if (score >= 800) return CreditScoreCategory.EXCELLENT;
+        if (score >= 750) return CreditScoreCategory.VERY_GOOD;
+        if (score >= 650) return CreditScoreCategory.GOOD;
+        if (score >= 550) return CreditScoreCategory.FAIR;
+        return CreditScoreCategory.POOR;
+    }
+
+    /**
+     * Generate improvement suggestions
+     */
+    public static List<String> improvementSuggestions(CreditScore creditScore) {
+        List<String> suggestions = new ArrayList<>();
+
+        // Payment history suggestions
+        if (creditScore.getOnTimePaymentPercentage() < 95) {
+            suggestions.add("Pay all bills on time to improve payment history (35% impact)");
+        }
+
+        // Credit utilization suggestions
+        if (creditScore.getCreditUtilizationRatio() > 0.30) {
+            suggestions.add("Reduce credit utilization below 30% to boost score (30% impact)");
+        }
+
+        // Credit history length suggestions
+        if (creditScore.getOldestAccountAgeMonths() < 60) {
+            suggestions.add("Keep oldest accounts active to build credit history (15% impact)");
+        }
+
+        // Credit mix suggestions
+        if (creditScore.getNumberOfActiveAccounts() < 3) {
+            suggestions.add("Diversify credit types (accounts, loans, cards) for better credit mix (10% impact)");
+        }
+
+        // Recent inquiries suggestions
+        if (creditScore.getHardInquiriesLast6Months() > 2) {
+            suggestions.add("Limit new credit applications to reduce hard inquiries (10% impact)");
+        }
+
+        if (suggestions.isEmpty()) {
+            suggestions.add("Your credit profile is strong! Maintain current practices.");
+        }
+
+        return suggestions;
+    }
+}
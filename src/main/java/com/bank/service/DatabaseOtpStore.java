@@ -0,0 +1,69 @@
+package com.bank.service;
+
+import com.bank.model.AppUser;
+import com.bank.model.OtpVerification;
+import com.bank.repository.OtpRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * OTPs in the otp_verifications table. Use this when several application nodes must see the same codes.
+ */
+@Component
+@ConditionalOnProperty(name="otp.store", havingValue="DATABASE")
+public class DatabaseOtpStore implements OtpStore {
+    @Autowired
+    private OtpRepository otpRepository;
+
+    @Override
+    @Transactional
+    public void save(String destination, OtpVerification.OtpType type, String code, AppUser user, LocalDateTime expiresAt) {
+        this.otpRepository.deleteByEmailAndOtpType(destination, type);
+        OtpVerification otpVerification = new OtpVerification();
+        otpVerification.setEmail(destination);
+        otpVerification.setOtpCode(code);
+        otpVerification.setOtpType(type);
+        otpVerification.setUser(user);
+        otpVerification.setExpiresAt(expiresAt);
+        otpVerification.setVerified(false);
+        otpVerification.setCreatedAt(LocalDateTime.now());
+        this.otpRepository.save(otpVerification);
+    }
+
+    @Override
+    @Transactional
+    public boolean check(String destination, OtpVerification.OtpType type, String code, boolean consume) {
+        Optional<OtpVerification> otpOpt = this.otpRepository.findByEmailAndOtpCodeAndOtpTypeAndVerifiedFalse(destination, code, type);
+        if (otpOpt.isEmpty() || otpOpt.get().isExpired()) {
+            return false;
+        }
+        if (consume) {
+            OtpVerification otp = otpOpt.get();
+            otp.setVerified(true);
+            this.otpRepository.save(otp);
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void invalidate(String destination, OtpVerification.OtpType type) {
+        this.otpRepository.deleteByEmailAndOtpType(destination, type);
+    }
+
+    @Override
+    public Optional<IssuedOtp> findLatest(String destination, OtpVerification.OtpType type) {
+        return this.otpRepository.findFirstByEmailAndOtpTypeAndVerifiedFalseOrderByCreatedAtDesc(destination, type)
+            .map(otp -> new IssuedOtp(otp.getOtpCode(), otp.getUser(), otp.getCreatedAt()));
+    }
+
+    @Override
+    @Transactional
+    public void purgeExpired() {
+        this.otpRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,122 @@
+package com.bank.service;
+
+import com.bank.model.AppUser;
+import com.bank.model.OtpVerification;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * OTPs kept in this JVM only. Codes are stored as HMAC-SHA256 under a per-process random key, so a heap
+ * dump does not reveal them. Each entry expires on its own, allows {@value #MAX_ATTEMPTS} guesses, and is
+ * compared in constant time. The map is capped; expired entries are purged before a new code is refused.
+ */
+@Component
+@ConditionalOnProperty(name="otp.store", havingValue="MEMORY", matchIfMissing=true)
+public class InMemoryOtpStore implements OtpStore {
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int MAX_ENTRIES = 100000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final SecretKeySpec hmacKey;
+
+    public InMemoryOtpStore() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.hmacKey = new SecretKeySpec(secret, "HmacSHA256");
+    }
+
+    @Override
+    public void save(String destination, OtpVerification.OtpType type, String code, AppUser user, LocalDateTime expiresAt) {
+        String key = key(destination, type);
+        if (entries.size() >= MAX_ENTRIES && !entries.containsKey(key)) {
+            purgeExpired();
+            if (entries.size() >= MAX_ENTRIES) {
+                throw new RuntimeException("Too many pending OTPs, please try again later");
+            }
+        }
+        entries.put(key, new Entry(hash(key, code), expiresAt, LocalDateTime.now()));
+    }
+
+    @Override
+    public boolean check(String destination, OtpVerification.OtpType type, String code, boolean consume) {
+        String key = key(destination, type);
+        Entry entry = entries.get(key);
+        if (entry == null || code == null) {
+            return false;
+        }
+        if (entry.isExpired() || entry.attempts.incrementAndGet() > MAX_ATTEMPTS) {
+            entries.remove(key, entry);
+            return false;
+        }
+        boolean match = MessageDigest.isEqual(entry.hash, hash(key, code));
+        if (match && consume) {
+            entries.remove(key, entry);
+        }
+        return match;
+    }
+
+    @Override
+    public void invalidate(String destination, OtpVerification.OtpType type) {
+        entries.remove(key(destination, type));
+    }
+
+    @Override
+    public Optional<IssuedOtp> findLatest(String destination, OtpVerification.OtpType type) {
+        Entry entry = entries.get(key(destination, type));
+        if (entry == null || entry.isExpired()) {
+            return Optional.empty();
+        }
+        return Optional.of(new IssuedOtp(null, null, entry.createdAt));
+    }
+
+    @Override
+    public void purgeExpired() {
+        entries.values().removeIf(Entry::isExpired);
+    }
+
+    private static String key(String destination, OtpVerification.OtpType type) {
+        return type.name() + ':' + destination;
+    }
+
+    // The key is mixed in so equal codes for different destinations hash differently
+    private byte[] hash(String key, String code) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(hmacKey);
+            mac.update(key.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(code.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] hash;
+        private final LocalDateTime expiresAt;
+        private final LocalDateTime createdAt;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        Entry(byte[] hash, LocalDateTime expiresAt, LocalDateTime createdAt) {
+            this.hash = hash;
+            this.expiresAt = expiresAt;
+            this.createdAt = createdAt;
+        }
+
+        boolean isExpired() {
+            return LocalDateTime.now().isAfter(expiresAt);
+        }
+    }
+}
@@ -7,21 +7,31 @@ import com.bank.model.*;
 import com.bank.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @Transactional
 public class LoanManagementService {
     
+    // 0.1% of the EMI per day overdue; OverdueEmiJob applies the same rate in SQL
+    static final double DAILY_PENALTY_RATE = 0.001;
+    
     @Autowired
     private EmiScheduleRepository emiScheduleRepository;
     
+    @Autowired
+    private AmortizationPlanRepository amortizationPlanRepository;
+    
     @Autowired
     private LoanPrepaymentRepository loanPrepaymentRepository;
     
@@ -37,6 +47,9 @@ public class LoanManagementService {
     @Autowired
     private OverdueTrackingRepository overdueTrackingRepository;
     
+    @Autowired
+    private OverdueEmiJob overdueEmiJob;
+    
     @Autowired
     private LoanRepository loanRepository;
     
@@ -46,63 +59,76 @@ public class LoanManagementService {
     @Autowired
     private RewardsService rewardsService;
     
-    // Generate EMI schedule for a loan
+    // EMI schedule for a loan: installments with a row (paid or fallen due) as stored, the rest computed
     public List<EmiScheduleDto> generateEmiSchedule(Long loanId) {
+        return getEmiSchedulePage(loanId, 0, Integer.MAX_VALUE);
+    }
+    
+    // One page of the EMI schedule: stored rows where they exist, the other installments computed from the plan
+    @Transactional(readOnly = true)
+    public List<EmiScheduleDto> getEmiSchedulePage(Long loanId, int page, int size) {
         Loan loan = loanRepository.findById(loanId)
                 .orElseThrow(() -> new ResourceNotFoundException("Loan not found"));
-        
-        // Check if schedule already exists
-        List<EmiSchedule> existingSchedule = emiScheduleRepository.findByLoanId(loanId);
-        if (!existingSchedule.isEmpty()) {
-            return existingSchedule.stream()
-                    .map(this::convertToEmiDto)
-                    .collect(Collectors.toList());
+        // Before disbursement the schedule is a projection from the loan terms
+        AmortizationPlan plan = amortizationPlanRepository.findByLoanId(loanId)
+                .orElseGet(() -> newPlan(loan, LocalDate.now()));
+        
+        List<EmiScheduleDto> schedule = new ArrayList<>();
+        long first = 1 + (long) page * size;
+        int last = (int) Math.min(plan.lastEmiNumber(), first + size - 1);
+        if (first > last) {
+            return schedule;
         }
         
-        // Generate new schedule
-        Double loanAmount = loan.getPrincipalAmount();
-        Double annualRate = loan.getInterestRate();
-        Integer tenureMonths = loan.getTenureMonths();
-        
-        Double monthlyRate = annualRate / 12 / 100;
-        
-        // EMI calculation using reducing balance method
-        Double emi = calculateEMI(loanAmount, monthlyRate, tenureMonths);
-        
-        Double outstandingPrincipal = loanAmount;
-        LocalDate startDate = LocalDate.now();
-        
-        List<EmiSchedule> schedules = new ArrayList<>();
-        
-        for (int i = 1; i <= tenureMonths; i++) {
-            EmiSchedule schedule = new EmiSchedule();
-            schedule.setLoan(loan);
-            schedule.setEmiNumber(i);
-            schedule.setDueDate(startDate.plusMonths(i));
-            schedule.setEmiAmount(emi);
-            
-            // Calculate principal and interest components
-            Double interestComponent = outstandingPrincipal * monthlyRate;
-            Double principalComponent = emi - interestComponent;
-            
-            schedule.setInterestComponent(interestComponent);
-            schedule.setPrincipalComponent(principalComponent);
-            
-            outstandingPrincipal -= principalComponent;
-            schedule.setOutstandingPrincipal(Math.max(0, outstandingPrincipal));
-            
-            schedule.setIsPaid(false);
-            schedule.setDaysOverdue(0);
-            schedule.setPenaltyAmount(0.0);
-            
-            schedules.add(schedule);
+        Map<Integer, EmiSchedule> rows = new HashMap<>();
+        for (EmiSchedule row : emiScheduleRepository.findByLoanIdAndEmiNumberBetweenOrderByEmiNumberAsc(loanId, (int) first, last)) {
+            rows.put(row.getEmiNumber(), row);
         }
-        
-        emiScheduleRepository.saveAll(schedules);
-        
-        return schedules.stream()
-                .map(this::convertToEmiDto)
-                .collect(Collectors.toList());
+        for (int n = (int) first; n <= last; n++) {
+            EmiSchedule row = rows.get(n);
+            if (row != null) {
+                schedule.add(convertToEmiDto(row));
+            } else if (n >= plan.getFirstEmiNumber()) {
+                // numbers below the plan without a row were folded into a restructure
+                schedule.add(AmortizationEngine.installment(plan, n));
+            }
+        }
+        return schedule;
+    }
+    
+    /**
+     * Opens the amortization plan of a loan being disbursed on {@code disbursementDate}: the full tenure
+     * at the loan's rate, first installment due a month later.
+     */
+    public AmortizationPlan openPlan(Loan loan, LocalDate disbursementDate) {
+        return amortizationPlanRepository.findByLoanId(loan.getId())
+                .orElseGet(() -> amortizationPlanRepository.save(newPlan(loan, disbursementDate)));
+    }
+    
+    static AmortizationPlan newPlan(Loan loan, LocalDate disbursementDate) {
+        AmortizationPlan plan = new AmortizationPlan();
+        plan.setLoan(loan);
+        plan.startSegment(1, loan.getPrincipalAmount(), loan.getInterestRate(),
+                AmortizationEngine.emi(loan.getPrincipalAmount(), loan.getInterestRate(), loan.getTenureMonths()),
+                loan.getTenureMonths(), disbursementDate.plusMonths(1));
+        return plan;
+    }
+    
+    // Plans are opened at disbursement; loans from before plans existed got theirs from AmortizationPlanMigration
+    private AmortizationPlan planFor(Loan loan) {
+        return amortizationPlanRepository.findByLoanId(loan.getId())
+                .orElseThrow(() -> new IllegalStateException("Loan " + loan.getLoanNumber() + " has not been disbursed"));
+    }
+    
+    // Unpaid principal, interest and installment count: unpaid rows plus installments not yet materialized
+    private Remaining remaining(AmortizationPlan plan) {
+        EmiScheduleRepository.UnpaidTotals unpaid = emiScheduleRepository.sumUnpaid(plan.getLoan().getId());
+        int next = plan.getMaterializedThrough() + 1;
+        return new Remaining(
+                unpaid.getPrincipal() + AmortizationEngine.principalFrom(plan, next),
+                unpaid.getInterest() + AmortizationEngine.interestFrom(plan, next),
+                (int) unpaid.getCount(),
+                AmortizationEngine.remainingFrom(plan, next));
     }
     
     // Calculate EMI using formula: P * r * (1+r)^n / ((1+r)^n - 1)
@@ -150,6 +176,28 @@ public class LoanManagementService {
         return convertToEmiDto(emi);
     }
     
+    // Record payment of an installment by number; the next installment gets its row when paid ahead of due
+    public EmiScheduleDto recordInstallmentPayment(Long loanId, Integer emiNumber, Double amount, String reference) {
+        Optional<EmiSchedule> existing = emiScheduleRepository.findByLoanIdAndEmiNumber(loanId, emiNumber);
+        if (existing.isPresent()) {
+            return recordEmiPayment(existing.get().getId(), amount, reference);
+        }
+        
+        Loan loan = loanRepository.findById(loanId)
+                .orElseThrow(() -> new ResourceNotFoundException("Loan not found"));
+        AmortizationPlan plan = planFor(loan);
+        if (emiNumber != plan.getMaterializedThrough() + 1 || emiNumber > plan.lastEmiNumber()) {
+            throw new IllegalStateException("EMI #" + emiNumber + " cannot be paid before the earlier installments");
+        }
+        
+        // Against an overdue sweep materializing the same installment, uk_emi_loan_number or the plan
+        // version fails one side; the sweep retries its range
+        EmiSchedule emi = emiScheduleRepository.save(AmortizationEngine.toRow(plan, emiNumber));
+        plan.materializedUpTo(emiNumber);
+        amortizationPlanRepository.save(plan);
+        return recordEmiPayment(emi.getId(), amount, reference);
+    }
+    
     // Process prepayment
     public PrepaymentResponse processPrepayment(PrepaymentRequest request) {
         Loan loan = loanRepository.findById(request.getLoanId())
@@ -158,10 +206,9 @@ public class LoanManagementService {
         Customer customer = loan.getCustomer();
         
         // Get outstanding principal from EMI schedule
-        List<EmiSchedule> unpaidEmis = emiScheduleRepository.findByLoanIdAndIsPaidFalse(request.getLoanId());
-        Double outstandingPrincipal = unpaidEmis.stream()
-                .mapToDouble(EmiSchedule::getPrincipalComponent)
-                .sum();
+        AmortizationPlan plan = planFor(loan);
+        Remaining remaining = remaining(plan);
+        Double outstandingPrincipal = remaining.principal;
         
         if (request.getPrepaymentAmount() > outstandingPrincipal) {
             throw new IllegalArgumentException("Prepayment amount cannot exceed outstanding principal");
@@ -178,9 +225,7 @@ public class LoanManagementService {
         }
         
         // Calculate interest saved
-        Double totalInterestRemaining = unpaidEmis.stream()
-                .mapToDouble(EmiSchedule::getInterestComponent)
-                .sum();
+        Double totalInterestRemaining = remaining.interest;
         
         Double interestSaved = 0.0;
         Integer tenureReduced = 0;
@@ -198,19 +243,14 @@ public class LoanManagementService {
         if (request.getPrepaymentType() == PrepaymentType.FULL) {
             // Full prepayment - close the loan
             interestSaved = totalInterestRemaining;
-            tenureReduced = unpaidEmis.size();
+            tenureReduced = remaining.installments();
             
             prepayment.setOutstandingAfterPrepayment(0.0);
             prepayment.setInterestSaved(interestSaved);
             prepayment.setTenureReduced(tenureReduced);
             
-            // Mark all unpaid EMIs as paid
-            for (EmiSchedule emi : unpaidEmis) {
-                emi.setIsPaid(true);
-                emi.setPaidDate(LocalDate.now());
-                emi.setPaidAmount(0.0);
-            }
-            emiScheduleRepository.saveAll(unpaidEmis);
+            // Mark all unpaid EMIs as paid; installments not yet materialized are dropped
+            closeSchedule(plan);
             
             // Award milestone bonus for loan closure
             rewardsService.awardPoints(customer.getId(), 1000, RewardCategory.LOAN_CLOSURE, 
@@ -222,12 +262,12 @@ public class LoanManagementService {
             prepayment.setOutstandingAfterPrepayment(remainingPrincipal);
             
             // Recalculate EMI schedule
-            Double currentEmi = unpaidEmis.get(0).getEmiAmount();
-            Double monthlyRate = 10.5 / 12 / 100;
+            Double currentEmi = plan.getEmiAmount();
+            Double monthlyRate = plan.getAnnualRate() / 12 / 100;
             
             // Calculate new tenure
             Integer newTenure = calculateTenure(remainingPrincipal, monthlyRate, currentEmi);
-            tenureReduced = unpaidEmis.size() - newTenure;
+            tenureReduced = remaining.installments() - newTenure;
             
             // Calculate interest saved
             interestSaved = totalInterestRemaining - (currentEmi * newTenure - remainingPrincipal);
@@ -236,10 +276,12 @@ public class LoanManagementService {
             prepayment.setInterestSaved(interestSaved);
             prepayment.setNewEmiAmount(currentEmi);
             
-            // Remove excess EMIs
-            for (int i = unpaidEmis.size() - 1; i >= newTenure; i--) {
-                emiScheduleRepository.delete(unpaidEmis.get(i));
-            }
+            // Unpaid rows stay due; the prepayment shortens the installments after them
+            int next = plan.getMaterializedThrough() + 1;
+            double segmentPrincipal = Math.max(0, AmortizationEngine.principalFrom(plan, next) - request.getPrepaymentAmount());
+            int segmentTenure = segmentPrincipal > 0 ? Math.max(0, newTenure - remaining.unpaidRows) : 0;
+            plan.startSegment(next, segmentPrincipal, plan.getAnnualRate(), currentEmi, segmentTenure);
+            amortizationPlanRepository.save(plan);
         }
         
         prepayment.setTransactionReference(request.getPaymentReference());
@@ -272,14 +314,13 @@ public class LoanManagementService {
         Customer customer = loan.getCustomer();
         
         // Get current loan details
-        List<EmiSchedule> unpaidEmis = emiScheduleRepository.findByLoanIdAndIsPaidFalse(request.getLoanId());
-        Double outstandingPrincipal = unpaidEmis.stream()
-                .mapToDouble(EmiSchedule::getPrincipalComponent)
-                .sum();
+        AmortizationPlan plan = planFor(loan);
+        Remaining remaining = remaining(plan);
+        Double outstandingPrincipal = remaining.principal;
         
-        Double currentEmi = unpaidEmis.isEmpty() ? 0.0 : unpaidEmis.get(0).getEmiAmount();
-        Integer currentTenure = unpaidEmis.size();
-        Double currentRate = 10.5; // Should come from loan details
+        Integer currentTenure = remaining.installments();
+        Double currentEmi = currentTenure == 0 ? 0.0 : plan.getEmiAmount();
+        Double currentRate = plan.getAnnualRate();
         
         LoanRestructure restructure = new LoanRestructure();
         restructure.setLoan(loan);
@@ -356,43 +397,22 @@ public class LoanManagementService {
             throw new IllegalStateException("Restructure already implemented");
         }
         
-        // Delete existing unpaid EMIs
-        List<EmiSchedule> unpaidEmis = emiScheduleRepository.findByLoanIdAndIsPaidFalse(restructure.getLoan().getId());
-        emiScheduleRepository.deleteAll(unpaidEmis);
-        
-        // Generate new EMI schedule
-        Double outstandingPrincipal = restructure.getOriginalOutstanding();
-        Double monthlyRate = restructure.getNewInterestRate() / 12 / 100;
-        Integer tenureMonths = restructure.getNewTenureMonths();
-        Double emi = restructure.getNewEmiAmount();
-        
-        LocalDate startDate = LocalDate.now();
-        List<EmiSchedule> newSchedules = new ArrayList<>();
-        
-        for (int i = 1; i <= tenureMonths; i++) {
-            EmiSchedule schedule = new EmiSchedule();
-            schedule.setLoan(restructure.getLoan());
-            schedule.setEmiNumber(i);
-            schedule.setDueDate(startDate.plusMonths(i));
-            schedule.setEmiAmount(emi);
-            
-            Double interestComponent = outstandingPrincipal * monthlyRate;
-            Double principalComponent = emi - interestComponent;
-            
-            schedule.setInterestComponent(interestComponent);
-            schedule.setPrincipalComponent(principalComponent);
-            
-            outstandingPrincipal -= principalComponent;
-            schedule.setOutstandingPrincipal(Math.max(0, outstandingPrincipal));
-            
-            schedule.setIsPaid(false);
-            schedule.setDaysOverdue(0);
-            schedule.setPenaltyAmount(0.0);
-            
-            newSchedules.add(schedule);
+        // Delete existing unpaid EMIs; their principal is part of the restructured outstanding
+        Long loanId = restructure.getLoan().getId();
+        AmortizationPlan plan = planFor(restructure.getLoan());
+        Integer firstUnpaid = emiScheduleRepository.findFirstUnpaidEmiNumber(loanId);
+        if (firstUnpaid != null) {
+            overdueTrackingRepository.resolveForUnpaidFrom(loanId, firstUnpaid, LocalDate.now(), "Capitalized by restructure");
+            overdueTrackingRepository.detachUnpaidFrom(loanId, firstUnpaid);
+            emiScheduleRepository.deleteUnpaidFrom(loanId, firstUnpaid);
         }
         
-        emiScheduleRepository.saveAll(newSchedules);
+        // New terms continue the numbering after the last paid EMI
+        Integer lastPaid = emiScheduleRepository.findLastPaidEmiNumber(loanId);
+        plan.startSegment(lastPaid == null ? 1 : lastPaid + 1, restructure.getOriginalOutstanding(),
+                restructure.getNewInterestRate(), restructure.getNewEmiAmount(), restructure.getNewTenureMonths(),
+                LocalDate.now().plusMonths(1));
+        amortizationPlanRepository.save(plan);
         
         restructure.setIsImplemented(true);
         restructure.setEffectiveDate(LocalDate.now());
@@ -408,15 +428,11 @@ public class LoanManagementService {
         
         Customer customer = loan.getCustomer();
         
-        List<EmiSchedule> unpaidEmis = emiScheduleRepository.findByLoanIdAndIsPaidFalse(loanId);
+        Remaining remaining = remaining(planFor(loan));
         
-        Double outstandingPrincipal = unpaidEmis.stream()
-                .mapToDouble(EmiSchedule::getPrincipalComponent)
-                .sum();
+        Double outstandingPrincipal = remaining.principal;
         
-        Double pendingInterest = unpaidEmis.stream()
-                .mapToDouble(EmiSchedule::getInterestComponent)
-                .sum();
+        Double pendingInterest = remaining.interest;
         
         // Check for foreclosure charges
         Double foreclosureCharges = 0.0;
@@ -439,7 +455,7 @@ public class LoanManagementService {
         response.setForeclosureCharges(foreclosureCharges);
         response.setPrepaymentPenalty(0.0);
         response.setTotalAmountDue(totalAmount);
-        response.setRemainingEmis(unpaidEmis.size());
+        response.setRemainingEmis(remaining.installments());
         response.setInterestSaved(pendingInterest);
         
         return response;
@@ -479,14 +495,8 @@ public class LoanManagementService {
         
         loanForeclosureRepository.save(foreclosure);
         
-        // Mark all unpaid EMIs as paid
-        List<EmiSchedule> unpaidEmis = emiScheduleRepository.findByLoanIdAndIsPaidFalse(request.getLoanId());
-        for (EmiSchedule emi : unpaidEmis) {
-            emi.setIsPaid(true);
-            emi.setPaidDate(LocalDate.now());
-            emi.setPaidAmount(0.0);
-        }
-        emiScheduleRepository.saveAll(unpaidEmis);
+        // Mark all unpaid EMIs as paid; installments not yet materialized are dropped
+        closeSchedule(planFor(loan));
         
         // Award milestone bonus for loan closure
         rewardsService.awardPoints(customer.getId(), 1000, RewardCategory.LOAN_CLOSURE, 
@@ -495,64 +505,28 @@ public class LoanManagementService {
         return convertToForeclosureResponse(foreclosure);
     }
     
-    // Check and update overdue EMIs (scheduled job)
-    public void checkOverdueEmis() {
-        LocalDate today = LocalDate.now();
-        List<EmiSchedule> overdueEmis = emiScheduleRepository.findAllOverdueEmis(today);
-        
-        for (EmiSchedule emi : overdueEmis) {
-            long daysOverdue = ChronoUnit.DAYS.between(emi.getDueDate(), today);
-            emi.setDaysOverdue((int) daysOverdue);
-            
-            Double penalty = calculatePenalty(emi.getEmiAmount(), (int) daysOverdue);
-            emi.setPenaltyAmount(penalty);
-            
-            // Create or update overdue tracking
-            OverdueStatus status = determineOverdueStatus((int) daysOverdue);
-            
-            List<OverdueTracking> existingTracking = overdueTrackingRepository
-                    .findActiveOverduesByLoanId(emi.getLoan().getId());
-            
-            OverdueTracking tracking = existingTracking.stream()
-                    .filter(t -> t.getEmiSchedule().getId().equals(emi.getId()))
-                    .findFirst()
-                    .orElse(new OverdueTracking());
-            
-            if (tracking.getId() == null) {
-                tracking.setLoan(emi.getLoan());
-                tracking.setCustomer(emi.getLoan().getCustomer());
-                tracking.setEmiSchedule(emi);
-                tracking.setEmiDueDate(emi.getDueDate());
-                tracking.setEmiAmount(emi.getEmiAmount());
-            }
-            
-            tracking.setOverdueStatus(status);
-            tracking.setDaysOverdue((int) daysOverdue);
-            tracking.setTotalOverdueAmount(emi.getEmiAmount() + penalty);
-            tracking.setPenaltyAmount(penalty);
-            tracking.setIsResolved(false);
-            
-            overdueTrackingRepository.save(tracking);
+    // Check and update overdue EMIs; the nightly run is OverdueEmiJob, this is the on-demand trigger
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long checkOverdueEmis() {
+        return overdueEmiJob.runNow();
+    }
+    
+    private void closeSchedule(AmortizationPlan plan) {
+        Long loanId = plan.getLoan().getId();
+        Integer firstUnpaid = emiScheduleRepository.findFirstUnpaidEmiNumber(loanId);
+        if (firstUnpaid != null) {
+            overdueTrackingRepository.resolveForUnpaidFrom(loanId, firstUnpaid, LocalDate.now(), "Loan closed");
+            emiScheduleRepository.settleUnpaidFrom(loanId, firstUnpaid, LocalDate.now(), LocalDateTime.now());
         }
-        
-        emiScheduleRepository.saveAll(overdueEmis);
+        plan.close();
+        amortizationPlanRepository.save(plan);
     }
     
     // Calculate penalty based on days overdue
     private Double calculatePenalty(Double emiAmount, Integer daysOverdue) {
         if (daysOverdue <= 0) return 0.0;
         
-        Double dailyPenaltyRate = 0.001; // 0.1% per day
-        return emiAmount * dailyPenaltyRate * daysOverdue;
-    }
-    
-    // Determine overdue status based on days
-    private OverdueStatus determineOverdueStatus(Integer daysOverdue) {
-        if (daysOverdue <= 0) return OverdueStatus.CURRENT;
-        if (daysOverdue <= 30) return OverdueStatus.OVERDUE_1_30;
-        if (daysOverdue <= 60) return OverdueStatus.OVERDUE_31_60;
-        if (daysOverdue <= 90) return OverdueStatus.OVERDUE_61_90;
-        return OverdueStatus.OVERDUE_90_PLUS;
+        return emiAmount * DAILY_PENALTY_RATE * daysOverdue;
     }
     
     // Conversion methods
@@ -636,4 +610,22 @@ public class LoanManagementService {
         response.setBankRemarks(foreclosure.getBankRemarks());
         return response;
     }
+    
+    private static final class Remaining {
+        final double principal;
+        final double interest;
+        final int unpaidRows;
+        final int notMaterialized;
+        
+        Remaining(double principal, double interest, int unpaidRows, int notMaterialized) {
+            this.principal = principal;
+            this.interest = interest;
+            this.unpaidRows = unpaidRows;
+            this.notMaterialized = notMaterialized;
+        }
+        
+        int installments() {
+            return unpaidRows + notMaterialized;
+        }
+    }
 }
@@ -10,12 +10,22 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 public class LoanService {
 
+    // Batch calculator limit, about what a full slider sweep needs
+    private static final int MAX_EMI_GRID_CELLS = 20_000;
+
+    // 50 years; the growth loop below costs one multiply per payment per rate, and huge tenures overflow it
+    private static final int MAX_EMI_GRID_TENURE_MONTHS = 600;
+
+    // Annual percent; negative rates give negative interest and huge ones overflow the growth loop
+    private static final double MAX_EMI_GRID_RATE = 100.0;
+
     @Autowired
     private LoanRepository loanRepository;
 
@@ -34,6 +44,9 @@ public class LoanService {
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private LoanManagementService loanManagementService;
+
     private static final SecureRandom random = new SecureRandom();
 
     /**
@@ -163,6 +176,7 @@ public class LoanService {
         loan.setMaturityDate(LocalDate.now().plusMonths(loan.getTenureMonths()));
 
         loanRepository.save(loan);
+        loanManagementService.openPlan(loan, loan.getDisbursementDate());
 
         // Audit log
         auditService.logAction(username, "LOAN_DISBURSED", 
@@ -272,6 +286,96 @@ public class LoanService {
         return response;
     }
 
+    /**
+     * Calculate EMIs for a grid of principals x rates x tenures in one pass. EMI is linear in principal,
+     * so each rate/tenure pair needs one payment factor. The factors for one rate come from a single
+     * running product of (1+r) over the sorted payment counts, with no Math.pow per cell.
+     */
+    public LoanEmiGridResponse calculateEmiGrid(LoanEmiGridRequest request) {
+        double[] principals = request.getPrincipalAmounts();
+        int[] tenures = request.getTenureMonths();
+        RepaymentFrequency frequency = request.getRepaymentFrequency() != null
+            ? request.getRepaymentFrequency() : RepaymentFrequency.MONTHLY;
+        double[] rates = request.getInterestRates();
+        if (rates == null || rates.length == 0) {
+            if (request.getLoanType() == null) {
+                throw new IllegalArgumentException("Either interest rates or a loan type is required");
+            }
+            rates = new double[]{getInterestRateForLoanType(request.getLoanType())};
+        }
+
+        long cells = (long) principals.length * rates.length * tenures.length;
+        if (cells > MAX_EMI_GRID_CELLS) {
+            throw new IllegalArgumentException("Grid too large: " + cells + " cells, at most " + MAX_EMI_GRID_CELLS);
+        }
+        for (double principal : principals) {
+            if (!(principal > 0)) {
+                throw new IllegalArgumentException("Principal amounts must be positive");
+            }
+        }
+
+        int paymentsPerYear = getPaymentsPerYear(frequency);
+        int[] payments = new int[tenures.length];
+        Integer[] byPayments = new Integer[tenures.length];
+        for (int t = 0; t < tenures.length; t++) {
+            if (tenures[t] < 1) {
+                throw new IllegalArgumentException("Tenure must be at least 1 month");
+            }
+            if (tenures[t] > MAX_EMI_GRID_TENURE_MONTHS) {
+                throw new IllegalArgumentException("Tenure must be at most " + MAX_EMI_GRID_TENURE_MONTHS + " months");
+            }
+            payments[t] = calculateNumberOfPayments(tenures[t], frequency);
+            byPayments[t] = t;
+        }
+        Arrays.sort(byPayments, (a, b) -> Integer.compare(payments[a], payments[b]));
+
+        // factor[r][t] * principal = EMI
+        double[][] factor = new double[rates.length][tenures.length];
+        for (int r = 0; r < rates.length; r++) {
+            if (!(rates[r] >= 0 && rates[r] <= MAX_EMI_GRID_RATE)) {
+                throw new IllegalArgumentException("Interest rates must be between 0 and " + MAX_EMI_GRID_RATE + "%");
+            }
+            double ratePerPeriod = (rates[r] / 100) / paymentsPerYear;
+            double growth = 1;
+            int power = 0;
+            for (int t : byPayments) {
+                if (ratePerPeriod == 0) {
+                    factor[r][t] = 1.0 / payments[t];
+                    continue;
+                }
+                while (power < payments[t]) {
+                    growth *= 1 + ratePerPeriod;
+                    power++;
+                }
+                factor[r][t] = ratePerPeriod * growth / (growth - 1);
+            }
+        }
+
+        double[] emis = new double[(int) cells];
+        double[] interest = new double[(int) cells];
+        int i = 0;
+        for (double principal : principals) {
+            for (int r = 0; r < rates.length; r++) {
+                for (int t = 0; t < tenures.length; t++) {
+                    double emi = Math.round(principal * factor[r][t] * 100.0) / 100.0;
+                    emis[i] = emi;
+                    interest[i] = emi * payments[t] - principal;
+                    i++;
+                }
+            }
+        }
+
+        LoanEmiGridResponse response = new LoanEmiGridResponse();
+        response.setPrincipalAmounts(principals);
+        response.setInterestRates(rates);
+        response.setTenureMonths(tenures);
+        response.setNumberOfPayments(payments);
+        response.setRepaymentFrequency(frequency);
+        response.setEmiAmounts(emis);
+        response.setTotalInterest(interest);
+        return response;
+    }
+
     /**
      * Get loan details
      */
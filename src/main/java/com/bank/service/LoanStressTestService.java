@@ -0,0 +1,253 @@
+package com.bank.service;
+
+import com.bank.dto.StressScenario;
+import com.bank.dto.StressTestRequest;
+import com.bank.dto.StressTestResponse;
+import com.bank.model.AmortizationPlan;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Portfolio stress test: how monthly EMIs, remaining interest income and exposure at risk move under
+ * rate, tenure and default assumptions. The active book is streamed once into primitive column arrays.
+ * Each scenario's EMI is then re-derived for every loan on a fork-join pool. Work is split by loan range
+ * and each leaf evaluates all scenarios for its loans, so the columns are read once per run.
+ */
+@Service
+public class LoanStressTestService {
+    private static final Logger logger = LoggerFactory.getLogger(LoanStressTestService.class);
+
+    // The current terms of each repaying loan's amortization plan, plus its unpaid rows. loans.outstanding_amount
+    // is not kept up by installment payments, prepayments, restructures or foreclosures, so it is not read.
+    private static final String BOOK_SQL = "SELECT p.principal, p.annual_rate, p.emi_amount, p.first_emi_number, " +
+        "p.tenure_months, p.materialized_through, COALESCE(u.principal, 0), COALESCE(u.installments, 0) " +
+        "FROM loans l JOIN amortization_plans p ON p.loan_id = l.id " +
+        "LEFT JOIN (SELECT loan_id, SUM(principal_component) AS principal, COUNT(*) AS installments " +
+        "FROM emi_schedules WHERE is_paid = false GROUP BY loan_id) u ON u.loan_id = l.id " +
+        "WHERE l.status IN ('ACTIVE', 'DISBURSED')";
+
+    // Loans per fork-join leaf
+    private static final int LEAF_SIZE = 4096;
+
+    // Per-scenario accumulator slots
+    private static final int EMI = 0;
+    private static final int INTEREST = 1;
+    private static final int LOSS = 2;
+    private static final int AT_RISK = 3;
+    private static final int AT_RISK_COUNT = 4;
+    private static final int SLOTS = 5;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    // One run at a time: each holds the whole book in memory
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public StressTestResponse run(StressTestRequest request) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A stress test is already running");
+        }
+        try {
+            long start = System.nanoTime();
+            LoanBook book = loadBook();
+            StressTestResponse response = evaluate(book, request);
+            response.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+            logger.info("Stress test: {} loans x {} scenarios in {} ms", book.size, request.getScenarios().size(),
+                response.getElapsedMillis());
+            return response;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private LoanBook loadBook() {
+        LoanBook book = new LoanBook();
+        // Reused for every row: remaining figures come from AmortizationEngine as in LoanManagementService.remaining
+        AmortizationPlan plan = new AmortizationPlan();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(BOOK_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE); // MySQL: stream rows instead of buffering the result
+            return ps;
+        }, rs -> {
+            plan.setPrincipal(rs.getDouble(1));
+            plan.setAnnualRate(rs.getDouble(2));
+            plan.setEmiAmount(rs.getDouble(3));
+            plan.setFirstEmiNumber(rs.getInt(4));
+            plan.setTenureMonths(rs.getInt(5));
+            int next = rs.getInt(6) + 1;
+            int months = rs.getInt(8) + AmortizationEngine.remainingFrom(plan, next);
+            // Foreclosed or fully prepaid loans stay ACTIVE with nothing left to pay
+            if (months == 0) {
+                return;
+            }
+            double outstanding = rs.getDouble(7) + AmortizationEngine.principalFrom(plan, next);
+            if (outstanding > 0) {
+                book.add(outstanding, plan.getAnnualRate(), months);
+            }
+        });
+        return book;
+    }
+
+    // Package-private for LoanStressTestBenchmark, which evaluates a synthetic book without a database
+    StressTestResponse evaluate(LoanBook book, StressTestRequest request) {
+        Scenarios scenarios = new Scenarios(request.getScenarios(),
+            request.getPaymentShockThreshold() != null ? request.getPaymentShockThreshold() : 0.20);
+        double[] totals = pool.invoke(new Evaluate(book, scenarios, 0, book.size));
+        return toResponse(book, scenarios, request.getScenarios(), totals);
+    }
+
+    private static StressTestResponse toResponse(LoanBook book, Scenarios scenarios, List<StressScenario> input, double[] totals) {
+        int base = scenarios.count * SLOTS;
+        double baseEmi = totals[base];
+        double baseInterest = totals[base + 1];
+
+        StressTestResponse response = new StressTestResponse();
+        response.setLoanCount(book.size);
+        response.setTotalOutstanding(totals[base + 2]);
+        response.setBaseMonthlyEmi(baseEmi);
+        response.setBaseInterestIncome(baseInterest);
+
+        List<StressTestResponse.ScenarioResult> results = new ArrayList<>(scenarios.count);
+        for (int s = 0; s < scenarios.count; s++) {
+            int at = s * SLOTS;
+            StressTestResponse.ScenarioResult result = new StressTestResponse.ScenarioResult();
+            result.setName(input.get(s).getName());
+            result.setMonthlyEmi(totals[at + EMI]);
+            result.setEmiChange(totals[at + EMI] - baseEmi);
+            result.setEmiChangePercent(baseEmi == 0 ? 0.0 : (totals[at + EMI] - baseEmi) / baseEmi * 100);
+            result.setInterestIncome(totals[at + INTEREST]);
+            result.setInterestIncomeChange(totals[at + INTEREST] - baseInterest);
+            result.setExpectedLoss(totals[at + LOSS]);
+            result.setAtRiskExposure(totals[at + AT_RISK]);
+            result.setLoansAtRisk((int) totals[at + AT_RISK_COUNT]);
+            results.add(result);
+        }
+        response.setResults(results);
+        return response;
+    }
+
+    /**
+     * Sums over loans [from, to): per scenario the {@code SLOTS} figures, then base EMI, base interest
+     * and outstanding.
+     */
+    private static final class Evaluate extends RecursiveTask<double[]> {
+        private final LoanBook book;
+        private final Scenarios scenarios;
+        private final int from;
+        private final int to;
+
+        Evaluate(LoanBook book, Scenarios scenarios, int from, int to) {
+            this.book = book;
+            this.scenarios = scenarios;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from > LEAF_SIZE) {
+                int mid = (from + to) >>> 1;
+                Evaluate left = new Evaluate(book, scenarios, from, mid);
+                left.fork();
+                double[] right = new Evaluate(book, scenarios, mid, to).compute();
+                double[] sum = left.join();
+                for (int i = 0; i < sum.length; i++) {
+                    sum[i] += right[i];
+                }
+                return sum;
+            }
+
+            int base = scenarios.count * SLOTS;
+            double[] sum = new double[base + 3];
+            for (int i = from; i < to; i++) {
+                double outstanding = book.outstanding[i];
+                double rate = book.rate[i];
+                int months = book.months[i];
+                double baseEmi = AmortizationEngine.emi(outstanding, rate, months);
+                sum[base] += baseEmi;
+                sum[base + 1] += baseEmi * months - outstanding;
+                sum[base + 2] += outstanding;
+
+                double atRiskEmi = baseEmi * (1 + scenarios.paymentShockThreshold);
+                for (int s = 0; s < scenarios.count; s++) {
+                    int n = Math.max(1, months + scenarios.tenureChange[s]);
+                    double emi = AmortizationEngine.emi(outstanding, Math.max(0, rate + scenarios.rateShock[s]), n);
+                    int at = s * SLOTS;
+                    sum[at + EMI] += emi;
+                    sum[at + INTEREST] += (emi * n - outstanding) * (1 - scenarios.defaultRate[s]);
+                    sum[at + LOSS] += outstanding * scenarios.defaultRate[s] * scenarios.lossGivenDefault[s];
+                    if (emi >= atRiskEmi) {
+                        sum[at + AT_RISK] += outstanding;
+                        sum[at + AT_RISK_COUNT]++;
+                    }
+                }
+            }
+            return sum;
+        }
+    }
+
+    /** Scenario parameters as parallel arrays, rate shocks converted to annual percent. */
+    private static final class Scenarios {
+        final int count;
+        final double[] rateShock;
+        final int[] tenureChange;
+        final double[] defaultRate;
+        final double[] lossGivenDefault;
+        final double paymentShockThreshold;
+
+        Scenarios(List<StressScenario> scenarios, double paymentShockThreshold) {
+            count = scenarios.size();
+            rateShock = new double[count];
+            tenureChange = new int[count];
+            defaultRate = new double[count];
+            lossGivenDefault = new double[count];
+            for (int s = 0; s < count; s++) {
+                StressScenario scenario = scenarios.get(s);
+                rateShock[s] = scenario.getRateShockBps() != null ? scenario.getRateShockBps() / 100 : 0;
+                tenureChange[s] = scenario.getTenureChangeMonths() != null ? scenario.getTenureChangeMonths() : 0;
+                defaultRate[s] = scenario.getDefaultRate() != null ? scenario.getDefaultRate() : 0;
+                lossGivenDefault[s] = scenario.getLossGivenDefault() != null ? scenario.getLossGivenDefault() : 1;
+            }
+            this.paymentShockThreshold = paymentShockThreshold;
+        }
+    }
+
+    /** Active loans as columns: outstanding principal, annual rate in percent, remaining months. */
+    static final class LoanBook {
+        int size;
+        double[] outstanding = new double[1024];
+        double[] rate = new double[1024];
+        int[] months = new int[1024];
+
+        void add(double outstandingPrincipal, double annualRate, int remainingMonths) {
+            if (size == outstanding.length) {
+                int grown = size * 2;
+                outstanding = Arrays.copyOf(outstanding, grown);
+                rate = Arrays.copyOf(rate, grown);
+                months = Arrays.copyOf(months, grown);
+            }
+            outstanding[size] = outstandingPrincipal;
+            rate[size] = annualRate;
+            months[size] = remainingMonths;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.bank.service;
+
+import com.bank.config.NotificationProperties;
+import com.bank.model.MessageChannel;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stand-in provider for development and tests: writes each message to the log and, when
+ * {@code notifications.outbox-file} is set, appends it to that file. Any real transport bean outranks it.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class LoggingMessageTransport implements MessageTransport {
+    private static final Logger logger = LoggerFactory.getLogger(LoggingMessageTransport.class);
+
+    @Autowired
+    private NotificationProperties properties;
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public Set<MessageChannel> channels() {
+        return EnumSet.allOf(MessageChannel.class);
+    }
+
+    @Override
+    public void send(RenderedMessage message) throws IOException {
+        logger.info("=====================================");
+        logger.info("\ud83d\udce7 {} SENT", (Object)message.getChannel());
+        logger.info("To: {}", (Object)message.getRecipient());
+        logger.info("Subject: {}", (Object)message.getSubject());
+        logger.info("=====================================");
+        logger.info("\n{}\n", (Object)message.getBody());
+        if (properties.getOutboxFile() != null && !properties.getOutboxFile().isBlank()) {
+            String entry = "--- " + LocalDateTime.now() + " " + message.getChannel() + " to " + message.getRecipient() + "\n"
+                + "Subject: " + message.getSubject() + "\n" + message.getBody() + "\n";
+            synchronized (this) {
+                Files.writeString(Path.of(properties.getOutboxFile()), entry, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        }
+    }
+}
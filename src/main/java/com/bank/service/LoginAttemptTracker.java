@@ -0,0 +1,150 @@
+package com.bank.service;
+
+import com.bank.config.LoginLockoutProperties;
+import jakarta.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Counts failed logins per username and per client IP over a sliding window, entirely in memory.
+ * Each key owns a ring of one-minute buckets; keys live in striped LRU maps capped at
+ * {@code login.lockout.max-tracked-keys}, so a credential-stuffing burst cannot grow it without bound.
+ * Lockout checks read a running total per key, and never touch audit_logs.
+ */
+@Service
+public class LoginAttemptTracker {
+    private static final int STRIPES = 16;
+
+    @Autowired
+    private LoginLockoutProperties properties;
+
+    private WindowMap byUser;
+    private WindowMap byIp;
+
+    @PostConstruct
+    void init() {
+        int perStripe = Math.max(16, properties.getMaxTrackedKeys() / STRIPES);
+        byUser = new WindowMap(perStripe, properties.getWindowMinutes());
+        byIp = new WindowMap(perStripe, properties.getWindowMinutes());
+    }
+
+    public void recordFailure(String username, String ipAddress) {
+        long minute = currentMinute();
+        if (username != null) {
+            byUser.increment(username, minute);
+        }
+        if (ipAddress != null) {
+            byIp.increment(ipAddress, minute);
+        }
+    }
+
+    /** A successful login clears the user's window; the IP window is left alone. */
+    public void recordSuccess(String username) {
+        if (username != null) {
+            byUser.clear(username);
+        }
+    }
+
+    public int recentUserFailures(String username) {
+        return username == null ? 0 : byUser.total(username, currentMinute());
+    }
+
+    public boolean isUserLocked(String username) {
+        return recentUserFailures(username) >= properties.getMaxFailuresPerUser();
+    }
+
+    public boolean isIpBlocked(String ipAddress) {
+        return ipAddress != null && byIp.total(ipAddress, currentMinute()) >= properties.getMaxFailuresPerIp();
+    }
+
+    private static long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+
+    /**
+     * Ring of per-minute counters with a running total. A bucket is subtracted from the total when time
+     * moves past its minute and the bucket is recycled, so a check costs nothing beyond the buckets that
+     * expired since the last one.
+     */
+    private static final class SlidingWindow {
+        private final int[] counts;
+        private long latest;
+        private int total;
+
+        SlidingWindow(int size) {
+            counts = new int[size];
+        }
+
+        void increment(long minute) {
+            advance(minute);
+            counts[(int) (latest % counts.length)]++;
+            total++;
+        }
+
+        int total(long minute) {
+            advance(minute);
+            return total;
+        }
+
+        // Recycles the buckets of minutes that left the window, at most one pass over the ring
+        private void advance(long minute) {
+            if (minute <= latest) {
+                return;
+            }
+            for (long m = Math.max(latest + 1, minute - counts.length + 1); m <= minute; m++) {
+                int i = (int) (m % counts.length);
+                total -= counts[i];
+                counts[i] = 0;
+            }
+            latest = minute;
+        }
+    }
+
+    private static final class WindowMap {
+        private final Map<String, SlidingWindow>[] stripes;
+        private final int windowMinutes;
+
+        @SuppressWarnings("unchecked")
+        WindowMap(int maxPerStripe, int windowMinutes) {
+            this.windowMinutes = windowMinutes;
+            this.stripes = new Map[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new LinkedHashMap<>(64, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, SlidingWindow> eldest) {
+                        return size() > maxPerStripe;
+                    }
+                };
+            }
+        }
+
+        private Map<String, SlidingWindow> stripe(String key) {
+            return stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+        }
+
+        void increment(String key, long minute) {
+            Map<String, SlidingWindow> map = stripe(key);
+            synchronized (map) {
+                map.computeIfAbsent(key, k -> new SlidingWindow(windowMinutes)).increment(minute);
+            }
+        }
+
+        int total(String key, long minute) {
+            Map<String, SlidingWindow> map = stripe(key);
+            synchronized (map) {
+                SlidingWindow window = map.get(key);
+                return window == null ? 0 : window.total(minute);
+            }
+        }
+
+        void clear(String key) {
+            Map<String, SlidingWindow> map = stripe(key);
+            synchronized (map) {
+                map.remove(key);
+            }
+        }
+    }
+}
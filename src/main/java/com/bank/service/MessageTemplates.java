@@ -0,0 +1,63 @@
+package com.bank.service;
+
+import com.bank.model.MessageChannel;
+import com.bank.model.OutboundMessage;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns a queued message (template name + parameters) into subject and body. Runs on the dispatcher
+ * workers, so the formatting cost stays off request threads.
+ */
+@Component
+public class MessageTemplates {
+    public static final String OTP = "OTP";
+    public static final String PASSWORD_RESET_SUCCESS = "PASSWORD_RESET_SUCCESS";
+    public static final String TRANSACTION_ALERT = "TRANSACTION_ALERT";
+
+    private static final String PASSWORD_RESET_BODY = "\n\u2554\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2557\n\u2551      \ud83d\udd78\ufe0f  MoneyMesh Banking System      \u2551\n\u255a\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u255d\n\nHello {},\n\n\u2705 Your password has been successfully reset!\n\nYou can now login with your new password.\n\nIf you didn't make this change, please contact our\nsupport team immediately.\n\nBest regards,\nMoneyMesh Security Team\n\n";
+
+    public RenderedMessage render(OutboundMessage message, Map<String, String> params) {
+        String subject;
+        String body;
+        switch (message.getTemplate()) {
+            case OTP -> {
+                String purpose = params.getOrDefault("purpose", "VERIFICATION");
+                subject = this.getEmailSubject(purpose);
+                body = message.getChannel() == MessageChannel.SMS
+                    ? this.buildOtpSmsBody(params.get("code"), purpose)
+                    : this.buildOtpEmailBody(params.get("code"), purpose);
+            }
+            case PASSWORD_RESET_SUCCESS -> {
+                subject = "MoneyMesh - Password Reset Successful";
+                body = PASSWORD_RESET_BODY.replace("{}", params.getOrDefault("username", ""));
+            }
+            case TRANSACTION_ALERT -> {
+                subject = "MoneyMesh - Transaction Alert";
+                body = "Hello " + params.getOrDefault("username", "") + ",\n\nTransaction: " + params.getOrDefault("transactionType", "")
+                    + " - \u20b9" + params.get("amount") + "\n";
+            }
+            default -> throw new IllegalArgumentException("Unknown message template: " + message.getTemplate());
+        }
+        return new RenderedMessage(message.getId(), message.getChannel(), message.getRecipient(), subject, body);
+    }
+
+    private String getEmailSubject(String purpose) {
+        return switch (purpose.toUpperCase()) {
+            case "RESET_PASSWORD" -> "\ud83d\udd10 MoneyMesh - Password Reset OTP";
+            case "VERIFY_EMAIL" -> "\u2705 MoneyMesh - Verify Your Email";
+            case "LOGIN" -> "\ud83d\udd11 MoneyMesh - Login OTP";
+            case "TRANSACTION" -> "\ud83d\udcb8 MoneyMesh - Transaction Verification OTP";
+            default -> "\ud83d\udd78\ufe0f MoneyMesh - Verification OTP";
+        };
+    }
+
+    private String buildOtpEmailBody(String otpCode, String purpose) {
+        return String.format("\n\u2554\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2557\n\u2551      \ud83d\udd78\ufe0f  MoneyMesh Banking System      \u2551\n\u255a\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u2550\u255d\n\nHello,\n\nYour One-Time Password (OTP) for %s is:\n\n        \u250c\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2510\n        \u2502   %s   \u2502\n        \u2514\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2518\n\nThis OTP is valid for 10 minutes.\n\n\u26a0\ufe0f  Security Notice:\n\u2022 Never share this OTP with anyone\n\u2022 MoneyMesh staff will never ask for your OTP\n\u2022 If you didn't request this, please contact support\n\nThank you for using MoneyMesh!\n\nBest regards,\nMoneyMesh Security Team\n\n\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\u2500\nThis is an automated message. Please do not reply.\n\n", purpose.toLowerCase().replace("_", " "), otpCode);
+    }
+
+    private String buildOtpSmsBody(String otpCode, String purpose) {
+        return "MoneyMesh OTP for " + purpose.toLowerCase().replace("_", " ") + ": " + otpCode
+            + ". Valid for 10 minutes. Never share it with anyone.";
+    }
+}
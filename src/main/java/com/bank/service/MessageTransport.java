@@ -0,0 +1,37 @@
+package com.bank.service;
+
+import com.bank.model.MessageChannel;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A provider that actually delivers rendered messages (SMTP relay, SMS gateway, ...). Register one as a
+ * bean; when several serve the same channel the one with the highest {@code @Order} precedence is used.
+ */
+public interface MessageTransport {
+
+    /** Provider name; per-provider rate limits are keyed on it. */
+    String name();
+
+    Set<MessageChannel> channels();
+
+    void send(RenderedMessage message) throws Exception;
+
+    /**
+     * Delivers a batch and returns the failures by message id (empty when everything was sent).
+     * Providers with a bulk API should override this; the default sends one by one.
+     */
+    default Map<Long, String> sendBatch(List<RenderedMessage> batch) {
+        Map<Long, String> failures = new HashMap<>();
+        for (RenderedMessage message : batch) {
+            try {
+                send(message);
+            } catch (Exception e) {
+                failures.put(message.getId(), e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            }
+        }
+        return failures;
+    }
+}
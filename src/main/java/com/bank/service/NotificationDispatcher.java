@@ -0,0 +1,286 @@
+package com.bank.service;
+
+import com.bank.config.NotificationProperties;
+import com.bank.model.MessageChannel;
+import com.bank.model.OutboundMessage;
+import com.bank.model.OutboundMessageStatus;
+import com.bank.repository.OutboundMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Outbound email/SMS pipeline. {@link #enqueue} only inserts a row into outbound_messages. One virtual
+ * thread per channel claims due messages in batches (FOR UPDATE SKIP LOCKED), renders them, waits on
+ * the provider's rate limit, and hands the batch to the channel's {@link MessageTransport}. Failures are
+ * retried with exponential backoff until {@code notifications.max-attempts}.
+ */
+@Service
+public class NotificationDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final TypeReference<Map<String, String>> PARAMS_TYPE = new TypeReference<>() {};
+    private static final int RETENTION_DELETE_LIMIT = 5000;
+
+    @Autowired
+    private NotificationProperties properties;
+
+    @Autowired
+    private OutboundMessageRepository messageRepository;
+
+    @Autowired
+    private MessageTemplates messageTemplates;
+
+    @Autowired
+    private List<MessageTransport> transports;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private final Map<MessageChannel, MessageTransport> transportByChannel = new EnumMap<>(MessageChannel.class);
+    private final Map<String, RateLimiter> rateLimiters = new HashMap<>();
+    private final Map<MessageChannel, Thread> workers = new EnumMap<>(MessageChannel.class);
+    private volatile boolean running = true;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // transports arrive in @Order order, so the first one registered for a channel wins
+        for (MessageTransport transport : transports) {
+            for (MessageChannel channel : transport.channels()) {
+                transportByChannel.putIfAbsent(channel, transport);
+            }
+            double rate = properties.getRatePerSecond().getOrDefault(transport.name(), properties.getDefaultRatePerSecond());
+            rateLimiters.putIfAbsent(transport.name(), new RateLimiter(rate));
+        }
+        for (MessageChannel channel : transportByChannel.keySet()) {
+            workers.put(channel, Thread.ofVirtual().name("notify-" + channel.name().toLowerCase()).start(() -> workLoop(channel)));
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        workers.values().forEach(LockSupport::unpark);
+    }
+
+    /**
+     * Queues a message; this is the only cost on the caller's thread. Inside a transaction the row commits
+     * with it and the worker is woken after commit.
+     */
+    public void enqueue(MessageChannel channel, String recipient, String template, Map<String, String> params) {
+        if (recipient == null || recipient.isBlank()) {
+            logger.warn("Not queueing {} {} message without a recipient", channel, template);
+            return;
+        }
+        OutboundMessage message = new OutboundMessage();
+        message.setChannel(channel);
+        message.setRecipient(recipient);
+        message.setTemplate(template);
+        try {
+            message.setPayload(objectMapper.writeValueAsString(params));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialise message parameters: " + e.getMessage());
+        }
+        messageRepository.save(message);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wake(channel);
+                }
+            });
+        } else {
+            wake(channel);
+        }
+    }
+
+    @Scheduled(fixedRate = 60000)
+    @Transactional
+    public void releaseStaleClaims() {
+        int released = messageRepository.releaseStaleClaims(LocalDateTime.now().minus(Duration.ofMillis(properties.getClaimTimeoutMs())));
+        if (released > 0) {
+            logger.warn("Released {} outbound messages left claimed by a stopped worker", released);
+        }
+    }
+
+    /**
+     * Keeps plaintext OTPs and old rows from piling up: OTPs not delivered within their validity are
+     * failed with the payload cleared, and finished messages past retention are deleted.
+     */
+    @Scheduled(fixedRate = 60000)
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = messageRepository.expireUndelivered(MessageTemplates.OTP, now.minusMinutes(properties.getOtpTtlMinutes()));
+        if (expired > 0) {
+            logger.warn("Expired {} OTP messages that were not delivered in time", expired);
+        }
+        messageRepository.deleteFinishedBefore(now.minusDays(properties.getRetentionDays()), RETENTION_DELETE_LIMIT);
+    }
+
+    private void wake(MessageChannel channel) {
+        Thread worker = workers.get(channel);
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void workLoop(MessageChannel channel) {
+        MessageTransport transport = transportByChannel.get(channel);
+        RateLimiter limiter = rateLimiters.get(transport.name());
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getPollIntervalMs());
+        // Paced sends of one claim must finish well inside the claim timeout, or releaseStaleClaims requeues
+        // messages still being sent
+        int claimSize = limiter.permitsWithin(properties.getBatchSize(),
+            TimeUnit.MILLISECONDS.toNanos(properties.getClaimTimeoutMs()) / 2);
+        while (running) {
+            try {
+                // Wait for this claim's send window before claiming, so claimed messages are not left queued
+                // behind other workers sharing the provider
+                long window = limiter.reserve(claimSize);
+                RateLimiter.sleepUntil(window);
+                List<OutboundMessage> batch = transactionTemplate.execute(status -> claim(channel, claimSize));
+                int claimed = batch != null ? batch.size() : 0;
+                limiter.release(window, claimSize, claimed);
+                if (claimed == 0) {
+                    LockSupport.parkNanos(idleNanos);
+                    continue;
+                }
+                deliver(channel, transport, limiter, batch, window);
+            } catch (RuntimeException e) {
+                logger.error("Notification worker for {} failed: {}", channel, e.getMessage());
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+    }
+
+    private List<OutboundMessage> claim(MessageChannel channel, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboundMessage> batch = messageRepository.findClaimable(channel, now, PageRequest.of(0, limit));
+        for (OutboundMessage message : batch) {
+            message.setStatus(OutboundMessageStatus.SENDING);
+            message.setClaimedAt(now);
+        }
+        return batch;
+    }
+
+    // Sends the i-th rendered message no earlier than its slot in the window reserved from {@code window}
+    private void deliver(MessageChannel channel, MessageTransport transport, RateLimiter limiter, List<OutboundMessage> batch,
+                         long window) {
+        Map<Long, String> failures = new HashMap<>();
+        List<RenderedMessage> rendered = new ArrayList<>(batch.size());
+        for (OutboundMessage message : batch) {
+            try {
+                rendered.add(messageTemplates.render(message, objectMapper.readValue(message.getPayload(), PARAMS_TYPE)));
+            } catch (JsonProcessingException | RuntimeException e) {
+                // Rendering will not succeed on retry either
+                message.setAttempts(properties.getMaxAttempts() - 1);
+                failures.put(message.getId(), "Render failed: " + e.getMessage());
+            }
+        }
+        for (int i = 0; i < rendered.size(); i++) {
+            RateLimiter.sleepUntil(limiter.slot(window, i));
+            failures.putAll(transport.sendBatch(List.of(rendered.get(i))));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboundMessage message : batch) {
+            String error = failures.get(message.getId());
+            if (error == null) {
+                message.setStatus(OutboundMessageStatus.SENT);
+                message.setSentAt(now);
+                message.setPayload(null); // OTP codes must not outlive delivery
+                meterRegistry.counter("bank.notifications.sent", "channel", channel.name()).increment();
+                continue;
+            }
+            int attempts = message.getAttempts() + 1;
+            message.setAttempts(attempts);
+            message.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+            if (attempts >= properties.getMaxAttempts()) {
+                message.setStatus(OutboundMessageStatus.FAILED);
+                message.setPayload(null);
+                meterRegistry.counter("bank.notifications.failed", "channel", channel.name()).increment();
+                logger.warn("Giving up on {} message {} to {}: {}", channel, message.getId(), message.getRecipient(), error);
+            } else {
+                long delay = Math.min(properties.getBackoffMaxMs(), properties.getBackoffBaseMs() << Math.min(20, attempts - 1));
+                message.setStatus(OutboundMessageStatus.PENDING);
+                message.setNextAttemptAt(now.plus(Duration.ofMillis(delay)));
+                meterRegistry.counter("bank.notifications.retried", "channel", channel.name()).increment();
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> messageRepository.saveAll(batch));
+    }
+
+    /**
+     * Spaces sends so a provider never sees more than its configured messages per second. A worker reserves
+     * a window of consecutive send slots; slots a short claim did not use are handed back.
+     */
+    private static final class RateLimiter {
+        private final long intervalNanos;
+        private long nextFreeNanos = System.nanoTime();
+
+        RateLimiter(double permitsPerSecond) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(0.001, permitsPerSecond));
+        }
+
+        /** How many of {@code max} sends fit in {@code nanos}, at least one. */
+        int permitsWithin(int max, long nanos) {
+            return (int) Math.max(1, Math.min(max, nanos / intervalNanos));
+        }
+
+        /** Reserves {@code permits} consecutive slots and returns the time of the first. */
+        synchronized long reserve(int permits) {
+            long start = Math.max(System.nanoTime(), nextFreeNanos);
+            nextFreeNanos = start + permits * intervalNanos;
+            return start;
+        }
+
+        long slot(long window, int index) {
+            return window + index * intervalNanos;
+        }
+
+        /** Hands back the unused tail of a window, unless a later reservation already follows it. */
+        synchronized void release(long window, int permits, int used) {
+            if (nextFreeNanos == window + permits * intervalNanos) {
+                nextFreeNanos = window + used * intervalNanos;
+            }
+        }
+
+        static void sleepUntil(long deadlineNanos) {
+            long wait;
+            while ((wait = deadlineNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait); // may return early when the worker is woken
+            }
+        }
+    }
+}
@@ -22,6 +22,9 @@ public class NotificationService {
     @Autowired
     private AppUserRepository userRepository;
 
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
     @Transactional
     public Notification createNotification(Long userId, String message, NotificationType type, NotificationPriority priority) {
         AppUser user = userRepository.findById(userId)
@@ -35,7 +38,9 @@ public class NotificationService {
         notification.setIsRead(false);
         notification.setType(type);
         notification.setPriority(priority);
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        notificationStreamService.publish(saved);
+        return saved;
     }
 
     public List<Notification> getUnacknowledgedNotifications(Long userId) {
@@ -68,6 +73,6 @@ public class NotificationService {
         notification.setCreatedAt(LocalDateTime.now());
         notification.setIsRead(false);
         
-        notificationRepository.save(notification);
+        notificationStreamService.publish(notificationRepository.save(notification));
     }
 }
@@ -0,0 +1,129 @@
+package com.bank.service;
+
+import com.bank.config.NotificationProperties;
+import com.bank.model.Notification;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * In-app notification feed pushed over Server-Sent Events. Each user has one replaying sink shared by all
+ * of their open streams; the SSE id is the notification id, so a client reconnecting with
+ * {@code Last-Event-ID} receives whatever it missed inside the replay window. Nothing here is persisted:
+ * the notifications table stays the source of truth for the initial load.
+ */
+@Service
+public class NotificationStreamService {
+    private static final String EVENT_NAME = "notification";
+
+    @Autowired
+    private NotificationProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Long, UserChannel> channels = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("bank.notifications.stream.channels", channels, Map::size).register(meterRegistry);
+        Gauge.builder("bank.notifications.stream.subscribers", channels,
+            c -> c.values().stream().mapToInt(ch -> ch.sink.currentSubscriberCount()).sum()).register(meterRegistry);
+    }
+
+    /**
+     * Pushes a saved notification to the owner's open streams. Inside a transaction the push waits for
+     * commit so a rolled-back notification is never shown.
+     */
+    public void publish(Notification notification) {
+        Long userId = notification.getUser().getId();
+        ServerSentEvent<Map<String, Object>> event = ServerSentEvent.<Map<String, Object>>builder()
+            .id(String.valueOf(notification.getId()))
+            .event(EVENT_NAME)
+            .data(toPayload(notification))
+            .build();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    emit(userId, notification.getId(), event);
+                }
+            });
+        } else {
+            emit(userId, notification.getId(), event);
+        }
+    }
+
+    /**
+     * Live feed for one connection. With {@code lastEventId} the retained events after it are replayed
+     * first; without it only notifications published from now on are sent.
+     */
+    public Flux<ServerSentEvent<Map<String, Object>>> stream(Long userId, Long lastEventId) {
+        UserChannel channel = channelFor(userId);
+        long after = lastEventId != null ? lastEventId : channel.lastId;
+        Flux<ServerSentEvent<Map<String, Object>>> events = channel.sink.asFlux()
+            .filter(event -> Long.parseLong(event.id()) > after);
+        Flux<ServerSentEvent<Map<String, Object>>> heartbeats = Flux.interval(Duration.ofSeconds(properties.getStream().getHeartbeatSeconds()))
+            .map(tick -> ServerSentEvent.<Map<String, Object>>builder().comment("keepalive").build());
+        return Flux.merge(events, heartbeats);
+    }
+
+    /** Drops channels with no open stream once everything they retained has aged out of the replay window. */
+    @Scheduled(fixedRate = 60000)
+    public void evictIdleChannels() {
+        long cutoff = System.nanoTime() - Duration.ofSeconds(properties.getStream().getReplayWindowSeconds()).toNanos();
+        channels.entrySet().removeIf(e -> e.getValue().sink.currentSubscriberCount() == 0 && e.getValue().lastAccessNanos - cutoff < 0);
+    }
+
+    private void emit(Long userId, Long notificationId, ServerSentEvent<Map<String, Object>> event) {
+        UserChannel channel = channelFor(userId);
+        // a Sinks.Many must not be emitted to from two threads at once
+        synchronized (channel) {
+            channel.sink.tryEmitNext(event);
+            channel.lastId = Math.max(channel.lastId, notificationId);
+        }
+        meterRegistry.counter("bank.notifications.stream.published").increment();
+    }
+
+    private UserChannel channelFor(Long userId) {
+        UserChannel channel = channels.computeIfAbsent(userId, id -> new UserChannel(
+            properties.getStream().getReplaySize(), Duration.ofSeconds(properties.getStream().getReplayWindowSeconds())));
+        channel.lastAccessNanos = System.nanoTime();
+        return channel;
+    }
+
+    /** Client view of a notification, also used for the initial load; leaves out the owning user. */
+    public Map<String, Object> toPayload(Notification notification) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", notification.getId());
+        payload.put("type", notification.getType());
+        payload.put("priority", notification.getPriority());
+        payload.put("title", notification.getTitle());
+        payload.put("message", notification.getMessage());
+        payload.put("amount", notification.getAmount());
+        payload.put("createdAt", notification.getCreatedAt());
+        return payload;
+    }
+
+    private static final class UserChannel {
+        final Sinks.Many<ServerSentEvent<Map<String, Object>>> sink;
+        volatile long lastId;
+        volatile long lastAccessNanos = System.nanoTime();
+
+        UserChannel(int replaySize, Duration replayWindow) {
+            this.sink = Sinks.many().replay().limit(replaySize, replayWindow);
+        }
+    }
+}
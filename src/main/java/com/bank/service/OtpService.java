@@ -2,68 +2,50 @@ package com.bank.service;
 
 import com.bank.model.AppUser;
 import com.bank.model.OtpVerification;
-import com.bank.repository.OtpRepository;
 import com.bank.service.EmailService;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class OtpService {
     @Autowired
-    private OtpRepository otpRepository;
+    private OtpStore otpStore;
     @Autowired
     private EmailService emailService;
     private static final int OTP_LENGTH = 6;
     private static final int OTP_EXPIRY_MINUTES = 10;
     private static final SecureRandom random = new SecureRandom();
 
-    @Transactional
     public String generateAndSendOtp(String email, OtpVerification.OtpType otpType, AppUser user) {
-        this.invalidateExistingOtps(email, otpType);
         String otpCode = this.generateOtpCode();
-        OtpVerification otpVerification = new OtpVerification();
-        otpVerification.setEmail(email);
-        otpVerification.setOtpCode(otpCode);
-        otpVerification.setOtpType(otpType);
-        otpVerification.setUser(user);
-        otpVerification.setExpiresAt(LocalDateTime.now().plusMinutes(10L));
-        otpVerification.setVerified(false);
-        otpVerification.setCreatedAt(LocalDateTime.now());
-        this.otpRepository.save(otpVerification);
-        this.emailService.sendOtpEmail(email, otpCode, otpType.name());
+        this.otpStore.save(email, otpType, otpCode, user, LocalDateTime.now().plusMinutes(OTP_EXPIRY_MINUTES));
+        this.send(email, otpCode, otpType);
         return otpCode;
     }
 
-    @Transactional
-    public boolean verifyOtp(String email, String otpCode, OtpVerification.OtpType otpType) {
-        Optional<OtpVerification> otpOpt = this.otpRepository.findByEmailAndOtpCodeAndOtpTypeAndVerifiedFalse(email, otpCode, otpType);
-        if (otpOpt.isEmpty()) {
-            return false;
-        }
-        OtpVerification otp = otpOpt.get();
-        if (otp.isExpired()) {
-            return false;
+    // MFA_SMS codes are addressed to a phone number; every other type goes out by email
+    private void send(String destination, String otpCode, OtpVerification.OtpType otpType) {
+        if (otpType == OtpVerification.OtpType.MFA_SMS) {
+            this.emailService.sendOtpSms(destination, otpCode, otpType.name());
+        } else {
+            this.emailService.sendOtpEmail(destination, otpCode, otpType.name());
         }
-        otp.setVerified(true);
-        this.otpRepository.save(otp);
-        return true;
+    }
+
+    public boolean verifyOtp(String email, String otpCode, OtpVerification.OtpType otpType) {
+        return this.otpStore.check(email, otpType, otpCode, true);
     }
 
     public boolean isOtpValid(String email, String otpCode, OtpVerification.OtpType otpType) {
-        Optional<OtpVerification> otpOpt = this.otpRepository.findByEmailAndOtpCodeAndOtpTypeAndVerifiedFalse(email, otpCode, otpType);
-        if (otpOpt.isEmpty()) {
-            return false;
-        }
-        return !otpOpt.get().isExpired();
+        return this.otpStore.check(email, otpType, otpCode, false);
     }
 
-    @Transactional
     public void invalidateExistingOtps(String email, OtpVerification.OtpType otpType) {
-        this.otpRepository.deleteByEmailAndOtpType(email, otpType);
+        this.otpStore.invalidate(email, otpType);
     }
 
     private String generateOtpCode() {
@@ -71,17 +53,17 @@ public class OtpService {
         return String.valueOf(otp);
     }
 
-    @Transactional
+    @Scheduled(fixedRate = 60000)
     public void cleanupExpiredOtps() {
-        this.otpRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+        this.otpStore.purgeExpired();
     }
 
-    @Transactional
     public String resendOtp(String email, OtpVerification.OtpType otpType) {
-        OtpVerification otp;
-        Optional<OtpVerification> recentOtp = this.otpRepository.findFirstByEmailAndOtpTypeAndVerifiedFalseOrderByCreatedAtDesc(email, otpType);
-        if (recentOtp.isPresent() && (otp = recentOtp.get()).getCreatedAt().isAfter(LocalDateTime.now().minusMinutes(1L))) {
-            this.emailService.sendOtpEmail(email, otp.getOtpCode(), otpType.name());
+        Optional<OtpStore.IssuedOtp> recentOtp = this.otpStore.findLatest(email, otpType);
+        // The same code can only be re-sent when the store keeps it in clear (DATABASE); a hashed store issues a new one
+        if (recentOtp.isPresent() && recentOtp.get().getCode() != null
+                && recentOtp.get().getCreatedAt().isAfter(LocalDateTime.now().minusMinutes(1L))) {
+            this.send(email, recentOtp.get().getCode(), otpType);
             return "OTP resent successfully";
         }
         this.generateAndSendOtp(email, otpType, recentOtp.isPresent() ? recentOtp.get().getUser() : null);
@@ -0,0 +1,50 @@
+package com.bank.service;
+
+import com.bank.model.AppUser;
+import com.bank.model.OtpVerification;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Where issued one-time passwords live until they are used or expire. Selected with {@code otp.store}:
+ * MEMORY (hashed codes in this JVM) or DATABASE (otp_verifications, shared across nodes).
+ */
+public interface OtpStore {
+
+    /** Stores a freshly issued code, replacing any earlier one for the same destination and type. */
+    void save(String destination, OtpVerification.OtpType type, String code, AppUser user, LocalDateTime expiresAt);
+
+    /** Checks a submitted code. When {@code consume} is true a match is used up and will not verify again. */
+    boolean check(String destination, OtpVerification.OtpType type, String code, boolean consume);
+
+    void invalidate(String destination, OtpVerification.OtpType type);
+
+    /** The outstanding code for a destination, if any; {@link IssuedOtp#getCode()} is null when only a hash is kept. */
+    Optional<IssuedOtp> findLatest(String destination, OtpVerification.OtpType type);
+
+    void purgeExpired();
+
+    class IssuedOtp {
+        private final String code;
+        private final AppUser user;
+        private final LocalDateTime createdAt;
+
+        public IssuedOtp(String code, AppUser user, LocalDateTime createdAt) {
+            this.code = code;
+            this.user = user;
+            this.createdAt = createdAt;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public AppUser getUser() {
+            return user;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.bank.service;
+
+import com.bank.config.LoanOverdueProperties;
+import com.bank.model.AmortizationPlan;
+import com.bank.model.EmiSchedule;
+import com.bank.repository.AmortizationPlanRepository;
+import com.bank.repository.EmiScheduleRepository;
+import com.bank.repository.LoanRepository;
+import com.bank.repository.OverdueTrackingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * End-of-day overdue EMI refresh. The loan-id space is cut into fixed-width ranges, and each range is
+ * one transaction. It first writes rows for installments of {@link AmortizationPlan}s that fell due
+ * since the last run, then runs three set-based statements. The first sets days overdue and penalty
+ * on every unpaid past-due EMI. The second updates the active OverdueTracking rows. The third opens
+ * tracking rows for EMIs that have none. Ranges run in parallel waves. The nightly run goes through
+ * {@link BatchRunner}, which checkpoints after each wave and resumes abandoned runs; a re-run of a range
+ * is harmless because every statement is idempotent for a given day.
+ */
+@Service
+public class OverdueEmiJob implements BatchRunner.Job {
+    private static final Logger logger = LoggerFactory.getLogger(OverdueEmiJob.class);
+    static final String JOB_NAME = "loan-overdue";
+
+    @Autowired
+    private LoanOverdueProperties properties;
+
+    @Autowired
+    private BatchRunner batchRunner;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private AmortizationPlanRepository amortizationPlanRepository;
+
+    @Autowired
+    private EmiScheduleRepository emiScheduleRepository;
+
+    @Autowired
+    private OverdueTrackingRepository overdueTrackingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    // Overdue EMIs refreshed per second over the current (or last) sweep
+    private volatile double rate;
+    private volatile LocalDateTime lastCompletedAt;
+    private Counter refreshed;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        refreshed = meterRegistry.counter("bank.loans.overdue.emis");
+        Gauge.builder("bank.loans.overdue.rate", this, j -> j.rate).baseUnit("emis/s").register(meterRegistry);
+        // Seconds since overdue figures were last complete for the whole book; NaN until the first sweep
+        Gauge.builder("bank.loans.overdue.lag", this, j -> j.lastCompletedAt == null ? Double.NaN
+            : Duration.between(j.lastCompletedAt, LocalDateTime.now()).toSeconds()).baseUnit("seconds").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${loans.overdue.cron:0 5 0 * * *}")
+    public void runNightly() {
+        batchRunner.runNightly(this);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void resumeAbandonedRuns() {
+        batchRunner.resumeAbandonedRuns(this);
+    }
+
+    /**
+     * Refreshes the whole book as of today on the calling thread, outside any batch run. Returns the
+     * number of overdue EMIs refreshed.
+     */
+    public long runNow() {
+        return batchRunner.runNow(this, LocalDate.now());
+    }
+
+    @Override
+    public String name() {
+        return JOB_NAME;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public long getStaleAfterMs() {
+        return properties.getStaleAfterMs();
+    }
+
+    // Keys are loan ids; fromKey is the first loan not yet refreshed. Ranges commit on their own, so each
+    // wave's checkpoint only records progress.
+    @Override
+    public long sweep(LocalDate asOf, long fromKey, BatchRunner.Checkpoint checkpoint) {
+        Long maxId = loanRepository.findMaxId();
+        if (maxId == null) {
+            lastCompletedAt = LocalDateTime.now();
+            return 0;
+        }
+        long width = Math.max(1, properties.getPartitionSize());
+        int parallelism = Math.max(1, properties.getParallelism());
+        long startNanos = System.nanoTime();
+        long done = 0;
+        long next = fromKey;
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (next <= maxId) {
+                List<Future<Integer>> wave = new ArrayList<>(parallelism);
+                for (int i = 0; i < parallelism && next <= maxId; i++) {
+                    long lo = next;
+                    long hi = next + width;
+                    wave.add(pool.submit(() -> refreshRange(lo, hi, asOf)));
+                    next = hi;
+                }
+                long rows = 0;
+                for (Future<Integer> range : wave) {
+                    rows += BatchRunner.await(range);
+                }
+                checkpoint.commit(next, rows, () -> { });
+                done += rows;
+                refreshed.increment(rows);
+                rate = done / Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+            }
+        }
+        lastCompletedAt = LocalDateTime.now();
+        logger.info("Overdue refresh for {} completed: {} EMIs at {} EMIs/s, {} s after the day began",
+            asOf, done, String.format("%.1f", rate), Duration.between(asOf.atStartOfDay(), lastCompletedAt).toSeconds());
+        return done;
+    }
+
+    private int refreshRange(long fromLoanId, long toLoanId, LocalDate asOf) {
+        try {
+            return refreshRangeOnce(fromLoanId, toLoanId, asOf);
+        } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+            // An installment payment materialized a row of this range first (plan version or
+            // uk_emi_loan_number). The range rolled back and every statement is idempotent, so run it again.
+            logger.debug("Overdue refresh of loans {} to {} raced a payment, retrying", fromLoanId, toLoanId);
+            return refreshRangeOnce(fromLoanId, toLoanId, asOf);
+        }
+    }
+
+    private int refreshRangeOnce(long fromLoanId, long toLoanId, LocalDate asOf) {
+        Integer rows = transactionTemplate.execute(status -> {
+            materializeDue(fromLoanId, toLoanId, asOf);
+            int emis = emiScheduleRepository.refreshOverdue(fromLoanId, toLoanId, asOf, LoanManagementService.DAILY_PENALTY_RATE);
+            if (emis > 0) {
+                overdueTrackingRepository.refreshActiveForLoans(fromLoanId, toLoanId, asOf);
+                overdueTrackingRepository.openMissingForLoans(fromLoanId, toLoanId, asOf);
+            }
+            return emis;
+        });
+        return rows != null ? rows : 0;
+    }
+
+    // Unpaid installments that fell due get rows, so the statements below see them
+    private void materializeDue(long fromLoanId, long toLoanId, LocalDate asOf) {
+        List<AmortizationPlan> plans = amortizationPlanRepository.findWithUnmaterializedDues(fromLoanId, toLoanId, asOf);
+        if (plans.isEmpty()) {
+            return;
+        }
+        List<EmiSchedule> due = new ArrayList<>();
+        for (AmortizationPlan plan : plans) {
+            int n = plan.getMaterializedThrough() + 1;
+            while (n <= plan.lastEmiNumber() && plan.dueDateOf(n).isBefore(asOf)) {
+                due.add(AmortizationEngine.toRow(plan, n));
+                n++;
+            }
+            plan.materializedUpTo(n - 1);
+        }
+        emiScheduleRepository.saveAll(due);
+        amortizationPlanRepository.saveAll(plans);
+        emiScheduleRepository.flush();
+    }
+}
@@ -0,0 +1,353 @@
+package com.bank.service;
+
+import com.bank.event.AccountsChangedEvent;
+import com.bank.exception.ResourceNotFoundException;
+import com.bank.model.Customer;
+import com.bank.model.PurgeJob;
+import com.bank.model.PurgeJobStatus;
+import com.bank.model.PurgePhase;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.AppUserRepository;
+import com.bank.repository.AuditLogRepository;
+import com.bank.repository.CardRepository;
+import com.bank.repository.CustomerRepository;
+import com.bank.repository.DeviceSessionRepository;
+import com.bank.repository.PendingTransferRepository;
+import com.bank.repository.PurgeJobRepository;
+import com.bank.repository.TransactionRepository;
+import com.bank.repository.UserPreferencesRepository;
+import com.bank.security.UserAuthCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Set-based purge of everything owned by accounts or a customer profile.
+ *
+ * Each phase is a bulk DELETE ... WHERE account_id IN (...) / user_id = ?, so a purge costs O(rows owned)
+ * instead of scanning whole tables. Large tables (transactions, audit logs) are deleted in id chunks, each
+ * committed together with the job's progress, so an interrupted job resumes where it stopped and a failed
+ * one is retried from there a few times. Small purges run inline in one transaction, all or nothing; larger
+ * ones run on a background worker and can be polled through {@link #getJob}.
+ */
+@Service
+public class PurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PurgeService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final long INLINE_ROW_LIMIT = 5000L;
+    private static final long STALLED_AFTER_MINUTES = 2L;
+    // Runs of a job that may fail before it is left FAILED for good
+    private static final int MAX_ATTEMPTS = 5;
+    // PurgeJob.errorMessage column length
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Autowired
+    private PurgeJobRepository purgeJobRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private PendingTransferRepository pendingTransferRepository;
+
+    @Autowired
+    private UserPreferencesRepository userPreferencesRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private DeviceSessionRepository deviceSessionRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AppUserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserAuthCache userAuthCache;
+
+    @Autowired
+    private SpendingRollupService spendingRollupService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private TransactionTemplate transactionTemplate;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "purge-worker");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Jobs currently executing on this node
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Purge the given accounts and everything hanging off them (cards, transactions, pending transfers).
+     */
+    public PurgeJob purgeAccounts(Customer customer, List<Long> accountIds) {
+        return start(customer, accountIds, false);
+    }
+
+    /**
+     * Purge all of a customer's accounts plus preferences, audit logs, device sessions, the customer and the user.
+     */
+    public PurgeJob purgeProfile(Customer customer) {
+        return start(customer, accountRepository.findIdsByCustomerId(customer.getId()), true);
+    }
+
+    public PurgeJob getJob(Long jobId, String username) {
+        PurgeJob job = purgeJobRepository.findById(jobId)
+            .orElseThrow(() -> new ResourceNotFoundException("Purge job not found"));
+        if (!job.getUsername().equals(username)) {
+            throw new ResourceNotFoundException("Purge job not found");
+        }
+        return job;
+    }
+
+    private PurgeJob start(Customer customer, List<Long> accountIds, boolean includeProfile) {
+        PurgeJob job = new PurgeJob();
+        job.setUsername(customer.getUser().getUsername());
+        job.setCustomerId(customer.getId());
+        job.setUserId(customer.getUser().getId());
+        job.setAccountIds(accountIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        job.setIncludeProfile(includeProfile);
+        job = purgeJobRepository.save(job);
+
+        long estimatedRows = accountIds.isEmpty() ? 0L : transactionRepository.countByAccount_IdIn(accountIds);
+        if (includeProfile) {
+            estimatedRows += auditLogRepository.countByUser_Id(job.getUserId());
+        }
+
+        if (estimatedRows <= INLINE_ROW_LIMIT) {
+            runInline(job.getId());
+            return purgeJobRepository.findById(job.getId()).orElse(job);
+        }
+
+        Long jobId = job.getId();
+        logger.info("Purge job {} for {} queued in background (~{} rows)", jobId, job.getUsername(), estimatedRows);
+        worker.submit(() -> runJob(jobId));
+        return job;
+    }
+
+    /**
+     * Pick up jobs left PENDING/RUNNING by a crash or restart, and retry FAILED ones that have attempts left.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void resumeStalledJobs() {
+        LocalDateTime stalledBefore = LocalDateTime.now().minusMinutes(STALLED_AFTER_MINUTES);
+        List<PurgeJob> jobs = new ArrayList<>(purgeJobRepository.findByStatusInAndUpdatedAtBefore(
+            List.of(PurgeJobStatus.PENDING, PurgeJobStatus.RUNNING), stalledBefore));
+        jobs.addAll(purgeJobRepository.findByStatusAndFailedAttemptsLessThanAndUpdatedAtBefore(
+            PurgeJobStatus.FAILED, MAX_ATTEMPTS, stalledBefore));
+        for (PurgeJob job : jobs) {
+            Long jobId = job.getId();
+            if (!running.contains(jobId)) {
+                logger.info("Resuming {} purge job {} at phase {}", job.getStatus(), jobId, job.getPhase());
+                worker.submit(() -> runJob(jobId));
+            }
+        }
+    }
+
+    // Every phase in one transaction: a failure leaves nothing deleted
+    private void runInline(Long jobId) {
+        if (!running.add(jobId)) {
+            return;
+        }
+        try {
+            PurgeJob job = transactionTemplate.execute(status -> {
+                PurgeJob j = purgeJobRepository.findById(jobId).orElseThrow();
+                j.setStatus(PurgeJobStatus.RUNNING);
+                List<Long> accountIds = parseIds(j.getAccountIds());
+                while (j.getPhase() != PurgePhase.DONE) {
+                    PurgePhase phase = j.getPhase();
+                    int deleted = deletePhaseChunk(phase, accountIds, jobId);
+                    j.setRowsDeleted(j.getRowsDeleted() + deleted);
+                    if (!isChunked(phase) || deleted < CHUNK_SIZE) {
+                        j.setPhase(nextPhase(phase, j.getIncludeProfile()));
+                    }
+                }
+                j.setStatus(PurgeJobStatus.COMPLETED);
+                j.setCompletedAt(LocalDateTime.now());
+                return purgeJobRepository.save(j);
+            });
+            logger.info("Purge job {} completed inline: {} row(s) deleted", jobId, job.getRowsDeleted());
+        } catch (RuntimeException e) {
+            fail(jobId, e);
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private void runJob(Long jobId) {
+        if (!running.add(jobId)) {
+            return;
+        }
+        try {
+            PurgeJob job = transactionTemplate.execute(status -> {
+                PurgeJob j = purgeJobRepository.findById(jobId).orElseThrow();
+                j.setStatus(PurgeJobStatus.RUNNING);
+                return purgeJobRepository.save(j);
+            });
+            List<Long> accountIds = parseIds(job.getAccountIds());
+
+            while (job.getPhase() != PurgePhase.DONE) {
+                final PurgePhase phase = job.getPhase();
+                job = transactionTemplate.execute(status -> {
+                    int deleted = deletePhaseChunk(phase, accountIds, jobId);
+                    PurgeJob j = purgeJobRepository.findById(jobId).orElseThrow();
+                    j.setRowsDeleted(j.getRowsDeleted() + deleted);
+                    if (!isChunked(phase) || deleted < CHUNK_SIZE) {
+                        j.setPhase(nextPhase(phase, j.getIncludeProfile()));
+                    }
+                    return purgeJobRepository.save(j);
+                });
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                PurgeJob j = purgeJobRepository.findById(jobId).orElseThrow();
+                j.setStatus(PurgeJobStatus.COMPLETED);
+                j.setCompletedAt(LocalDateTime.now());
+                purgeJobRepository.save(j);
+            });
+            logger.info("Purge job {} completed: {} row(s) deleted", jobId, job.getRowsDeleted());
+        } catch (RuntimeException e) {
+            fail(jobId, e);
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private void fail(Long jobId, RuntimeException e) {
+        logger.error("Purge job {} failed", jobId, e);
+        String error = e.getMessage() != null && e.getMessage().length() > MAX_ERROR_LENGTH
+            ? e.getMessage().substring(0, MAX_ERROR_LENGTH) : e.getMessage();
+        transactionTemplate.executeWithoutResult(status -> purgeJobRepository.findById(jobId).ifPresent(j -> {
+            j.setStatus(PurgeJobStatus.FAILED);
+            j.setErrorMessage(error);
+            j.setFailedAttempts(j.getFailedAttempts() + 1);
+            if (j.getFailedAttempts() >= MAX_ATTEMPTS) {
+                logger.error("Purge job {} for {} gave up after {} attempts at phase {}", jobId, j.getUsername(),
+                    j.getFailedAttempts(), j.getPhase());
+            }
+            purgeJobRepository.save(j);
+        }));
+    }
+
+    private int deletePhaseChunk(PurgePhase phase, List<Long> accountIds, Long jobId) {
+        PurgeJob job = purgeJobRepository.findById(jobId).orElseThrow();
+        switch (phase) {
+            case CARDS:
+                return accountIds.isEmpty() ? 0 : cardRepository.deleteByAccountIdIn(accountIds);
+            case TRANSACTIONS: {
+                if (accountIds.isEmpty()) {
+                    return 0;
+                }
+                List<Long> ids = transactionRepository.findIdsByAccountIdIn(accountIds, PageRequest.of(0, CHUNK_SIZE));
+                return ids.isEmpty() ? 0 : transactionRepository.deleteByIdIn(ids);
+            }
+            case PENDING_TRANSFERS: {
+                if (accountIds.isEmpty()) {
+                    return 0;
+                }
+                List<String> accountNumbers = accountRepository.findAccountNumbersByIdIn(accountIds);
+                return accountNumbers.isEmpty() ? 0 : pendingTransferRepository.deleteByAccountNumberIn(accountNumbers);
+            }
+            case ACCOUNTS: {
+                if (accountIds.isEmpty()) {
+                    return 0;
+                }
+                int deleted = accountRepository.deleteByIdIn(accountIds);
+                // Delivered when this chunk commits
+                eventPublisher.publishEvent(new AccountsChangedEvent(this, job.getCustomerId()));
+                return deleted;
+            }
+            case SPENDING_ROLLUPS:
+                // Re-derived from the accounts the customer still has (none, for a profile purge)
+                spendingRollupService.rebuildCustomer(job.getCustomerId());
+                return 0;
+            case USER_PREFERENCES:
+                return userPreferencesRepository.deleteByCustomerId(job.getCustomerId());
+            case AUDIT_LOGS: {
+                List<Long> ids = auditLogRepository.findIdsByUserId(job.getUserId(), PageRequest.of(0, CHUNK_SIZE));
+                return ids.isEmpty() ? 0 : auditLogRepository.deleteByIdIn(ids);
+            }
+            case DEVICE_SESSIONS:
+                return deviceSessionRepository.deleteByUserId(job.getUserId());
+            case CUSTOMER:
+                if (customerRepository.existsById(job.getCustomerId())) {
+                    customerRepository.deleteById(job.getCustomerId());
+                    return 1;
+                }
+                return 0;
+            case USER:
+                if (userRepository.existsById(job.getUserId())) {
+                    userRepository.deleteById(job.getUserId());
+                    userAuthCache.invalidate(job.getUsername());
+                    return 1;
+                }
+                return 0;
+            default:
+                return 0;
+        }
+    }
+
+    private static boolean isChunked(PurgePhase phase) {
+        return phase == PurgePhase.TRANSACTIONS || phase == PurgePhase.AUDIT_LOGS;
+    }
+
+    private static PurgePhase nextPhase(PurgePhase phase, boolean includeProfile) {
+        if (phase == PurgePhase.SPENDING_ROLLUPS && !includeProfile) {
+            return PurgePhase.DONE;
+        }
+        return PurgePhase.values()[phase.ordinal() + 1];
+    }
+
+    private static List<Long> parseIds(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(csv.split(",")).map(Long::valueOf).collect(Collectors.toList());
+    }
+}
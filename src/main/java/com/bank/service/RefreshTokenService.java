@@ -11,6 +11,7 @@ import com.bank.model.AppUser;
 import com.bank.model.RefreshToken;
 import com.bank.repository.RefreshTokenRepository;
 import com.bank.security.JwtUtil;
+import com.bank.security.UserAuthCache;
 
 @Service
 public class RefreshTokenService {
@@ -21,6 +22,9 @@ public class RefreshTokenService {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private UserAuthCache userAuthCache;
+
     @Transactional
     public RefreshToken createRefreshToken(AppUser user, String ipAddress, String userAgent) {
         // Revoke existing tokens for this user
@@ -60,11 +64,15 @@ public class RefreshTokenService {
         });
     }
 
+    /**
+     * Also invalidates cached auth for the user, so access tokens issued earlier are re-checked against the DB.
+     */
     @Transactional
     public void revokeAllUserTokens(AppUser user) {
         refreshTokenRepository.findByUser(user).forEach(token -> {
             token.setRevoked(true);
             refreshTokenRepository.save(token);
         });
+        userAuthCache.invalidate(user.getUsername());
     }
 }
@@ -0,0 +1,42 @@
+package com.bank.service;
+
+import com.bank.model.MessageChannel;
+
+/**
+ * A queued message after template rendering, ready for a {@link MessageTransport}.
+ */
+public class RenderedMessage {
+    private final Long id;
+    private final MessageChannel channel;
+    private final String recipient;
+    private final String subject;
+    private final String body;
+
+    public RenderedMessage(Long id, MessageChannel channel, String recipient, String subject, String body) {
+        this.id = id;
+        this.channel = channel;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public MessageChannel getChannel() {
+        return channel;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+}
@@ -1,11 +1,19 @@
 package com.bank.service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,92 +22,143 @@ import com.bank.model.AppUser;
 import com.bank.model.UserSession;
 import com.bank.repository.UserSessionRepository;
 
+/**
+ * Session lifecycle. Reads and activity pings are served from {@link SessionRegistry}; the database sees
+ * one insert per login, batched activity writes every {@value #ACTIVITY_FLUSH_MS} ms, and deletes for
+ * sessions as they expire. The registry is per JVM, so this assumes a single application instance.
+ */
 @Service
 public class SessionManagementService {
+    private static final Logger logger = LoggerFactory.getLogger(SessionManagementService.class);
 
     @Autowired
     private UserSessionRepository sessionRepository;
 
+    @Autowired
+    private SessionRegistry sessionRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private static final int SESSION_TIMEOUT_MINUTES = 30;
     private static final int MAX_CONCURRENT_SESSIONS = 3;
+    private static final long ACTIVITY_FLUSH_MS = 15000L;
+    private static final int EXPIRY_DELETE_CHUNK = 500;
+    private static final int EXPIRED_SWEEP_LIMIT = 5000;
+
+    /**
+     * Clears sessions that expired while the application was down, then loads the live ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadActiveSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        sessionRepository.deleteByExpiresAtBefore(now);
+        List<UserSession> live = sessionRepository.findLiveSessions(now);
+        live.forEach(sessionRegistry::register);
+        logger.info("Loaded {} active sessions into the session registry", live.size());
+    }
 
     @Transactional
     public UserSession createSession(AppUser user, String ipAddress, String userAgent) {
-        // Check for concurrent session limit
-        long activeSessions = sessionRepository.countByUserAndActiveTrue(user);
-        if (activeSessions >= MAX_CONCURRENT_SESSIONS) {
-            // Deactivate oldest session
-            List<UserSession> sessions = sessionRepository.findByUserAndActiveTrueOrderByLastActivityAtDesc(user);
-            if (!sessions.isEmpty()) {
-                UserSession oldest = sessions.get(sessions.size() - 1);
-                oldest.setActive(false);
-                sessionRepository.save(oldest);
+        synchronized (sessionRegistry.lockFor(user.getId())) {
+            // Enforce the concurrent session limit from memory: evict the least recently active session
+            List<SessionRegistry.SessionEntry> active = sessionRegistry.activeForUser(user.getId());
+            if (active.size() >= MAX_CONCURRENT_SESSIONS) {
+                active.stream()
+                    .min(Comparator.comparing(SessionRegistry.SessionEntry::getLastActivityAt))
+                    .ifPresent(oldest -> {
+                        sessionRegistry.remove(oldest.getToken());
+                        sessionRepository.deactivateBySessionToken(oldest.getToken());
+                    });
             }
-        }
 
-        // Create new session
-        UserSession session = new UserSession();
-        session.setUser(user);
-        session.setSessionToken(UUID.randomUUID().toString());
-        session.setIpAddress(ipAddress);
-        session.setUserAgent(userAgent);
-        session.setExpiresAt(LocalDateTime.now().plusMinutes(SESSION_TIMEOUT_MINUTES));
-        
-        return sessionRepository.save(session);
+            // Create new session
+            UserSession session = new UserSession();
+            session.setUser(user);
+            session.setSessionToken(UUID.randomUUID().toString());
+            session.setIpAddress(ipAddress);
+            session.setUserAgent(userAgent);
+            session.setExpiresAt(LocalDateTime.now().plusMinutes(SESSION_TIMEOUT_MINUTES));
+
+            UserSession saved = sessionRepository.save(session);
+            sessionRegistry.register(saved);
+            return saved;
+        }
     }
 
-    @Transactional
+    /**
+     * Extends the session in memory; the new lastActivityAt reaches the database with the next batched flush.
+     */
     public boolean updateSessionActivity(String sessionToken) {
-        Optional<UserSession> sessionOpt = sessionRepository.findBySessionToken(sessionToken);
-        if (sessionOpt.isPresent()) {
-            UserSession session = sessionOpt.get();
-            if (session.isActive() && !session.isExpired()) {
-                session.setLastActivityAt(LocalDateTime.now());
-                session.setExpiresAt(LocalDateTime.now().plusMinutes(SESSION_TIMEOUT_MINUTES));
-                sessionRepository.save(session);
-                return true;
-            } else {
-                session.setActive(false);
-                sessionRepository.save(session);
-            }
-        }
-        return false;
+        return sessionRegistry.touch(sessionToken, LocalDateTime.now(), SESSION_TIMEOUT_MINUTES);
     }
 
     @Transactional
     public void invalidateSession(String sessionToken) {
-        sessionRepository.findBySessionToken(sessionToken).ifPresent(session -> {
-            session.setActive(false);
-            sessionRepository.save(session);
-        });
+        sessionRegistry.remove(sessionToken);
+        sessionRepository.deactivateBySessionToken(sessionToken);
     }
 
     @Transactional
     public void invalidateAllUserSessions(AppUser user) {
-        List<UserSession> sessions = sessionRepository.findByUserAndActiveTrue(user);
-        sessions.forEach(session -> {
-            session.setActive(false);
-            sessionRepository.save(session);
-        });
+        sessionRegistry.removeAllForUser(user.getId());
+        sessionRepository.deactivateAllByUser(user);
     }
 
     public List<UserSession> getActiveSessions(AppUser user) {
-        return sessionRepository.findByUserAndActiveTrueOrderByLastActivityAtDesc(user);
+        List<UserSession> sessions = sessionRepository.findByUserAndActiveTrueOrderByLastActivityAtDesc(user);
+        // Overlay activity not yet flushed, and drop sessions the registry no longer considers live
+        List<UserSession> result = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (UserSession session : sessions) {
+            SessionRegistry.SessionEntry entry = sessionRegistry.get(session.getSessionToken());
+            if (entry != null && entry.isValid(now)) {
+                session.setLastActivityAt(entry.getLastActivityAt());
+                session.setExpiresAt(entry.getExpiresAt());
+                result.add(session);
+            }
+        }
+        result.sort(Comparator.comparing(UserSession::getLastActivityAt).reversed());
+        return result;
     }
 
     public boolean isSessionValid(String sessionToken) {
-        Optional<UserSession> sessionOpt = sessionRepository.findBySessionToken(sessionToken);
-        return sessionOpt.isPresent() && 
-               sessionOpt.get().isActive() && 
-               !sessionOpt.get().isExpired();
+        SessionRegistry.SessionEntry entry = sessionRegistry.get(sessionToken);
+        return entry != null && entry.isValid(LocalDateTime.now());
     }
 
     /**
-     * Scheduled task to clean up expired sessions (runs every hour)
+     * Writes coalesced activity timestamps: however many pings a session got, it costs one row in one batch.
      */
-    @Scheduled(fixedRate = 3600000) // 1 hour in milliseconds
+    @Scheduled(fixedDelay = ACTIVITY_FLUSH_MS)
+    public void flushSessionActivity() {
+        List<SessionRegistry.SessionEntry> dirty = sessionRegistry.drainDirty();
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = dirty.stream()
+            .map(e -> new Object[]{Timestamp.valueOf(e.getLastActivityAt()), Timestamp.valueOf(e.getExpiresAt()), e.getToken()})
+            .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("UPDATE user_sessions SET last_activity_at = ?, expires_at = ? WHERE session_token = ?", rows);
+    }
+
+    /**
+     * Incremental expiry (runs every minute): only sessions in the wheel slots that just passed are
+     * examined, replacing the hourly full-table deleteByExpiresAtBefore sweep. Sessions that left the
+     * registry early (logout, eviction) are no longer on the wheel; a bounded indexed DELETE removes
+     * their rows once they are past expiry.
+     */
+    @Scheduled(fixedRate = 60000)
     @Transactional
     public void cleanupExpiredSessions() {
-        sessionRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        List<SessionRegistry.SessionEntry> expired = sessionRegistry.expireDue(now);
+        List<String> tokens = expired.stream().map(SessionRegistry.SessionEntry::getToken).collect(Collectors.toList());
+        for (int i = 0; i < tokens.size(); i += EXPIRY_DELETE_CHUNK) {
+            sessionRepository.deleteBySessionTokenIn(tokens.subList(i, Math.min(tokens.size(), i + EXPIRY_DELETE_CHUNK)));
+        }
+        // Live sessions' expires_at can lag by up to one activity flush; stay well behind that
+        sessionRepository.deleteExpiredBefore(now.minusNanos(ACTIVITY_FLUSH_MS * 4 * 1_000_000L), EXPIRED_SWEEP_LIMIT);
     }
 }
@@ -0,0 +1,200 @@
+package com.bank.service;
+
+import com.bank.model.UserSession;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory view of live user sessions. Validity checks and activity pings are answered here. Activity
+ * timestamps are marked dirty and written back in batches by {@link SessionManagementService}. Expiry
+ * runs on a one-minute hashed timing wheel: a session sits in the slot of its expiry minute and is
+ * re-bucketed lazily if activity has pushed its expiry out by the time the slot comes round.
+ */
+@Component
+public class SessionRegistry {
+    // One lap of the wheel must exceed the session timeout, so a slot never holds an entry a lap early
+    private static final int WHEEL_SLOTS = 64;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<String, SessionEntry> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> tokensByUser = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final Object[] userLocks = new Object[LOCK_STRIPES];
+    @SuppressWarnings("unchecked")
+    private final Queue<String>[] wheel = new Queue[WHEEL_SLOTS];
+    private long lastTickMinute = minuteOf(LocalDateTime.now()) - 1;
+
+    public SessionRegistry() {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            userLocks[i] = new Object();
+        }
+    }
+
+    /** Serialises session creation per user so the concurrent-session limit cannot be raced past. */
+    public Object lockFor(Long userId) {
+        return userLocks[(userId.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+
+    public void register(UserSession session) {
+        SessionEntry entry = new SessionEntry(session.getSessionToken(), session.getUser().getId(),
+            session.getLastActivityAt(), session.getExpiresAt());
+        sessions.put(entry.token, entry);
+        tokensByUser.computeIfAbsent(entry.userId, k -> ConcurrentHashMap.newKeySet()).add(entry.token);
+        wheel[slotOf(entry.expiresAt)].add(entry.token);
+    }
+
+    public SessionEntry get(String token) {
+        return sessions.get(token);
+    }
+
+    /** Extends a live session and marks it for the next batched write; false if unknown or expired. */
+    public boolean touch(String token, LocalDateTime now, int timeoutMinutes) {
+        SessionEntry entry = sessions.get(token);
+        if (entry == null || !entry.expiresAt.isAfter(now)) {
+            return false;
+        }
+        entry.lastActivityAt = now;
+        entry.expiresAt = now.plusMinutes(timeoutMinutes);
+        dirty.add(token);
+        return true;
+    }
+
+    public SessionEntry remove(String token) {
+        SessionEntry entry = sessions.remove(token);
+        if (entry != null) {
+            dirty.remove(token);
+            Set<String> tokens = tokensByUser.get(entry.userId);
+            if (tokens != null) {
+                tokens.remove(token);
+                if (tokens.isEmpty()) {
+                    tokensByUser.remove(entry.userId, tokens);
+                }
+            }
+        }
+        return entry;
+    }
+
+    public List<SessionEntry> removeAllForUser(Long userId) {
+        List<SessionEntry> removed = new ArrayList<>();
+        for (SessionEntry entry : activeForUser(userId)) {
+            if (remove(entry.token) != null) {
+                removed.add(entry);
+            }
+        }
+        return removed;
+    }
+
+    public List<SessionEntry> activeForUser(Long userId) {
+        List<SessionEntry> result = new ArrayList<>();
+        Set<String> tokens = tokensByUser.get(userId);
+        if (tokens != null) {
+            for (String token : tokens) {
+                SessionEntry entry = sessions.get(token);
+                if (entry != null) {
+                    result.add(entry);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Takes the sessions whose activity changed since the last call. */
+    public List<SessionEntry> drainDirty() {
+        List<SessionEntry> result = new ArrayList<>();
+        Iterator<String> it = dirty.iterator();
+        while (it.hasNext()) {
+            String token = it.next();
+            it.remove();
+            SessionEntry entry = sessions.get(token);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Advances the wheel over every whole minute that has passed and removes the sessions that expired in
+     * them. Only the scheduler thread calls this.
+     */
+    public List<SessionEntry> expireDue(LocalDateTime now) {
+        List<SessionEntry> expired = new ArrayList<>();
+        long nowMinute = minuteOf(now);
+        long from = Math.max(lastTickMinute + 1, nowMinute - WHEEL_SLOTS);
+        for (long minute = from; minute < nowMinute; minute++) {
+            Queue<String> slot = wheel[(int) (minute % WHEEL_SLOTS)];
+            for (int n = slot.size(); n > 0; n--) {
+                String token = slot.poll();
+                if (token == null) {
+                    break;
+                }
+                SessionEntry entry = sessions.get(token);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.expiresAt.isAfter(now)) {
+                    wheel[slotOf(entry.expiresAt)].add(token);
+                } else {
+                    remove(token);
+                    expired.add(entry);
+                }
+            }
+            lastTickMinute = minute;
+        }
+        return expired;
+    }
+
+    private static int slotOf(LocalDateTime time) {
+        return (int) (minuteOf(time) % WHEEL_SLOTS);
+    }
+
+    private static long minuteOf(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    public static final class SessionEntry {
+        private final String token;
+        private final Long userId;
+        private volatile LocalDateTime lastActivityAt;
+        private volatile LocalDateTime expiresAt;
+
+        SessionEntry(String token, Long userId, LocalDateTime lastActivityAt, LocalDateTime expiresAt) {
+            this.token = token;
+            this.userId = userId;
+            this.lastActivityAt = lastActivityAt;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public LocalDateTime getLastActivityAt() {
+            return lastActivityAt;
+        }
+
+        public LocalDateTime getExpiresAt() {
+            return expiresAt;
+        }
+
+        public boolean isValid(LocalDateTime now) {
+            return expiresAt.isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.bank.service;
+
+import com.bank.config.AnalyticsProperties;
+import com.bank.model.Customer;
+import com.bank.model.DailySpendingRollup;
+import com.bank.model.Transaction;
+import com.bank.repository.DailySpendingRollupRepository;
+import com.bank.repository.TransactionRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains daily_spending_rollups: one upsert per posted transaction (driven by
+ * {@link com.bank.event.TransactionPostedEvent}), a nightly rebuild of the last few completed days to
+ * repair any drift, and a one-off backfill when the table is first created.
+ */
+@Service
+public class SpendingRollupService {
+    private static final Logger logger = LoggerFactory.getLogger(SpendingRollupService.class);
+    private static final int MAX_CATEGORY_LENGTH = 255;
+
+    @Autowired
+    private DailySpendingRollupRepository rollupRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AnalyticsProperties properties;
+
+    public void onPosted(Transaction transaction) {
+        Customer customer = transaction.getAccount() != null ? transaction.getAccount().getCustomer() : null;
+        if (customer == null || transaction.getDate() == null) {
+            return;
+        }
+        rollupRepository.increment(customer.getId(), transaction.getDate().toLocalDate(),
+            typeKey(transaction), categoryKey(transaction), transaction.getAmountMoney().getPaise());
+    }
+
+    /** Rollup rows for the customer with rollup_date in [startDate, endDate]. */
+    public List<DailySpendingRollup> findRange(Long customerId, LocalDate startDate, LocalDate endDate) {
+        return rollupRepository.findByCustomerIdAndRollupDateBetween(customerId, startDate, endDate);
+    }
+
+    /** Re-derives one customer's rollups from their remaining transactions, e.g. after an account purge. */
+    @Transactional
+    public void rebuildCustomer(Long customerId) {
+        rollupRepository.deleteByCustomerId(customerId);
+        rollupRepository.rebuildCustomer(customerId);
+    }
+
+    // Only completed days: nothing posts into them any more, so delete + re-insert cannot race a live upsert
+    @Scheduled(cron = "${analytics.rollup-repair-cron:0 30 2 * * *}")
+    @Transactional
+    public void repairRecentDays() {
+        if (!properties.isRollupEnabled()) {
+            return;
+        }
+        LocalDate end = LocalDate.now();
+        LocalDate start = end.minusDays(properties.getRollupRepairDays());
+        int deleted = rollupRepository.deleteByRollupDateRange(start, end);
+        int rebuilt = rollupRepository.rebuildRange(start.atStartOfDay(), end.atStartOfDay());
+        logger.info("Spending rollups repaired for {} to {}: {} rows replaced by {}", start, end.minusDays(1), deleted, rebuilt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (!properties.isRollupEnabled() || rollupRepository.count() > 0 || transactionRepository.count() == 0) {
+            return;
+        }
+        int rows = rollupRepository.rebuildRange(LocalDate.of(1970, 1, 1).atStartOfDay(), LocalDateTime.now().plusDays(1));
+        logger.info("Spending rollups backfilled: {} rows", rows);
+    }
+
+    private static String typeKey(Transaction transaction) {
+        return transaction.getType() != null ? transaction.getType().name() : "UNKNOWN";
+    }
+
+    private static String categoryKey(Transaction transaction) {
+        String category = transaction.getDescription() != null ? transaction.getDescription() : "UNCATEGORIZED";
+        return category.length() > MAX_CATEGORY_LENGTH ? category.substring(0, MAX_CATEGORY_LENGTH) : category;
+    }
+}
@@ -0,0 +1,177 @@
+package com.bank.service;
+
+import com.bank.dto.TransactionDto;
+import com.bank.exception.ResourceNotFoundException;
+import com.bank.model.Account;
+import com.bank.model.AppUser;
+import com.bank.model.Transaction;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.AppUserRepository;
+import com.bank.repository.TransactionRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams an account statement straight from a forward-only JDBC cursor to the response body, so memory
+ * stays flat regardless of how many transactions fall in the requested range.
+ */
+@Service
+public class StatementExportService {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AppUserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Validate the request before the response is committed; returns the account being exported.
+     */
+    public Account prepareExport(Long accountId, String username, LocalDateTime startDate,
+                                 LocalDateTime endDate, String format) {
+        if (!FORMAT_CSV.equals(format) && !FORMAT_NDJSON.equals(format)) {
+            throw new IllegalArgumentException("Unsupported statement format: " + format);
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+
+        Account account = accountRepository.findById(accountId)
+            .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
+
+        AppUser user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        if (account.getCustomer() == null ||
+            !account.getCustomer().getUser().getId().equals(user.getId())) {
+            throw new RuntimeException("Unauthorized access to account");
+        }
+        return account;
+    }
+
+    /**
+     * Write the statement rows incrementally. Runs on the async response thread, hence its own transaction.
+     */
+    @Transactional(readOnly = true)
+    public void writeStatement(Long accountId, LocalDateTime startDate, LocalDateTime endDate,
+                               String format, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+
+        try (Stream<Transaction> rows = transactionRepository.streamByAccountIdAndDateBetween(accountId, startDate, endDate)) {
+            if (FORMAT_NDJSON.equals(format)) {
+                writeNdjson(rows.iterator(), target);
+            } else {
+                writeCsv(rows.iterator(), target);
+            }
+        }
+
+        if (target instanceof GZIPOutputStream) {
+            ((GZIPOutputStream) target).finish();
+        }
+        target.flush();
+    }
+
+    private void writeCsv(Iterator<Transaction> rows, OutputStream target) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+        writer.write("id,date,type,amount,description,status,referenceNumber\n");
+        int count = 0;
+        while (rows.hasNext()) {
+            Transaction t = rows.next();
+            writer.write(String.valueOf(t.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(t.getDate()));
+            writer.write(',');
+            writer.write(t.getType() != null ? t.getType().name() : "");
+            writer.write(',');
+            writer.write(t.getAmountMoney().toString());
+            writer.write(',');
+            writer.write(csv(t.getDescription()));
+            writer.write(',');
+            writer.write(t.getStatus() != null ? t.getStatus().name() : "");
+            writer.write(',');
+            writer.write(csv(t.getReferenceNumber()));
+            writer.write('\n');
+            release(t);
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<Transaction> rows, OutputStream target) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(target);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // One document per line: no default space between root values, newline written explicitly
+        generator.setRootValueSeparator(null);
+        int count = 0;
+        while (rows.hasNext()) {
+            Transaction t = rows.next();
+            TransactionDto dto = new TransactionDto();
+            dto.setId(t.getId());
+            dto.setAccountId(accountIdOf(t));
+            dto.setType(t.getType() != null ? t.getType().name() : null);
+            dto.setAmount(t.getAmount());
+            dto.setDate(t.getDate());
+            dto.setDescription(t.getDescription());
+            writer.writeValue(generator, dto);
+            generator.writeRaw('\n');
+            release(t);
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+    }
+
+    private Long accountIdOf(Transaction t) {
+        return t.getAccount() != null ? t.getAccount().getId() : null;
+    }
+
+    // Detach each row once written so the persistence context does not grow with the range
+    private void release(Transaction t) {
+        entityManager.detach(t);
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
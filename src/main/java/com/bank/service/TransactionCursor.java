@@ -0,0 +1,102 @@
+package com.bank.service;
+
+import com.bank.dto.CursorPage;
+import com.bank.model.Transaction;
+import com.bank.repository.TransactionRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Position in a transaction history ordered by (date DESC, id DESC), encoded as an opaque URL-safe token.
+ * Undated rows sort last and are encoded with an empty date.
+ */
+public final class TransactionCursor {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final LocalDateTime date;
+    private final Long id;
+
+    private TransactionCursor(LocalDateTime date, Long id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    /**
+     * One slice of an account's history after {@code token} (first slice when null). {@code size} is
+     * clamped, or {@link #DEFAULT_SIZE} when null.
+     */
+    public static <T> CursorPage<T> page(TransactionRepository repository, Long accountId, String token,
+                                         Integer size, Function<Transaction, T> mapper) {
+        TransactionCursor after = decode(token);
+        int limit = clampSize(size != null ? size : DEFAULT_SIZE);
+        // Fetch one extra row to learn whether another slice exists, without a COUNT(*)
+        PageRequest slice = PageRequest.of(0, limit + 1);
+        List<Transaction> rows;
+        if (after == null) {
+            rows = repository.findLatestByAccountId(accountId, slice);
+        } else if (after.date == null) {
+            rows = repository.findUndatedByAccountIdBefore(accountId, after.id, slice);
+        } else {
+            rows = repository.findByAccountIdBefore(accountId, after.date, after.id, slice);
+            // Undated rows sort after every dated one: continue into them once the dated rows run out
+            if (rows.size() <= limit) {
+                rows = new ArrayList<>(rows);
+                rows.addAll(repository.findUndatedByAccountIdBefore(accountId, Long.MAX_VALUE,
+                    PageRequest.of(0, limit + 1 - rows.size())));
+            }
+        }
+        String next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            next = after(rows.get(limit - 1)).encode();
+        }
+        return new CursorPage<>(rows.stream().map(mapper).collect(Collectors.toList()), next);
+    }
+
+    public static TransactionCursor after(Transaction last) {
+        return new TransactionCursor(last.getDate(), last.getId());
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}; returns null for a missing token (first page).
+     */
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            String date = raw.substring(0, sep);
+            return new TransactionCursor(date.isEmpty() ? null : LocalDateTime.parse(date), Long.valueOf(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public String encode() {
+        String raw = (date != null ? date.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -1,16 +1,20 @@
 package com.bank.service;
 
+import com.bank.dto.CursorPage;
 import com.bank.dto.TransactionDto;
+import com.bank.event.TransactionPostedEvent;
 import com.bank.exception.InsufficientFundsException;
 import com.bank.exception.ResourceNotFoundException;
 import com.bank.model.Account;
 import com.bank.model.AppUser;
+import com.bank.model.Money;
 import com.bank.model.Transaction;
 import com.bank.model.TransactionType;
 import com.bank.repository.AccountRepository;
 import com.bank.repository.AppUserRepository;
 import com.bank.repository.TransactionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,7 +43,13 @@ public class TransactionOperationService {
     @Autowired
     private AuditService auditService;
 
-    private static final double MINIMUM_BALANCE = 100.0; // Minimum balance requirement
+    @Autowired
+    private TransferExecutor transferExecutor;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private static final Money MINIMUM_BALANCE = Money.of(100.0); // Minimum balance requirement
 
     /**
      * Deposit money into account
@@ -54,17 +66,19 @@ public class TransactionOperationService {
         verifyAccountOwnership(account, username);
 
         // Update balance
-        account.setBalance(account.getBalance() + amount);
+        Money money = Money.of(amount);
+        account.setBalanceMoney(account.getBalanceMoney().plus(money));
         accountRepository.save(account);
 
         // Create transaction record
         Transaction transaction = new Transaction();
         transaction.setAccount(account);
         transaction.setType(TransactionType.DEPOSIT);
-        transaction.setAmount(amount);
+        transaction.setAmountMoney(money);
         transaction.setDate(LocalDateTime.now());
         transaction.setDescription(description != null ? description : "Deposit");
         transaction = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(new TransactionPostedEvent(this, List.of(transaction)));
 
         // Audit log
         auditService.logAction(username, "DEPOSIT", 
@@ -88,23 +102,26 @@ public class TransactionOperationService {
         verifyAccountOwnership(account, username);
 
         // Check sufficient balance
-        if (account.getBalance() - amount < MINIMUM_BALANCE) {
+        Money money = Money.of(amount);
+        Money remaining = account.getBalanceMoney().minus(money);
+        if (remaining.isLessThan(MINIMUM_BALANCE)) {
             throw new InsufficientFundsException("Insufficient funds. Minimum balance of " + 
                 MINIMUM_BALANCE + " must be maintained");
         }
 
         // Update balance
-        account.setBalance(account.getBalance() - amount);
+        account.setBalanceMoney(remaining);
         accountRepository.save(account);
 
         // Create transaction record
         Transaction transaction = new Transaction();
         transaction.setAccount(account);
         transaction.setType(TransactionType.WITHDRAWAL);
-        transaction.setAmount(amount);
+        transaction.setAmountMoney(money);
         transaction.setDate(LocalDateTime.now());
         transaction.setDescription(description != null ? description : "Withdrawal");
         transaction = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(new TransactionPostedEvent(this, List.of(transaction)));
 
         // Audit log
         auditService.logAction(username, "WITHDRAWAL", 
@@ -116,30 +133,40 @@ public class TransactionOperationService {
     /**
      * Transfer money between accounts
      */
-    @Transactional
     public TransactionDto transfer(Long fromAccountId, Long toAccountId, Double amount, 
                                    String username, String description) {
         if (amount <= 0) {
             throw new IllegalArgumentException("Transfer amount must be positive");
         }
 
-        Account fromAccount = accountRepository.findById(fromAccountId)
+        return transferExecutor.executeForAccountIds(List.of(fromAccountId, toAccountId),
+            () -> doTransfer(fromAccountId, toAccountId, amount, username, description));
+    }
+
+    private TransactionDto doTransfer(Long fromAccountId, Long toAccountId, Double amount,
+                                      String username, String description) {
+        // Loaded in ascending id order (and row-locked in PESSIMISTIC mode)
+        Map<Long, Account> accounts = transferExecutor.loadAccountsById(List.of(fromAccountId, toAccountId));
+
+        Account fromAccount = Optional.ofNullable(accounts.get(fromAccountId))
             .orElseThrow(() -> new ResourceNotFoundException("Source account not found"));
 
-        Account toAccount = accountRepository.findById(toAccountId)
+        Account toAccount = Optional.ofNullable(accounts.get(toAccountId))
             .orElseThrow(() -> new ResourceNotFoundException("Destination account not found"));
 
         verifyAccountOwnership(fromAccount, username);
 
         // Check sufficient balance
-        if (fromAccount.getBalance() - amount < MINIMUM_BALANCE) {
+        Money money = Money.of(amount);
+        Money remaining = fromAccount.getBalanceMoney().minus(money);
+        if (remaining.isLessThan(MINIMUM_BALANCE)) {
             throw new InsufficientFundsException("Insufficient funds. Minimum balance of " + 
                 MINIMUM_BALANCE + " must be maintained");
         }
 
         // Update balances
-        fromAccount.setBalance(fromAccount.getBalance() - amount);
-        toAccount.setBalance(toAccount.getBalance() + amount);
+        fromAccount.setBalanceMoney(remaining);
+        toAccount.setBalanceMoney(toAccount.getBalanceMoney().plus(money));
         
         accountRepository.save(fromAccount);
         accountRepository.save(toAccount);
@@ -148,7 +175,7 @@ public class TransactionOperationService {
         Transaction withdrawalTransaction = new Transaction();
         withdrawalTransaction.setAccount(fromAccount);
         withdrawalTransaction.setType(TransactionType.TRANSFER_OUT);
-        withdrawalTransaction.setAmount(amount);
+        withdrawalTransaction.setAmountMoney(money);
         withdrawalTransaction.setDate(LocalDateTime.now());
         withdrawalTransaction.setDescription(description != null ? description : 
             "Transfer to " + toAccount.getAccountNumber());
@@ -158,11 +185,12 @@ public class TransactionOperationService {
         Transaction depositTransaction = new Transaction();
         depositTransaction.setAccount(toAccount);
         depositTransaction.setType(TransactionType.TRANSFER_IN);
-        depositTransaction.setAmount(amount);
+        depositTransaction.setAmountMoney(money);
         depositTransaction.setDate(LocalDateTime.now());
         depositTransaction.setDescription(description != null ? description : 
             "Transfer from " + fromAccount.getAccountNumber());
         transactionRepository.save(depositTransaction);
+        eventPublisher.publishEvent(new TransactionPostedEvent(this, List.of(withdrawalTransaction, depositTransaction)));
 
         // Audit log
         auditService.logAction(username, "TRANSFER", 
@@ -190,6 +218,19 @@ public class TransactionOperationService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Get transaction history with keyset pagination (no OFFSET, no total count)
+     */
+    public CursorPage<TransactionDto> getTransactionHistoryAfter(Long accountId, String username,
+                                                                String cursor, Integer size) {
+        Account account = accountRepository.findById(accountId)
+            .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
+
+        verifyAccountOwnership(account, username);
+
+        return TransactionCursor.page(transactionRepository, accountId, cursor, size, this::mapToDto);
+    }
+
     /**
      * Get transactions by date range
      */
@@ -0,0 +1,181 @@
+package com.bank.service;
+
+import com.bank.config.TransferProperties;
+import com.bank.model.Account;
+import com.bank.repository.AccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs balance-moving work (transfers) under the configured locking mode.
+ *
+ * In PESSIMISTIC mode the caller's accounts are first serialised on an in-JVM striped lock keyed by
+ * account number, so same-node contention never reaches the database, and rows are then locked with
+ * SELECT ... FOR UPDATE in ascending id order so A->B and B->A transfers cannot deadlock. In both modes
+ * the remaining version/lock conflicts are retried a bounded number of times with jittered backoff.
+ */
+@Service
+public class TransferExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferExecutor.class);
+
+    @Autowired
+    private TransferProperties properties;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ReentrantLock[] stripes;
+    private TransactionTemplate transactionTemplate;
+    private Counter retryCounter;
+    private Counter abortCounter;
+
+    @PostConstruct
+    void init() {
+        int size = 1;
+        while (size < properties.getLockStripes()) {
+            size <<= 1;
+        }
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        retryCounter = meterRegistry.counter("bank.transfer.retries");
+        abortCounter = meterRegistry.counter("bank.transfer.aborts");
+    }
+
+    public boolean isPessimistic() {
+        return properties.getLockingMode() == TransferProperties.LockingMode.PESSIMISTIC;
+    }
+
+    /**
+     * Execute transfer work touching the given account numbers in its own transaction.
+     */
+    public <T> T executeForAccountNumbers(Collection<String> accountNumbers, Supplier<T> work) {
+        if (!isPessimistic()) {
+            return executeWithRetry(work);
+        }
+        // Acquire stripes in ascending index order so two callers can never hold them crosswise
+        TreeSet<Integer> stripeIndexes = new TreeSet<>();
+        for (String accountNumber : accountNumbers) {
+            if (accountNumber != null) {
+                stripeIndexes.add(stripeFor(accountNumber));
+            }
+        }
+        List<ReentrantLock> held = new ArrayList<>(stripeIndexes.size());
+        try {
+            for (Integer index : stripeIndexes) {
+                ReentrantLock lock = stripes[index];
+                lock.lock();
+                held.add(lock);
+            }
+            return executeWithRetry(work);
+        } finally {
+            for (int i = held.size() - 1; i >= 0; i--) {
+                held.get(i).unlock();
+            }
+        }
+    }
+
+    /**
+     * Execute transfer work touching the given account ids in its own transaction.
+     */
+    public <T> T executeForAccountIds(Collection<Long> accountIds, Supplier<T> work) {
+        if (!isPessimistic()) {
+            return executeWithRetry(work);
+        }
+        return executeForAccountNumbers(accountRepository.findAccountNumbersByIdIn(accountIds), work);
+    }
+
+    /**
+     * Load accounts by id for modification. In PESSIMISTIC mode the rows are locked in ascending id order.
+     * Missing accounts are absent from the returned map.
+     */
+    public Map<Long, Account> loadAccountsById(Collection<Long> accountIds) {
+        Map<Long, Account> accounts = new HashMap<>();
+        for (Long id : new TreeSet<>(accountIds)) {
+            (isPessimistic() ? accountRepository.findByIdForUpdate(id) : accountRepository.findById(id))
+                .ifPresent(a -> accounts.put(a.getId(), a));
+        }
+        return accounts;
+    }
+
+    /**
+     * Load accounts by account number for modification. In PESSIMISTIC mode the ids are resolved first
+     * and the rows are then locked in ascending id order. Missing accounts are absent from the returned map.
+     */
+    public Map<String, Account> loadAccountsByNumber(Collection<String> accountNumbers) {
+        Map<String, Account> accounts = new HashMap<>();
+        if (isPessimistic()) {
+            for (Long id : accountRepository.findIdsByAccountNumberIn(accountNumbers)) {
+                accountRepository.findByIdForUpdate(id).ifPresent(a -> accounts.put(a.getAccountNumber(), a));
+            }
+        } else {
+            for (String accountNumber : accountNumbers) {
+                accountRepository.findByAccountNumber(accountNumber).ifPresent(a -> accounts.put(accountNumber, a));
+            }
+        }
+        return accounts;
+    }
+
+    private <T> T executeWithRetry(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Joined an outer transaction: a conflict marks it rollback-only, so only the outer caller can retry
+            return work.get();
+        }
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    abortCounter.increment();
+                    logger.warn("Transfer aborted after {} attempt(s): {}", attempt, e.getMessage());
+                    throw e;
+                }
+                retryCounter.increment();
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, RuntimeException cause) {
+        long cap = Math.min(properties.getBackoffMaxMs(), properties.getBackoffBaseMs() << Math.min(attempt - 1, 16));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private int stripeFor(String accountNumber) {
+        int h = accountNumber.hashCode();
+        return (h ^ (h >>> 16)) & (stripes.length - 1);
+    }
+}
@@ -2,6 +2,7 @@ package com.bank.service;
 
 import com.bank.dto.UpiPaymentRequest;
 import com.bank.dto.UpiPaymentResponse;
+import com.bank.event.TransactionPostedEvent;
 import com.bank.exception.InsufficientFundsException;
 import com.bank.exception.ResourceNotFoundException;
 import com.bank.model.*;
@@ -9,6 +10,7 @@ import com.bank.repository.AccountRepository;
 import com.bank.repository.TransactionRepository;
 import com.bank.repository.UpiTransactionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,6 +32,9 @@ public class UpiService {
     @Autowired
     private TransactionRepository transactionRepository;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     @Transactional
     public UpiPaymentResponse initiateUpiPayment(String username, UpiPaymentRequest request) {
         // Find sender's account
@@ -69,6 +74,7 @@ public class UpiService {
         transaction.setAmount(request.getAmount());
         transaction.setDescription("UPI Payment to " + request.getReceiverUpiId());
         transactionRepository.save(transaction);
+        eventPublisher.publishEvent(new TransactionPostedEvent(this, List.of(transaction)));
         
         // Build response
         UpiPaymentResponse response = new UpiPaymentResponse();
@@ -0,0 +1,115 @@
+package com.bank.benchmark;
+
+import com.bank.model.Account;
+import com.bank.model.Customer;
+import com.bank.model.Loan;
+import com.bank.model.LoanStatus;
+import com.bank.model.LoanType;
+import com.bank.model.RepaymentFrequency;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.CustomerRepository;
+import com.bank.repository.LoanRepository;
+import com.bank.service.AmortizationEngine;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Throwaway customers, accounts and loans for the benchmark harnesses, removed again by {@link #cleanUp()}.
+ */
+class BenchmarkData {
+    private final CustomerRepository customerRepository;
+    private final AccountRepository accountRepository;
+    private final LoanRepository loanRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final List<Long> customerIds = new ArrayList<>();
+    private final List<Long> accountIds = new ArrayList<>();
+    private final List<Long> loanIds = new ArrayList<>();
+
+    BenchmarkData(CustomerRepository customerRepository, AccountRepository accountRepository,
+                  LoanRepository loanRepository, JdbcTemplate jdbcTemplate) {
+        this.customerRepository = customerRepository;
+        this.accountRepository = accountRepository;
+        this.loanRepository = loanRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    Customer customer() {
+        Customer customer = new Customer();
+        customer.setName("Benchmark " + token());
+        customer.setEmail(token() + "@bench.invalid");
+        customer = customerRepository.save(customer);
+        customerIds.add(customer.getId());
+        return customer;
+    }
+
+    Account account(Customer customer, double balance) {
+        Account account = new Account();
+        account.setAccountNumber("BENCH" + token());
+        account.setAccountType("SAVINGS");
+        account.setStatus("ACTIVE");
+        account.setBalance(balance);
+        account.setCreatedAt(LocalDateTime.now());
+        account.setCustomer(customer);
+        account = accountRepository.save(account);
+        accountIds.add(account.getId());
+        return account;
+    }
+
+    Loan activeLoan(Customer customer, double principal, double annualRate, int tenureMonths, LocalDate disbursed) {
+        Loan loan = new Loan();
+        loan.setCustomer(customer);
+        loan.setLoanNumber("BENCH" + token());
+        loan.setLoanType(LoanType.HOME);
+        loan.setStatus(LoanStatus.ACTIVE);
+        loan.setPrincipalAmount(principal);
+        loan.setInterestRate(annualRate);
+        loan.setTenureMonths(tenureMonths);
+        loan.setRepaymentFrequency(RepaymentFrequency.MONTHLY);
+        loan.setEmiAmount(AmortizationEngine.emi(principal, annualRate, tenureMonths));
+        loan.setOutstandingAmount(principal);
+        loan.setTotalAmountPaid(0.0);
+        loan.setDisbursementDate(disbursed);
+        loan = loanRepository.save(loan);
+        loanIds.add(loan.getId());
+        return loan;
+    }
+
+    /** Deletes everything created here, children first. */
+    void cleanUp() {
+        for (Long loanId : loanIds) {
+            jdbcTemplate.update("DELETE FROM loan_restructures WHERE loan_id = ?", loanId);
+            jdbcTemplate.update("DELETE FROM amortization_plans WHERE loan_id = ?", loanId);
+            jdbcTemplate.update("DELETE FROM emi_schedules WHERE loan_id = ?", loanId);
+            jdbcTemplate.update("DELETE FROM loans WHERE id = ?", loanId);
+        }
+        for (Long accountId : accountIds) {
+            jdbcTemplate.update("DELETE FROM transaction WHERE account_id = ?", accountId);
+            jdbcTemplate.update("DELETE FROM account WHERE id = ?", accountId);
+        }
+        for (Long customerId : customerIds) {
+            jdbcTemplate.update("DELETE FROM daily_spending_rollups WHERE customer_id = ?", customerId);
+            jdbcTemplate.update("DELETE FROM customer WHERE id = ?", customerId);
+        }
+        loanIds.clear();
+        accountIds.clear();
+        customerIds.clear();
+    }
+
+    /** p50 and p95 of a set of timings, in milliseconds. */
+    static String summary(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return String.format("p50 %.2f ms p95 %.2f ms", sorted[sorted.length / 2] / 1e6,
+            sorted[(int) (sorted.length * 0.95)] / 1e6);
+    }
+
+    private static String token() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+}
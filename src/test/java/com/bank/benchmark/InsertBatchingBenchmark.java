@@ -0,0 +1,155 @@
+package com.bank.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.bankingsystem.BankingSystemApplication;
+import com.bank.model.Account;
+import com.bank.model.AmortizationPlan;
+import com.bank.model.Customer;
+import com.bank.model.EmiSchedule;
+import com.bank.model.Loan;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.CustomerRepository;
+import com.bank.repository.EmiScheduleRepository;
+import com.bank.repository.LoanRepository;
+import com.bank.service.AmortizationEngine;
+import com.bank.service.BankingService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Insert latency with and without JDBC batching. It times a 360-row EMI schedule and a single transfer
+ * posting. The "before" side sets the session's JDBC batch size to 1. That reproduces the row-by-row
+ * inserts IDENTITY ids forced; the pooled-lo ids themselves are the same on both sides. Runs against the
+ * configured datasource: {@code mvn test -Pbenchmark -Dtest=InsertBatchingBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = BankingSystemApplication.class)
+class InsertBatchingBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(InsertBatchingBenchmark.class);
+
+    private static final int TENURE_MONTHS = 360;
+    private static final int WARMUP = 5;
+    private static final int SCHEDULE_ROUNDS = 30;
+    private static final int TRANSFER_ROUNDS = 500;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private EmiScheduleRepository emiScheduleRepository;
+
+    @Autowired
+    private BankingService bankingService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BenchmarkData data;
+    private TransactionTemplate transactionTemplate;
+    private Loan loan;
+    private Account from;
+    private Account to;
+
+    @BeforeEach
+    void setUp() {
+        data = new BenchmarkData(customerRepository, accountRepository, loanRepository, jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        Customer customer = data.customer();
+        loan = data.activeLoan(customer, 5_000_000.0, 8.5, TENURE_MONTHS, LocalDate.now());
+        from = data.account(customer, 1_000_000_000.0);
+        to = data.account(customer, 0.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        data.cleanUp();
+    }
+
+    @Test
+    void batchedVersusRowByRow() {
+        long[] scheduleRowByRow = timeSchedules(1);
+        long[] scheduleBatched = timeSchedules(0);
+        long[] transferRowByRow = timeTransfers(1);
+        long[] transferBatched = timeTransfers(0);
+
+        logger.info("360-row EMI schedule  row-by-row {}  batched {}", BenchmarkData.summary(scheduleRowByRow), BenchmarkData.summary(scheduleBatched));
+        logger.info("Transfer posting      row-by-row {}  batched {}", BenchmarkData.summary(transferRowByRow), BenchmarkData.summary(transferBatched));
+        assertThat(emiScheduleRepository.findByLoanId(loan.getId())).isEmpty();
+    }
+
+    // batchSize 0 keeps the configured hibernate.jdbc.batch_size
+    private long[] timeSchedules(int batchSize) {
+        AmortizationPlan plan = new AmortizationPlan();
+        plan.setLoan(loan);
+        plan.startSegment(1, loan.getPrincipalAmount(), loan.getInterestRate(), loan.getEmiAmount(),
+            TENURE_MONTHS, LocalDate.now().plusMonths(1));
+        long[] nanos = new long[SCHEDULE_ROUNDS];
+        for (int round = -WARMUP; round < SCHEDULE_ROUNDS; round++) {
+            List<EmiSchedule> rows = new ArrayList<>(TENURE_MONTHS);
+            for (int n = 1; n <= TENURE_MONTHS; n++) {
+                rows.add(AmortizationEngine.toRow(plan, n));
+            }
+            long start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> {
+                withBatchSize(batchSize);
+                emiScheduleRepository.saveAll(rows);
+            });
+            long elapsed = System.nanoTime() - start;
+            if (round >= 0) {
+                nanos[round] = elapsed;
+            }
+            jdbcTemplate.update("DELETE FROM emi_schedules WHERE loan_id = ?", loan.getId());
+        }
+        return nanos;
+    }
+
+    private long[] timeTransfers(int batchSize) {
+        long[] nanos = new long[TRANSFER_ROUNDS];
+        for (int round = -WARMUP; round < TRANSFER_ROUNDS; round++) {
+            long start = System.nanoTime();
+            // transferMoney joins this transaction, so it runs on the session configured here
+            transactionTemplate.executeWithoutResult(status -> {
+                withBatchSize(batchSize);
+                bankingService.transferMoney(from.getAccountNumber(), to.getAccountNumber(), 1.0);
+            });
+            long elapsed = System.nanoTime() - start;
+            if (round >= 0) {
+                nanos[round] = elapsed;
+            }
+        }
+        return nanos;
+    }
+
+    private void withBatchSize(int batchSize) {
+        if (batchSize > 0) {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.bank.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.bankingsystem.BankingSystemApplication;
+import com.bank.model.AmortizationPlan;
+import com.bank.model.Customer;
+import com.bank.model.EmiSchedule;
+import com.bank.model.Loan;
+import com.bank.model.LoanRestructure;
+import com.bank.model.RestructureReason;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.AmortizationPlanRepository;
+import com.bank.repository.CustomerRepository;
+import com.bank.repository.EmiScheduleRepository;
+import com.bank.repository.LoanRepository;
+import com.bank.repository.LoanRestructureRepository;
+import com.bank.service.AmortizationEngine;
+import com.bank.service.LoanManagementService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Restructure and close latency on a 30-year loan five years in, before and after plan segments. The
+ * "before" side reproduces the per-row work on a fully written 360-row schedule. It loads the unpaid
+ * rows, deletes them one by one and inserts a whole new tail for a restructure. For a close it dirties
+ * every unpaid row. The "after" side calls {@link LoanManagementService#implementRestructure} and
+ * {@code closeSchedule} on a loan whose rows stop at what was paid or fell due. Runs against the
+ * configured datasource: {@code mvn test -Pbenchmark -Dtest=ScheduleRecomputeBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = BankingSystemApplication.class)
+class ScheduleRecomputeBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleRecomputeBenchmark.class);
+
+    private static final int TENURE_MONTHS = 360;
+    private static final int PAID = 60;
+    // Installments that fell due unpaid, so both sides have unpaid rows to settle
+    private static final int OVERDUE = 2;
+    private static final int NEW_TENURE_MONTHS = 300;
+    private static final double NEW_RATE = 8.0;
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private EmiScheduleRepository emiScheduleRepository;
+
+    @Autowired
+    private AmortizationPlanRepository amortizationPlanRepository;
+
+    @Autowired
+    private LoanRestructureRepository loanRestructureRepository;
+
+    @Autowired
+    private LoanManagementService loanManagementService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BenchmarkData data;
+    private TransactionTemplate transactionTemplate;
+    private Customer customer;
+    private Loan legacyLoan;
+    private Loan loan;
+
+    @BeforeEach
+    void setUp() {
+        data = new BenchmarkData(customerRepository, accountRepository, loanRepository, jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        customer = data.customer();
+        LocalDate disbursed = LocalDate.now().minusMonths(PAID + OVERDUE);
+        legacyLoan = data.activeLoan(customer, 5_000_000.0, 8.5, TENURE_MONTHS, disbursed);
+        loan = data.activeLoan(customer, 5_000_000.0, 8.5, TENURE_MONTHS, disbursed);
+    }
+
+    @AfterEach
+    void tearDown() {
+        data.cleanUp();
+    }
+
+    @Test
+    void segmentsVersusRowByRow() {
+        long[] restructureRowByRow = new long[ROUNDS];
+        long[] restructureSegment = new long[ROUNDS];
+        long[] closeRowByRow = new long[ROUNDS];
+        long[] closeSegment = new long[ROUNDS];
+        LoanManagementService target = AopTestUtils.getTargetObject(loanManagementService);
+
+        for (int round = -WARMUP; round < ROUNDS; round++) {
+            LoanRestructure legacyRestructure = legacySchedule();
+            long start = System.nanoTime();
+            legacyImplement(legacyRestructure);
+            record(restructureRowByRow, round, start);
+
+            legacySchedule();
+            start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> legacyClose());
+            record(closeRowByRow, round, start);
+
+            LoanRestructure restructure = planSchedule();
+            start = System.nanoTime();
+            loanManagementService.implementRestructure(restructure.getId());
+            record(restructureSegment, round, start);
+
+            planSchedule();
+            start = System.nanoTime();
+            // closeSchedule is private: call it on the bean behind the proxy, in the transaction the
+            // foreclosure would have opened
+            transactionTemplate.executeWithoutResult(status -> ReflectionTestUtils.invokeMethod(target, "closeSchedule",
+                amortizationPlanRepository.findByLoanId(loan.getId()).orElseThrow()));
+            record(closeSegment, round, start);
+        }
+
+        logger.info("30-year restructure  row-by-row {}  segment {}", BenchmarkData.summary(restructureRowByRow),
+            BenchmarkData.summary(restructureSegment));
+        logger.info("30-year close        row-by-row {}  segment {}", BenchmarkData.summary(closeRowByRow),
+            BenchmarkData.summary(closeSegment));
+        // Once closed, only the rows that were paid or fell due exist, all settled
+        assertThat(emiScheduleRepository.findByLoanId(loan.getId())).hasSize(PAID + OVERDUE);
+        assertThat(emiScheduleRepository.findByLoanIdAndIsPaidFalse(loan.getId())).isEmpty();
+    }
+
+    // The schedule as written at disbursement before plans: every installment has a row
+    private LoanRestructure legacySchedule() {
+        reset(legacyLoan);
+        AmortizationPlan terms = terms(legacyLoan);
+        List<EmiSchedule> rows = new ArrayList<>(TENURE_MONTHS);
+        for (int n = 1; n <= TENURE_MONTHS; n++) {
+            rows.add(row(terms, n));
+        }
+        emiScheduleRepository.saveAll(rows);
+        return approvedRestructure(legacyLoan, terms);
+    }
+
+    // The same loan on an amortization plan: rows only for what was paid or fell due
+    private LoanRestructure planSchedule() {
+        reset(loan);
+        AmortizationPlan plan = loanManagementService.openPlan(loan, loan.getDisbursementDate());
+        List<EmiSchedule> rows = new ArrayList<>(PAID + OVERDUE);
+        for (int n = 1; n <= PAID + OVERDUE; n++) {
+            rows.add(row(plan, n));
+        }
+        emiScheduleRepository.saveAll(rows);
+        plan.materializedUpTo(PAID + OVERDUE);
+        amortizationPlanRepository.save(plan);
+        return approvedRestructure(loan, plan);
+    }
+
+    // Baseline implementRestructure, numbering the new tail after the last paid row as uk_emi_loan_number requires
+    private void legacyImplement(LoanRestructure restructure) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<EmiSchedule> unpaid = emiScheduleRepository.findByLoanIdAndIsPaidFalse(legacyLoan.getId());
+            emiScheduleRepository.deleteAll(unpaid);
+            // Hibernate flushes inserts before deletes; the new tail reuses the deleted numbers
+            emiScheduleRepository.flush();
+
+            AmortizationPlan terms = new AmortizationPlan();
+            terms.setLoan(legacyLoan);
+            terms.startSegment(PAID + 1, restructure.getOriginalOutstanding(), restructure.getNewInterestRate(),
+                restructure.getNewEmiAmount(), restructure.getNewTenureMonths(), LocalDate.now().plusMonths(1));
+            List<EmiSchedule> tail = new ArrayList<>(restructure.getNewTenureMonths());
+            for (int n = PAID + 1; n <= terms.lastEmiNumber(); n++) {
+                tail.add(AmortizationEngine.toRow(terms, n));
+            }
+            emiScheduleRepository.saveAll(tail);
+
+            restructure.setIsImplemented(true);
+            restructure.setEffectiveDate(LocalDate.now());
+            loanRestructureRepository.save(restructure);
+        });
+    }
+
+    // Baseline closeSchedule: every unpaid row loaded and updated
+    private void legacyClose() {
+        List<EmiSchedule> unpaid = emiScheduleRepository.findByLoanIdAndIsPaidFalse(legacyLoan.getId());
+        for (EmiSchedule emi : unpaid) {
+            emi.setIsPaid(true);
+            emi.setPaidDate(LocalDate.now());
+            emi.setPaidAmount(0.0);
+        }
+        emiScheduleRepository.saveAll(unpaid);
+    }
+
+    private LoanRestructure approvedRestructure(Loan target, AmortizationPlan terms) {
+        double outstanding = AmortizationEngine.balanceAfter(terms, PAID);
+        LoanRestructure restructure = new LoanRestructure();
+        restructure.setLoan(target);
+        restructure.setCustomer(customer);
+        restructure.setReason(RestructureReason.REDUCE_EMI);
+        restructure.setRequestDate(LocalDate.now());
+        restructure.setOriginalEmiAmount(terms.getEmiAmount());
+        restructure.setOriginalTenureMonths(TENURE_MONTHS - PAID);
+        restructure.setOriginalInterestRate(terms.getAnnualRate());
+        restructure.setOriginalOutstanding(outstanding);
+        restructure.setNewEmiAmount(AmortizationEngine.emi(outstanding, NEW_RATE, NEW_TENURE_MONTHS));
+        restructure.setNewTenureMonths(NEW_TENURE_MONTHS);
+        restructure.setNewInterestRate(NEW_RATE);
+        restructure.setIsApproved(true);
+        restructure.setApprovalDate(LocalDate.now());
+        return loanRestructureRepository.save(restructure);
+    }
+
+    private static AmortizationPlan terms(Loan loan) {
+        AmortizationPlan terms = new AmortizationPlan();
+        terms.setLoan(loan);
+        terms.startSegment(1, loan.getPrincipalAmount(), loan.getInterestRate(), loan.getEmiAmount(),
+            TENURE_MONTHS, loan.getDisbursementDate().plusMonths(1));
+        return terms;
+    }
+
+    private static EmiSchedule row(AmortizationPlan terms, int emiNumber) {
+        EmiSchedule row = AmortizationEngine.toRow(terms, emiNumber);
+        if (emiNumber <= PAID) {
+            row.setIsPaid(true);
+            row.setPaidDate(row.getDueDate());
+            row.setPaidAmount(row.getEmiAmount());
+        }
+        return row;
+    }
+
+    private void reset(Loan target) {
+        jdbcTemplate.update("DELETE FROM loan_restructures WHERE loan_id = ?", target.getId());
+        jdbcTemplate.update("DELETE FROM amortization_plans WHERE loan_id = ?", target.getId());
+        jdbcTemplate.update("DELETE FROM emi_schedules WHERE loan_id = ?", target.getId());
+    }
+
+    private static void record(long[] nanos, int round, long start) {
+        long elapsed = System.nanoTime() - start;
+        if (round >= 0) {
+            nanos[round] = elapsed;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.bank.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.bankingsystem.BankingSystemApplication;
+import com.bank.config.TransferProperties;
+import com.bank.config.TransferProperties.LockingMode;
+import com.bank.model.Account;
+import com.bank.repository.AccountRepository;
+import com.bank.service.BankingService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Transfers/sec and abort rate of {@link BankingService#transferMoney} under OPTIMISTIC and PESSIMISTIC
+ * locking. Worker threads move money at random between a small set of hot accounts for a fixed time.
+ * Runs against the configured datasource (MySQL), so it is excluded from the default build:
+ * {@code mvn test -Pbenchmark -Dtest=TransferConcurrencyBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = BankingSystemApplication.class)
+class TransferConcurrencyBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(TransferConcurrencyBenchmark.class);
+
+    private static final int HOT_ACCOUNTS = 8;
+    private static final int THREADS = 16;
+    private static final long WARMUP_SECONDS = 5;
+    private static final long RUN_SECONDS = 20;
+    private static final double OPENING_BALANCE = 1_000_000_000.0;
+
+    @Autowired
+    private BankingService bankingService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransferProperties transferProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Account> accounts = new ArrayList<>();
+    private LockingMode configuredMode;
+
+    @BeforeEach
+    void openAccounts() {
+        configuredMode = transferProperties.getLockingMode();
+        for (int i = 0; i < HOT_ACCOUNTS; i++) {
+            Account account = new Account();
+            account.setAccountNumber("BENCH" + UUID.randomUUID().toString().substring(0, 12));
+            account.setAccountType("SAVINGS");
+            account.setStatus("ACTIVE");
+            account.setBalance(OPENING_BALANCE);
+            account.setCreatedAt(LocalDateTime.now());
+            accounts.add(accountRepository.save(account));
+        }
+    }
+
+    @AfterEach
+    void closeAccounts() {
+        transferProperties.setLockingMode(configuredMode);
+        for (Account account : accounts) {
+            jdbcTemplate.update("DELETE FROM transaction WHERE account_id = ?", account.getId());
+            jdbcTemplate.update("DELETE FROM account WHERE id = ?", account.getId());
+        }
+    }
+
+    @Test
+    void optimisticVersusPessimistic() throws InterruptedException {
+        Result optimistic = run(LockingMode.OPTIMISTIC);
+        Result pessimistic = run(LockingMode.PESSIMISTIC);
+
+        logger.info("{} threads over {} hot accounts, {} s per mode", THREADS, HOT_ACCOUNTS, RUN_SECONDS);
+        logger.info(optimistic.toString());
+        logger.info(pessimistic.toString());
+
+        // Money is conserved whatever the mode and however many transfers aborted
+        double total = accounts.stream()
+            .mapToDouble(a -> accountRepository.findById(a.getId()).orElseThrow().getBalance())
+            .sum();
+        assertThat(total).isEqualTo(OPENING_BALANCE * HOT_ACCOUNTS);
+        assertThat(pessimistic.completed).isPositive();
+    }
+
+    private Result run(LockingMode mode) throws InterruptedException {
+        transferProperties.setLockingMode(mode);
+        drive(WARMUP_SECONDS, new LongAdder(), new LongAdder(), new LongAdder());
+
+        LongAdder completed = new LongAdder();
+        LongAdder aborted = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long start = System.nanoTime();
+        drive(RUN_SECONDS, completed, aborted, failed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(mode, completed.sum(), aborted.sum(), failed.sum(), seconds);
+    }
+
+    private void drive(long seconds, LongAdder completed, LongAdder aborted, LongAdder failed) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    int from = random.nextInt(HOT_ACCOUNTS);
+                    int to = (from + 1 + random.nextInt(HOT_ACCOUNTS - 1)) % HOT_ACCOUNTS;
+                    try {
+                        bankingService.transferMoney(accounts.get(from).getAccountNumber(),
+                            accounts.get(to).getAccountNumber(), 1.0);
+                        completed.increment();
+                    } catch (ConcurrencyFailureException e) {
+                        aborted.increment();
+                    } catch (RuntimeException e) {
+                        failed.increment();
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + 60, TimeUnit.SECONDS);
+    }
+
+    private record Result(LockingMode mode, long completed, long aborted, long failed, double seconds) {
+        @Override
+        public String toString() {
+            long attempted = completed + aborted + failed;
+            return String.format("%-11s %8.1f transfers/s  abort rate %5.2f%%  (%d ok, %d aborted, %d failed)",
+                mode, completed / seconds, attempted == 0 ? 0.0 : 100.0 * aborted / attempted, completed, aborted, failed);
+        }
+    }
+}
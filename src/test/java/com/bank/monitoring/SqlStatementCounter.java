@@ -0,0 +1,26 @@
+package com.bank.monitoring;
+
+import java.util.function.Supplier;
+
+/**
+ * Counts the statements Hibernate prepares on the calling thread while {@code work} runs, through the same
+ * {@link RequestSqlStats} hook the request filter uses.
+ */
+public final class SqlStatementCounter {
+
+    private SqlStatementCounter() {
+    }
+
+    public static <T> Counted<T> count(Supplier<T> work) {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        try {
+            T result = work.get();
+            return new Counted<>(result, stats.getStatements());
+        } finally {
+            RequestSqlStats.end();
+        }
+    }
+
+    public record Counted<T>(T result, int statements) {
+    }
+}
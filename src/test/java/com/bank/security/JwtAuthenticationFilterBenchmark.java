@@ -0,0 +1,119 @@
+package com.bank.security;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.bank.config.JwtProperties;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * JMH throughput of {@link JwtAuthenticationFilter} per request. {@code repeatedToken} sends one bearer
+ * token, so verification comes from the digest cache. {@code rotatingTokens} cycles through more distinct
+ * tokens than the cache holds, so most requests pay for the HMAC. Both run in CLAIMS and DATABASE
+ * auth modes, with the user lookup stubbed. Run with {@code mvn test -Pbenchmark -Dtest=JwtAuthenticationFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final int ROTATING_TOKENS = 20_000;
+
+    @Param({"CLAIMS", "DATABASE"})
+    public String authMode;
+
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setAuthMode(JwtProperties.AuthMode.valueOf(authMode));
+
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtProperties", properties);
+        jwtUtil.init();
+
+        UserAuthCache userAuthCache = new UserAuthCache();
+        ReflectionTestUtils.setField(userAuthCache, "jwtProperties", properties);
+        userAuthCache.init();
+
+        AppUserDetailsService userDetailsService = mock(AppUserDetailsService.class);
+        when(userDetailsService.loadUserByUsername(anyString())).thenAnswer(call ->
+            User.withUsername(call.getArgument(0)).password("").authorities("ROLE_CUSTOMER").build());
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(filter, "userAuthCache", userAuthCache);
+        ReflectionTestUtils.setField(filter, "jwtProperties", properties);
+
+        token = jwtUtil.generateToken("bench-user", "ROLE_CUSTOMER");
+        tokens = new String[ROTATING_TOKENS];
+        for (int i = 0; i < ROTATING_TOKENS; i++) {
+            tokens[i] = jwtUtil.generateToken("bench-user-" + i, "ROLE_CUSTOMER");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public void repeatedToken(Blackhole blackhole) throws Exception {
+        blackhole.consume(authenticate(token));
+    }
+
+    @Benchmark
+    public void rotatingTokens(Cursor cursor, Blackhole blackhole) throws Exception {
+        cursor.next = (cursor.next + 1) % ROTATING_TOKENS;
+        blackhole.consume(authenticate(tokens[cursor.next]));
+    }
+
+    private Object authenticate(String bearer) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts");
+        request.addHeader("Authorization", "Bearer " + bearer);
+        filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtAuthenticationFilterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
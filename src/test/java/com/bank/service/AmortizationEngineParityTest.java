@@ -0,0 +1,212 @@
+package com.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.bank.dto.EmiScheduleDto;
+import com.bank.model.AmortizationPlan;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * {@link AmortizationEngine} against the month-by-month loop LoanManagementService ran before plans
+ * (generateEmiSchedule and implementRestructure). The loop is reproduced below, and both sides cover fresh
+ * loans, a segment after a partial prepayment, and a segment after a restructure. The closed form and the
+ * loop round differently, so amounts are compared to a tenth of a paisa.
+ */
+class AmortizationEngineParityTest {
+
+    private static final double TOLERANCE = 0.001;
+    private static final LocalDate FIRST_DUE = LocalDate.of(2026, 2, 10);
+
+    private static final Comparator<Double> CLOSE_TO =
+        (a, b) -> Math.abs(a - b) <= TOLERANCE ? 0 : Double.compare(a, b);
+
+    record Terms(String name, double principal, double annualRate, int tenureMonths) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /** {@code paid} installments on the original terms, then {@code prepayment} paid off the principal. */
+    record Prepayment(String name, Terms terms, int paid, double prepayment) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /** {@code paid} installments on the original terms, then the outstanding re-amortized on new terms. */
+    record Restructure(String name, Terms terms, int paid, double newRate, int newTenureMonths) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /** The amounts of one installment, as either side computes them. */
+    record Row(double emi, double interest, double principal, double outstanding) {
+    }
+
+    static Stream<Terms> terms() {
+        return Stream.of(
+            new Terms("0%, 12 months", 120_000.0, 0.0, 12),
+            new Terms("0%, 7 months", 100_000.0, 0.0, 7),
+            new Terms("0.5%, 20 years", 1_000_000.0, 0.5, 240),
+            new Terms("7.5%, 30 years", 5_000_000.0, 7.5, 360),
+            new Terms("10.5%, 5 years", 250_000.0, 10.5, 60),
+            new Terms("18%, 40 years", 20_000_000.0, 18.0, 480),
+            new Terms("24%, 1 month", 1_000.0, 24.0, 1)
+        );
+    }
+
+    static Stream<Prepayment> prepayments() {
+        return Stream.of(
+            new Prepayment("0%, 12 of 60 paid", new Terms("", 600_000.0, 0.0, 60), 12, 95_000.0),
+            new Prepayment("10.5%, 36 of 240 paid", new Terms("", 2_500_000.0, 10.5, 240), 36, 300_000.0),
+            new Prepayment("7.5%, 60 of 360 paid", new Terms("", 5_000_000.0, 7.5, 360), 60, 1_000_000.0)
+        );
+    }
+
+    static Stream<Restructure> restructures() {
+        return Stream.of(
+            new Restructure("8.5% to 8%, 60 of 360 paid", new Terms("", 5_000_000.0, 8.5, 360), 60, 8.0, 300),
+            new Restructure("12% to 0%, 24 of 120 paid", new Terms("", 800_000.0, 12.0, 120), 24, 0.0, 36),
+            new Restructure("0% to 9%, 6 of 60 paid", new Terms("", 300_000.0, 0.0, 60), 6, 9.0, 120)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("terms")
+    void freshPlanMatchesLoop(Terms terms) {
+        double emi = LegacyLoop.calculateEMI(terms.principal(), terms.annualRate() / 12 / 100, terms.tenureMonths());
+        assertThat(AmortizationEngine.emi(terms.principal(), terms.annualRate(), terms.tenureMonths())).isEqualTo(emi);
+
+        AmortizationPlan plan = plan(1, terms.principal(), terms.annualRate(), emi, terms.tenureMonths());
+        assertSegmentMatches(plan, LegacyLoop.schedule(terms.principal(), terms.annualRate(), emi, terms.tenureMonths()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("prepayments")
+    void segmentAfterPartialPrepaymentMatchesLoop(Prepayment prepayment) {
+        Terms terms = prepayment.terms();
+        double emi = LegacyLoop.calculateEMI(terms.principal(), terms.annualRate() / 12 / 100, terms.tenureMonths());
+        Row[] original = LegacyLoop.schedule(terms.principal(), terms.annualRate(), emi, terms.tenureMonths());
+        AmortizationPlan plan = plan(1, terms.principal(), terms.annualRate(), emi, terms.tenureMonths());
+
+        // As LoanManagementService.processPrepayment shortens the tenure, with every due installment paid
+        int next = prepayment.paid() + 1;
+        assertThat(AmortizationEngine.principalFrom(plan, next)).isCloseTo(original[prepayment.paid()].outstanding(), within(TOLERANCE));
+        double remainingPrincipal = AmortizationEngine.principalFrom(plan, next) - prepayment.prepayment();
+        int newTenure = LegacyLoop.calculateTenure(remainingPrincipal, terms.annualRate() / 12 / 100, emi);
+        plan.startSegment(next, remainingPrincipal, terms.annualRate(), emi, newTenure);
+
+        Row[] loop = LegacyLoop.schedule(original[prepayment.paid()].outstanding() - prepayment.prepayment(),
+            terms.annualRate(), emi, newTenure);
+        assertSegmentMatches(plan, loop);
+        assertThat(AmortizationEngine.installment(plan, plan.lastEmiNumber()).getOutstandingPrincipal()).isZero();
+    }
+
+    @ParameterizedTest
+    @MethodSource("restructures")
+    void segmentAfterRestructureMatchesLoop(Restructure restructure) {
+        Terms terms = restructure.terms();
+        double emi = LegacyLoop.calculateEMI(terms.principal(), terms.annualRate() / 12 / 100, terms.tenureMonths());
+        Row[] original = LegacyLoop.schedule(terms.principal(), terms.annualRate(), emi, terms.tenureMonths());
+        AmortizationPlan plan = plan(1, terms.principal(), terms.annualRate(), emi, terms.tenureMonths());
+
+        double outstanding = AmortizationEngine.balanceAfter(plan, restructure.paid());
+        assertThat(outstanding).isCloseTo(original[restructure.paid()].outstanding(), within(TOLERANCE));
+        double newEmi = AmortizationEngine.emi(outstanding, restructure.newRate(), restructure.newTenureMonths());
+        plan.startSegment(restructure.paid() + 1, outstanding, restructure.newRate(), newEmi,
+            restructure.newTenureMonths(), FIRST_DUE.plusMonths(restructure.paid()));
+
+        double legacyOutstanding = original[restructure.paid()].outstanding();
+        double legacyEmi = LegacyLoop.calculateEMI(legacyOutstanding, restructure.newRate() / 12 / 100,
+            restructure.newTenureMonths());
+        assertThat(newEmi).isCloseTo(legacyEmi, within(TOLERANCE));
+        assertSegmentMatches(plan, LegacyLoop.schedule(legacyOutstanding, restructure.newRate(), legacyEmi,
+            restructure.newTenureMonths()));
+    }
+
+    /** Every installment of the plan's segment, and the remaining sums from each, against loop rows 1..n. */
+    private static void assertSegmentMatches(AmortizationPlan plan, Row[] loop) {
+        int first = plan.getFirstEmiNumber();
+        int months = loop.length - 1;
+        assertThat(plan.lastEmiNumber()).isEqualTo(first + months - 1);
+
+        double principalLeft = 0;
+        double interestLeft = 0;
+        for (int k = months; k >= 1; k--) {
+            int emiNumber = first + k - 1;
+            principalLeft += loop[k].principal();
+            interestLeft += loop[k].interest();
+
+            EmiScheduleDto installment = AmortizationEngine.installment(plan, emiNumber);
+            Row actual = new Row(installment.getEmiAmount(), installment.getInterestComponent(),
+                installment.getPrincipalComponent(), installment.getOutstandingPrincipal());
+            assertThat(actual).as("installment %d", emiNumber)
+                .usingRecursiveComparison().withComparatorForType(CLOSE_TO, Double.class).isEqualTo(loop[k]);
+
+            assertThat(AmortizationEngine.remainingFrom(plan, emiNumber)).isEqualTo(months - k + 1);
+            assertThat(AmortizationEngine.principalFrom(plan, emiNumber)).as("principal from %d", emiNumber)
+                .isCloseTo(principalLeft, within(TOLERANCE));
+            assertThat(AmortizationEngine.interestFrom(plan, emiNumber)).as("interest from %d", emiNumber)
+                .isCloseTo(interestLeft, within(TOLERANCE));
+        }
+        assertThat(AmortizationEngine.remainingFrom(plan, plan.lastEmiNumber() + 1)).isZero();
+    }
+
+    private static AmortizationPlan plan(int firstEmiNumber, double principal, double annualRate, double emi, int months) {
+        AmortizationPlan plan = new AmortizationPlan();
+        plan.startSegment(firstEmiNumber, principal, annualRate, emi, months, FIRST_DUE);
+        return plan;
+    }
+
+    /**
+     * The schedule loop and helpers of LoanManagementService before plans (baseline), with the rows kept
+     * in memory instead of saved. Index 0 holds only the opening principal.
+     */
+    private static final class LegacyLoop {
+
+        static Row[] schedule(double loanAmount, double annualRate, double emi, int tenureMonths) {
+            Double monthlyRate = annualRate / 12 / 100;
+            Double outstandingPrincipal = loanAmount;
+            Row[] rows = new Row[tenureMonths + 1];
+            rows[0] = new Row(0, 0, 0, loanAmount);
+            for (int i = 1; i <= tenureMonths; i++) {
+                Double interestComponent = outstandingPrincipal * monthlyRate;
+                Double principalComponent = emi - interestComponent;
+                outstandingPrincipal -= principalComponent;
+                rows[i] = new Row(emi, interestComponent, principalComponent, Math.max(0, outstandingPrincipal));
+            }
+            return rows;
+        }
+
+        static Double calculateEMI(Double principal, Double monthlyRate, Integer months) {
+            if (monthlyRate == 0) {
+                return principal / months;
+            }
+
+            Double numerator = principal * monthlyRate * Math.pow(1 + monthlyRate, months);
+            Double denominator = Math.pow(1 + monthlyRate, months) - 1;
+
+            return numerator / denominator;
+        }
+
+        static Integer calculateTenure(Double principal, Double monthlyRate, Double emi) {
+            if (monthlyRate == 0) {
+                return (int) Math.ceil(principal / emi);
+            }
+
+            Double numerator = Math.log(emi / (emi - principal * monthlyRate));
+            Double denominator = Math.log(1 + monthlyRate);
+
+            return (int) Math.ceil(numerator / denominator);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.bankingsystem.BankingSystemApplication;
+import com.bank.model.Account;
+import com.bank.model.Customer;
+import com.bank.model.DailySpendingRollup;
+import com.bank.model.Transaction;
+import com.bank.model.TransactionType;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.CustomerRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * A posting through {@link BankingService#createTransaction}, with the id-only account that
+ * {@code POST /api/transactions} builds, lands in the customer's spending rollups. Runs against the
+ * configured datasource: {@code mvn test -Pintegration -Dtest=CreateTransactionRollupTest}.
+ */
+@Tag("integration")
+@SpringBootTest(classes = BankingSystemApplication.class)
+class CreateTransactionRollupTest {
+
+    @Autowired
+    private BankingService bankingService;
+
+    @Autowired
+    private SpendingRollupService spendingRollupService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Customer customer;
+    private Account account;
+
+    @AfterEach
+    void cleanUp() {
+        if (account != null) {
+            jdbcTemplate.update("DELETE FROM transaction WHERE account_id = ?", account.getId());
+            jdbcTemplate.update("DELETE FROM account WHERE id = ?", account.getId());
+        }
+        if (customer != null) {
+            jdbcTemplate.update("DELETE FROM daily_spending_rollups WHERE customer_id = ?", customer.getId());
+            jdbcTemplate.update("DELETE FROM customer WHERE id = ?", customer.getId());
+        }
+    }
+
+    @Test
+    void postingWithAnIdOnlyAccountIsRolledUp() {
+        customer = new Customer();
+        customer.setName("Rollup " + token());
+        customer.setEmail(token() + "@test.invalid");
+        customer = customerRepository.save(customer);
+
+        account = new Account();
+        account.setAccountNumber("RU" + token());
+        account.setAccountType("SAVINGS");
+        account.setStatus("ACTIVE");
+        account.setBalance(1_000.0);
+        account.setCreatedAt(LocalDateTime.now());
+        account.setCustomer(customer);
+        account = accountRepository.save(account);
+
+        // As BankingController.createTransaction builds it
+        Account stub = new Account();
+        stub.setId(account.getId());
+        Transaction t = new Transaction();
+        t.setType(TransactionType.DEPOSIT);
+        t.setAmount(250.0);
+        t.setAccount(stub);
+        bankingService.createTransaction(t);
+
+        LocalDate today = LocalDate.now();
+        List<DailySpendingRollup> rollups = spendingRollupService.findRange(customer.getId(), today, today);
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getType()).isEqualTo(TransactionType.DEPOSIT.name());
+        assertThat(rollups.get(0).getTotalPaise()).isEqualTo(25_000L);
+        assertThat(rollups.get(0).getTxnCount()).isEqualTo(1L);
+    }
+
+    private static String token() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+}
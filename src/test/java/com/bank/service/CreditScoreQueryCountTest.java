@@ -0,0 +1,152 @@
+package com.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.bankingsystem.BankingSystemApplication;
+import com.bank.dto.CreditScoreResponse;
+import com.bank.model.Account;
+import com.bank.model.CreditInquiry;
+import com.bank.model.Customer;
+import com.bank.model.InquiryType;
+import com.bank.model.Loan;
+import com.bank.model.LoanStatus;
+import com.bank.model.LoanType;
+import com.bank.model.PaymentHistory;
+import com.bank.model.RepaymentFrequency;
+import com.bank.monitoring.SqlStatementCounter;
+import com.bank.monitoring.SqlStatementCounter.Counted;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.CreditInquiryRepository;
+import com.bank.repository.CustomerRepository;
+import com.bank.repository.LoanRepository;
+import com.bank.repository.PaymentHistoryRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Statements issued by one {@link CreditScoreService#calculateCreditScore}: the customer, the five
+ * snapshot queries and the score insert, however many accounts, loans and payments the customer has.
+ * Runs against the configured datasource: {@code mvn test -Pintegration -Dtest=CreditScoreQueryCountTest}.
+ */
+@Tag("integration")
+@SpringBootTest(classes = BankingSystemApplication.class)
+class CreditScoreQueryCountTest {
+
+    private static final int EXPECTED_STATEMENTS = 7;
+
+    @Autowired
+    private CreditScoreService creditScoreService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private PaymentHistoryRepository paymentHistoryRepository;
+
+    @Autowired
+    private CreditInquiryRepository creditInquiryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> customerIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        for (Long customerId : customerIds) {
+            jdbcTemplate.update("DELETE FROM credit_scores WHERE customer_id = ?", customerId);
+            jdbcTemplate.update("DELETE FROM credit_inquiries WHERE customer_id = ?", customerId);
+            jdbcTemplate.update("DELETE FROM payment_histories WHERE customer_id = ?", customerId);
+            jdbcTemplate.update("DELETE FROM loans WHERE customer_id = ?", customerId);
+            jdbcTemplate.update("DELETE FROM account WHERE customer_id = ?", customerId);
+            jdbcTemplate.update("DELETE FROM customer WHERE id = ?", customerId);
+        }
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithTheProfile() {
+        Customer thin = customer(1, 1, 2, 0);
+        Customer thick = customer(6, 8, 48, 4);
+        // A previous score for the second run to pick up
+        creditScoreService.calculateCreditScore(thick.getId());
+
+        Counted<CreditScoreResponse> thinRun =
+            SqlStatementCounter.count(() -> creditScoreService.calculateCreditScore(thin.getId()));
+        Counted<CreditScoreResponse> thickRun =
+            SqlStatementCounter.count(() -> creditScoreService.calculateCreditScore(thick.getId()));
+
+        assertThat(thinRun.statements()).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(thickRun.statements()).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(thickRun.result().getPreviousScore()).isNotNull();
+    }
+
+    private Customer customer(int accounts, int loans, int payments, int hardInquiries) {
+        Customer customer = new Customer();
+        customer.setName("Query count " + token());
+        customer.setEmail(token() + "@test.invalid");
+        customer = customerRepository.save(customer);
+        customerIds.add(customer.getId());
+
+        for (int i = 0; i < accounts; i++) {
+            Account account = new Account();
+            account.setAccountNumber("QC" + token());
+            account.setAccountType("SAVINGS");
+            account.setStatus("ACTIVE");
+            account.setBalance(1_000.0);
+            account.setCreatedAt(LocalDateTime.now());
+            account.setCustomer(customer);
+            accountRepository.save(account);
+        }
+        for (int i = 0; i < loans; i++) {
+            Loan loan = new Loan();
+            loan.setCustomer(customer);
+            loan.setLoanNumber("QC" + token());
+            loan.setLoanType(LoanType.PERSONAL);
+            loan.setStatus(LoanStatus.ACTIVE);
+            loan.setPrincipalAmount(100_000.0);
+            loan.setInterestRate(11.0);
+            loan.setTenureMonths(36);
+            loan.setRepaymentFrequency(RepaymentFrequency.MONTHLY);
+            loan.setEmiAmount(AmortizationEngine.emi(100_000.0, 11.0, 36));
+            loan.setOutstandingAmount(60_000.0);
+            loan.setTotalAmountPaid(40_000.0);
+            loanRepository.save(loan);
+        }
+        for (int i = 0; i < payments; i++) {
+            PaymentHistory payment = new PaymentHistory();
+            payment.setCustomer(customer);
+            payment.setAccountType("LOAN");
+            payment.setPaymentDate(LocalDate.now().minusMonths(i % 24));
+            payment.setAmount(3_000.0);
+            payment.setStatus(i % 6 == 0 ? "LATE" : "ON_TIME");
+            payment.setDaysLate(i % 6 == 0 ? 5 : null);
+            paymentHistoryRepository.save(payment);
+        }
+        for (int i = 0; i < hardInquiries; i++) {
+            CreditInquiry inquiry = new CreditInquiry();
+            inquiry.setCustomer(customer);
+            inquiry.setInquiryType(InquiryType.HARD);
+            creditInquiryRepository.save(inquiry);
+        }
+        return customer;
+    }
+
+    private static String token() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+}
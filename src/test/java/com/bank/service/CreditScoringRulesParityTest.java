@@ -0,0 +1,310 @@
+package com.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.model.CreditScore;
+import com.bank.model.CreditScoreCategory;
+import com.bank.model.Loan;
+import com.bank.model.PaymentHistory;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * {@link CreditScoringRules#score} against the per-factor method chain CreditScoreService used before the
+ * snapshot loader. The old chain is reproduced below over in-memory rows in place of its repository calls,
+ * and both sides score the same fixed profiles.
+ */
+class CreditScoringRulesParityTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 3, 15);
+
+    /** The rows the old chain read through its repositories, all inside the 24- and 6-month windows. */
+    record Profile(String name, List<PaymentHistory> payments, List<Loan> loans, int accounts, boolean fixedDeposits,
+                   boolean recurringDeposits, boolean cards, boolean insurance, long hardInquiries, Integer previousScore) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    static Stream<Profile> profiles() {
+        return Stream.of(
+            new Profile("no history", List.of(), List.of(), 0, false, false, false, false, 0, null),
+            new Profile("accounts only", List.of(), List.of(), 2, false, false, true, false, 0, null),
+            new Profile("clean payer", payments("ON_TIME", 24), List.of(loan(500_000.0, 100_000.0, AS_OF.minusYears(12))),
+                1, true, true, true, true, 0, 812),
+            new Profile("mixed payments, mid utilization", concat(payments("ON_TIME", 18), late(3, 12), late(2, null),
+                payments("MISSED", 1), payments("PARTIAL", 2)),
+                List.of(loan(300_000.0, 120_000.0, AS_OF.minusMonths(40)), loan(200_000.0, 95_000.0, AS_OF.minusMonths(7)),
+                    loan(null, 10_000.0, null)),
+                3, false, true, false, false, 3, 700),
+            new Profile("upper band utilization", concat(payments("ON_TIME", 10), late(1, 40)),
+                List.of(loan(100_000.0, 62_000.0, AS_OF.minusMonths(30))), 1, false, false, true, false, 1, 640),
+            new Profile("overdrawn, many inquiries", concat(payments("MISSED", 6), late(4, 90), payments("ON_TIME", 2)),
+                List.of(loan(50_000.0, 58_000.0, AS_OF.minusMonths(3)), loan(20_000.0, null, AS_OF.minusMonths(2))),
+                1, false, false, false, false, 7, 590)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("profiles")
+    void snapshotScoringMatchesLegacyChain(Profile profile) {
+        CreditScore expected = LegacyChain.score(profile, AS_OF);
+        CreditScore actual = CreditScoringRules.score(snapshotOf(profile), new CreditScore());
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    /** What CreditProfileLoader derives from the same rows. */
+    private static CreditProfileSnapshot snapshotOf(Profile profile) {
+        CreditProfileSnapshot s = new CreditProfileSnapshot(1L, AS_OF);
+        for (PaymentHistory p : profile.payments()) {
+            s.totalPayments++;
+            if ("ON_TIME".equals(p.getStatus())) {
+                s.onTimePayments++;
+            } else if ("LATE".equals(p.getStatus()) && p.getDaysLate() != null) {
+                s.latePaymentsWithDaysLate++;
+            } else if ("MISSED".equals(p.getStatus())) {
+                s.missedPayments++;
+            }
+        }
+        for (Loan loan : profile.loans()) {
+            s.loans.add(new CreditProfileSnapshot.CreditLine(loan.getOutstandingAmount(), loan.getPrincipalAmount(),
+                loan.getApplicationDate()));
+        }
+        s.hasAccounts = profile.accounts() > 0;
+        s.hasFixedDeposits = profile.fixedDeposits();
+        s.hasRecurringDeposits = profile.recurringDeposits();
+        s.hasCards = profile.cards();
+        s.hasInsurance = profile.insurance();
+        s.hardInquiriesLast6Months = profile.hardInquiries();
+        s.previousScore = profile.previousScore();
+        return s;
+    }
+
+    /**
+     * CreditScoreService before the snapshot loader (baseline), method for method. Repository lookups read
+     * the profile and LocalDate.now() is the fixed as-of date; everything else is unchanged.
+     */
+    private static final class LegacyChain {
+
+        static CreditScore score(Profile p, LocalDate today) {
+            int paymentHistoryScore = calculatePaymentHistoryScore(p);
+            int creditUtilizationScore = calculateCreditUtilizationScore(p);
+            int creditHistoryLengthScore = calculateCreditHistoryLengthScore(p, today);
+            int creditMixScore = calculateCreditMixScore(p);
+            int recentInquiriesScore = calculateRecentInquiriesScore(p);
+
+            int totalScore = paymentHistoryScore + creditUtilizationScore +
+                            creditHistoryLengthScore + creditMixScore + recentInquiriesScore;
+            totalScore = Math.max(300, Math.min(900, totalScore));
+
+            CreditScore creditScore = new CreditScore();
+            creditScore.setScore(totalScore);
+            creditScore.setCategory(determineCategory(totalScore));
+
+            creditScore.setPaymentHistoryScore(paymentHistoryScore);
+            creditScore.setCreditUtilizationScore(creditUtilizationScore);
+            creditScore.setCreditHistoryLengthScore(creditHistoryLengthScore);
+            creditScore.setCreditMixScore(creditMixScore);
+            creditScore.setRecentInquiriesScore(recentInquiriesScore);
+
+            creditScore.setOnTimePaymentPercentage(calculateOnTimePaymentPercentage(p));
+            creditScore.setCreditUtilizationRatio(calculateCreditUtilizationRatio(p));
+            creditScore.setOldestAccountAgeMonths(getOldestAccountAgeMonths(p, today));
+            creditScore.setNumberOfActiveAccounts(countActiveAccounts(p));
+            creditScore.setHardInquiriesLast6Months((int) p.hardInquiries());
+
+            if (p.previousScore() != null) {
+                creditScore.setPreviousScore(p.previousScore());
+                creditScore.setScoreChange(totalScore - p.previousScore());
+            }
+            creditScore.setImprovementSuggestions(String.join("; ", generateImprovementSuggestions(creditScore)));
+            return creditScore;
+        }
+
+        private static int calculatePaymentHistoryScore(Profile p) {
+            List<PaymentHistory> payments = p.payments();
+            if (payments.isEmpty()) {
+                return 250;
+            }
+            long onTimePayments = payments.stream().filter(x -> "ON_TIME".equals(x.getStatus())).count();
+            double onTimePercentage = (double) onTimePayments / payments.size() * 100;
+            int score = (int) (315 * (onTimePercentage / 100));
+            long latePayments = payments.stream()
+                .filter(x -> "LATE".equals(x.getStatus()) && x.getDaysLate() != null)
+                .count();
+            long missedPayments = payments.stream().filter(x -> "MISSED".equals(x.getStatus())).count();
+            score -= (int) (latePayments * 15);
+            score -= (int) (missedPayments * 30);
+            return Math.max(0, Math.min(315, score));
+        }
+
+        private static int calculateCreditUtilizationScore(Profile p) {
+            double utilizationRatio = calculateCreditUtilizationRatio(p);
+            if (utilizationRatio < 0) {
+                return 270;
+            }
+            int score;
+            if (utilizationRatio <= 0.30) {
+                score = 270;
+            } else if (utilizationRatio <= 0.50) {
+                score = (int) (270 * (1 - (utilizationRatio - 0.30) / 0.20 * 0.3));
+            } else if (utilizationRatio <= 0.70) {
+                score = (int) (270 * (1 - (utilizationRatio - 0.30) / 0.40 * 0.5));
+            } else {
+                score = (int) (270 * (1 - Math.min(utilizationRatio, 1.0)));
+            }
+            return Math.max(0, Math.min(270, score));
+        }
+
+        private static int calculateCreditHistoryLengthScore(Profile p, LocalDate today) {
+            int ageInMonths = getOldestAccountAgeMonths(p, today);
+            if (ageInMonths == 0) {
+                return 50;
+            }
+            int score = (int) (135 * Math.min(ageInMonths / 120.0, 1.0));
+            return Math.max(0, Math.min(135, score));
+        }
+
+        private static int calculateCreditMixScore(Profile p) {
+            int distinctTypes = countActiveAccounts(p);
+            int score = (int) (90 * Math.min(distinctTypes / 5.0, 1.0));
+            return Math.max(0, Math.min(90, score));
+        }
+
+        private static int calculateRecentInquiriesScore(Profile p) {
+            long hardInquiries = p.hardInquiries();
+            int score = (int) (90 * Math.max(1 - (hardInquiries / 5.0), 0));
+            return Math.max(0, Math.min(90, score));
+        }
+
+        // countTotalPayments / countOnTimePayments
+        private static double calculateOnTimePaymentPercentage(Profile p) {
+            long totalPayments = p.payments().size();
+            if (totalPayments == 0) {
+                return 100.0;
+            }
+            long onTimePayments = p.payments().stream().filter(x -> "ON_TIME".equals(x.getStatus())).count();
+            return (double) onTimePayments / totalPayments * 100;
+        }
+
+        private static double calculateCreditUtilizationRatio(Profile p) {
+            List<Loan> loans = p.loans();
+            double totalOutstanding = loans.stream()
+                .filter(l -> l.getOutstandingAmount() != null)
+                .mapToDouble(Loan::getOutstandingAmount)
+                .sum();
+            double totalCredit = loans.stream()
+                .filter(l -> l.getPrincipalAmount() != null)
+                .mapToDouble(Loan::getPrincipalAmount)
+                .sum();
+            if (totalCredit == 0) {
+                return -1;
+            }
+            return totalOutstanding / totalCredit;
+        }
+
+        private static int getOldestAccountAgeMonths(Profile p, LocalDate today) {
+            LocalDate oldestDate = today;
+            boolean hasAccounts = false;
+            if (!p.loans().isEmpty()) {
+                hasAccounts = true;
+                for (Loan loan : p.loans()) {
+                    if (loan.getApplicationDate() != null && loan.getApplicationDate().isBefore(oldestDate)) {
+                        oldestDate = loan.getApplicationDate();
+                    }
+                }
+            }
+            if (p.accounts() > 0) {
+                hasAccounts = true;
+                oldestDate = oldestDate.minusYears(2);
+            }
+            if (!hasAccounts) {
+                return 0;
+            }
+            return (int) ChronoUnit.MONTHS.between(oldestDate, today);
+        }
+
+        private static int countActiveAccounts(Profile p) {
+            int types = 0;
+            if (p.accounts() > 0) types++;
+            if (!p.loans().isEmpty()) types++;
+            if (p.fixedDeposits()) types++;
+            if (p.recurringDeposits()) types++;
+            if (p.cards()) types++;
+            if (p.insurance()) types++;
+            return types;
+        }
+
+        private static CreditScoreCategory determineCategory(int score) {
+            if (score >= 800) return CreditScoreCategory.EXCELLENT;
+            if (score >= 750) return CreditScoreCategory.VERY_GOOD;
+            if (score >= 650) return CreditScoreCategory.GOOD;
+            if (score >= 550) return CreditScoreCategory.FAIR;
+            return CreditScoreCategory.POOR;
+        }
+
+        private static List<String> generateImprovementSuggestions(CreditScore creditScore) {
+            List<String> suggestions = new ArrayList<>();
+            if (creditScore.getOnTimePaymentPercentage() < 95) {
+                suggestions.add("Pay all bills on time to improve payment history (35% impact)");
+            }
+            if (creditScore.getCreditUtilizationRatio() > 0.30) {
+                suggestions.add("Reduce credit utilization below 30% to boost score (30% impact)");
+            }
+            if (creditScore.getOldestAccountAgeMonths() < 60) {
+                suggestions.add("Keep oldest accounts active to build credit history (15% impact)");
+            }
+            if (creditScore.getNumberOfActiveAccounts() < 3) {
+                suggestions.add("Diversify credit types (accounts, loans, cards) for better credit mix (10% impact)");
+            }
+            if (creditScore.getHardInquiriesLast6Months() > 2) {
+                suggestions.add("Limit new credit applications to reduce hard inquiries (10% impact)");
+            }
+            if (suggestions.isEmpty()) {
+                suggestions.add("Your credit profile is strong! Maintain current practices.");
+            }
+            return suggestions;
+        }
+    }
+
+    private static List<PaymentHistory> payments(String status, int count) {
+        List<PaymentHistory> payments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PaymentHistory p = new PaymentHistory();
+            p.setStatus(status);
+            p.setPaymentDate(AS_OF.minusMonths(i % 24));
+            payments.add(p);
+        }
+        return payments;
+    }
+
+    private static List<PaymentHistory> late(int count, Integer daysLate) {
+        List<PaymentHistory> payments = payments("LATE", count);
+        payments.forEach(p -> p.setDaysLate(daysLate));
+        return payments;
+    }
+
+    @SafeVarargs
+    private static List<PaymentHistory> concat(List<PaymentHistory>... parts) {
+        List<PaymentHistory> all = new ArrayList<>();
+        for (List<PaymentHistory> part : parts) {
+            all.addAll(part);
+        }
+        return all;
+    }
+
+    private static Loan loan(Double principal, Double outstanding, LocalDate applied) {
+        Loan loan = new Loan();
+        loan.setPrincipalAmount(principal);
+        loan.setOutstandingAmount(outstanding);
+        loan.setApplicationDate(applied);
+        return loan;
+    }
+}
@@ -0,0 +1,78 @@
+package com.bank.service;
+
+import com.bank.dto.LoanEmiGridRequest;
+import com.bank.model.RepaymentFrequency;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH time for one {@link LoanService#calculateEmiGrid} call over 100 principals x 10 rates x 10 tenures,
+ * the 10k-cell grid that should come back well under 10 ms. Run with
+ * {@code mvn test -Pbenchmark -Dtest=EmiGridBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmiGridBenchmark {
+
+    @Param({"MONTHLY", "QUARTERLY"})
+    public String frequency;
+
+    private LoanService loanService;
+    private LoanEmiGridRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // The grid reads no repositories
+        loanService = new LoanService();
+
+        double[] principals = new double[100];
+        for (int p = 0; p < principals.length; p++) {
+            principals[p] = 100_000 + p * 50_000;
+        }
+        double[] rates = new double[10];
+        for (int r = 0; r < rates.length; r++) {
+            rates[r] = 6.5 + r * 0.5;
+        }
+        int[] tenures = new int[10];
+        for (int t = 0; t < tenures.length; t++) {
+            tenures[t] = (t + 1) * 36;
+        }
+
+        request = new LoanEmiGridRequest();
+        request.setPrincipalAmounts(principals);
+        request.setInterestRates(rates);
+        request.setTenureMonths(tenures);
+        request.setRepaymentFrequency(RepaymentFrequency.valueOf(frequency));
+    }
+
+    @Benchmark
+    public Object grid() {
+        return loanService.calculateEmiGrid(request);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder().include(EmiGridBenchmark.class.getSimpleName()).build()).run();
+    }
+}
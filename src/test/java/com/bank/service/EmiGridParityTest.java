@@ -0,0 +1,89 @@
+package com.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.dto.LoanEmiCalculationRequest;
+import com.bank.dto.LoanEmiCalculationResponse;
+import com.bank.dto.LoanEmiGridRequest;
+import com.bank.dto.LoanEmiGridResponse;
+import com.bank.model.LoanType;
+import com.bank.model.RepaymentFrequency;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * {@link LoanService#calculateEmiGrid} against one {@link LoanService#calculateEmiDetails} call per cell.
+ * The grid reuses powers across tenures instead of calling Math.pow per cell; every cell must still round to
+ * the same EMI, totals and payment count as the single calculator.
+ */
+class EmiGridParityTest {
+
+    private final LoanService loanService = new LoanService();
+
+    /** Tenures are deliberately unsorted and not all multiples of the payment period. */
+    record Grid(String name, LoanType loanType, RepaymentFrequency frequency, double[] principals, int[] tenures) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    static Stream<Grid> grids() {
+        double[] principals = {1_000.0, 49_999.99, 250_000.0, 1_234_567.89, 9_500_000.0};
+        int[] tenures = {360, 1, 7, 60, 13, 600, 241, 12};
+        List<Grid> grids = new ArrayList<>();
+        for (RepaymentFrequency frequency : RepaymentFrequency.values()) {
+            for (LoanType loanType : List.of(LoanType.PERSONAL, LoanType.HOME, LoanType.GOLD)) {
+                grids.add(new Grid(loanType + " " + frequency, loanType, frequency, principals, tenures));
+            }
+        }
+        return grids.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("grids")
+    void everyCellMatchesTheSingleCalculator(Grid grid) {
+        LoanEmiGridRequest request = new LoanEmiGridRequest();
+        request.setLoanType(grid.loanType());
+        request.setPrincipalAmounts(grid.principals());
+        request.setTenureMonths(grid.tenures());
+        request.setRepaymentFrequency(grid.frequency());
+        LoanEmiGridResponse response = loanService.calculateEmiGrid(request);
+
+        assertThat(response.getInterestRates()).hasSize(1);
+        int cell = 0;
+        for (double principal : grid.principals()) {
+            for (int t = 0; t < grid.tenures().length; t++) {
+                LoanEmiCalculationResponse expected = loanService.calculateEmiDetails(single(grid, principal, grid.tenures()[t]));
+                assertThat(cellOf(response, cell, t)).as("P=%s tenure=%d", principal, grid.tenures()[t])
+                    .usingRecursiveComparison().isEqualTo(expected);
+                cell++;
+            }
+        }
+    }
+
+    private static LoanEmiCalculationRequest single(Grid grid, double principal, int tenureMonths) {
+        LoanEmiCalculationRequest request = new LoanEmiCalculationRequest();
+        request.setLoanType(grid.loanType());
+        request.setPrincipalAmount(principal);
+        request.setTenureMonths(tenureMonths);
+        request.setRepaymentFrequency(grid.frequency());
+        return request;
+    }
+
+    /** A grid cell in the calculator's response shape. */
+    private static LoanEmiCalculationResponse cellOf(LoanEmiGridResponse grid, int cell, int tenure) {
+        double emi = grid.getEmiAmounts()[cell];
+        int payments = grid.getNumberOfPayments()[tenure];
+        LoanEmiCalculationResponse response = new LoanEmiCalculationResponse();
+        response.setEmiAmount(emi);
+        response.setTotalAmount(emi * payments);
+        response.setTotalInterest(grid.getTotalInterest()[cell]);
+        response.setInterestRate(grid.getInterestRates()[0]);
+        response.setNumberOfPayments(payments);
+        return response;
+    }
+}
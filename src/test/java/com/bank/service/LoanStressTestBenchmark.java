@@ -0,0 +1,90 @@
+package com.bank.service;
+
+import com.bank.dto.StressScenario;
+import com.bank.dto.StressTestRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH time for one {@link LoanStressTestService} evaluation: a million-loan book under 50 scenarios,
+ * the portfolio size the stress test is meant to finish in seconds. The book is synthetic and built in
+ * memory, so this measures the fork-join pass over the columns and not the streaming load from MySQL.
+ * Run with {@code mvn test -Pbenchmark -Dtest=LoanStressTestBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class LoanStressTestBenchmark {
+
+    @Param({"1000000"})
+    public int loans;
+
+    @Param({"50"})
+    public int scenarios;
+
+    private LoanStressTestService service;
+    private LoanStressTestService.LoanBook book;
+    private StressTestRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = new LoanStressTestService();
+        SplittableRandom random = new SplittableRandom(42);
+        book = new LoanStressTestService.LoanBook();
+        for (int i = 0; i < loans; i++) {
+            book.add(random.nextDouble(50_000, 5_000_000), random.nextDouble(6.0, 16.0), random.nextInt(1, 361));
+        }
+
+        List<StressScenario> list = new ArrayList<>(scenarios);
+        for (int s = 0; s < scenarios; s++) {
+            StressScenario scenario = new StressScenario();
+            scenario.setName("scenario-" + s);
+            scenario.setRateShockBps(-200.0 + s * 15);
+            scenario.setTenureChangeMonths((s % 5 - 2) * 12);
+            scenario.setDefaultRate(s * 0.002);
+            scenario.setLossGivenDefault(0.45);
+            list.add(scenario);
+        }
+        request = new StressTestRequest();
+        request.setScenarios(list);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return service.evaluate(book, request);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder().include(LoanStressTestBenchmark.class.getSimpleName()).build()).run();
+    }
+}